@@ -0,0 +1,25 @@
+package core.accountserver.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import core.accountserver.generator.HashAccountNumberGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountNumberGeneratorBenchmark {
+
+	private final HashAccountNumberGenerator generator = new HashAccountNumberGenerator();
+
+	@Benchmark
+	public String generator() {
+		return generator.generator(1L);
+	}
+}
@@ -0,0 +1,22 @@
+package core.accountserver.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import core.accountserver.AccountServerApplication;
+
+public final class BenchmarkApplication {
+
+	private BenchmarkApplication() {
+	}
+
+	public static ConfigurableApplicationContext start() {
+		SpringApplication application = new SpringApplication(AccountServerApplication.class);
+		application.setWebApplicationType(WebApplicationType.NONE);
+		return application.run(
+			"--spring.jpa.properties.hibernate.show_sql=false",
+			"--spring.jpa.properties.hibernate.format_sql=false",
+			"--logging.level.root=WARN");
+	}
+}
@@ -0,0 +1,59 @@
+package core.accountserver.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import core.accountserver.ledger.InMemoryLedger;
+import core.accountserver.ledger.LedgerEntry;
+import core.accountserver.ledger.LedgerSnapshotStore;
+import core.accountserver.ledger.TransactionIdCodec;
+import core.accountserver.ledger.WriteAheadLog;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LedgerBenchmark {
+
+	private static final long ACCOUNT_NUMBER = 1234567890L;
+	private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	private Path directory;
+	private WriteAheadLog writeAheadLog;
+	private InMemoryLedger ledger;
+
+	@Setup
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("ledger-benchmark");
+		writeAheadLog = new WriteAheadLog(directory, SEGMENT_SIZE, 0);
+		ledger = new InMemoryLedger(writeAheadLog, new LedgerSnapshotStore(directory.resolve("snapshot"), 1),
+			new TransactionIdCodec("000102030405060708090a0b0c0d0e0f"), 16, 1 << 20);
+		ledger.recover();
+		ledger.open(ACCOUNT_NUMBER, 1L, Long.MAX_VALUE / 2, false);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		writeAheadLog.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Benchmark
+	public LedgerEntry use() {
+		return ledger.use(1L, ACCOUNT_NUMBER, 1L);
+	}
+}
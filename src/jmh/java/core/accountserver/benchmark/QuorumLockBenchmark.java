@@ -0,0 +1,67 @@
+package core.accountserver.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+import core.accountserver.service.LockService;
+import core.accountserver.service.QuorumLockService;
+import redis.embedded.RedisServer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuorumLockBenchmark {
+
+	private static final int[] PORTS = {6401, 6402, 6403};
+
+	private final List<RedisServer> redisServers = new ArrayList<>();
+	private final List<RedissonClient> clients = new ArrayList<>();
+	private LockService singleLockService;
+	private QuorumLockService quorumLockService;
+
+	@Setup
+	public void setUp() {
+		for (int port : PORTS) {
+			RedisServer redisServer = new RedisServer(port);
+			redisServer.start();
+			redisServers.add(redisServer);
+
+			Config config = new Config();
+			config.useSingleServer().setAddress("redis://127.0.0.1:" + port);
+			clients.add(Redisson.create(config));
+		}
+		singleLockService = new LockService(clients.get(0));
+		quorumLockService = new QuorumLockService(clients.get(0), clients, 1000L, 5000L, 50L, 0.01, 20L);
+	}
+
+	@TearDown
+	public void tearDown() {
+		clients.forEach(RedissonClient::shutdown);
+		redisServers.forEach(RedisServer::stop);
+	}
+
+	@Benchmark
+	public void singleNode() {
+		singleLockService.lock("1234567890");
+		singleLockService.unlock("1234567890");
+	}
+
+	@Benchmark
+	public void quorum() {
+		quorumLockService.lock("1234567891");
+		quorumLockService.unlock("1234567891");
+	}
+}
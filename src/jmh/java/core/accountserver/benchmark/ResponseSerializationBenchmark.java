@@ -0,0 +1,47 @@
+package core.accountserver.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import core.accountserver.domain.transaction.TransactionResult;
+import core.accountserver.dto.response.Response;
+import core.accountserver.dto.response.transaction.UseBalanceResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.findAndRegisterModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private final UseBalanceResponse useBalanceResponse = UseBalanceResponse.builder()
+		.accountNumber("1234567890")
+		.transactionResult(TransactionResult.SUCCESS)
+		.transactionId("0123456789abcdef0123456789abcdef")
+		.amount(1000L)
+		.transactedAt(LocalDateTime.now())
+		.build();
+
+	@Benchmark
+	public ResponseEntity<Response> createSuccess() {
+		return Response.createSuccess("성공적으로 거래가 완료 되었습니다.", useBalanceResponse);
+	}
+
+	@Benchmark
+	public byte[] createSuccessAndSerialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(Response.createSuccess("성공적으로 거래가 완료 되었습니다.", useBalanceResponse).getBody());
+	}
+}
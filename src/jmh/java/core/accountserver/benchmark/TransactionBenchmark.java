@@ -0,0 +1,30 @@
+package core.accountserver.benchmark;
+
+import static core.accountserver.domain.account.AccountStatus.*;
+import static core.accountserver.domain.transaction.TransactionType.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.transaction.Transaction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionBenchmark {
+
+	private final Account account = Account.create(new AccountUser(1L, "proro", 1), "1234567890", 10000L, IN_USE);
+
+	@Benchmark
+	public Transaction createSuccessTransaction() {
+		return Transaction.createSuccessTransaction(account, 100L, USE);
+	}
+}
@@ -0,0 +1,46 @@
+package core.accountserver.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import core.accountserver.dto.response.transaction.UseBalanceResponse;
+import core.accountserver.service.AccountService;
+import core.accountserver.service.TransactionService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionServiceBenchmark {
+
+	private ConfigurableApplicationContext context;
+	private TransactionService transactionService;
+	private String accountNumber;
+
+	@Setup
+	public void setUp() {
+		context = BenchmarkApplication.start();
+		transactionService = context.getBean(TransactionService.class);
+		accountNumber = context.getBean(AccountService.class)
+			.createAccount(1L, Long.MAX_VALUE / 2)
+			.getAccountNumber();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public UseBalanceResponse useBalance() {
+		return transactionService.useBalance(1L, accountNumber, 1L);
+	}
+}
@@ -0,0 +1,21 @@
+package core.accountserver.loadtest;
+
+import java.util.SplittableRandom;
+
+public interface AccountSelector {
+
+	int next(SplittableRandom random);
+
+	static AccountSelector of(LoadTestOptions options, int size) {
+		switch (options.getSkew()) {
+			case "uniform":
+				return new UniformAccountSelector(size);
+			case "zipf":
+				return new ZipfAccountSelector(size, options.getZipfExponent());
+			case "hot":
+				return new HotAccountSelector(size, options.getHotRatio());
+			default:
+				throw new IllegalArgumentException("지원하지 않는 skew 입니다: " + options.getSkew());
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package core.accountserver.loadtest;
+
+import java.util.SplittableRandom;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class HotAccountSelector implements AccountSelector {
+
+	private final int size;
+	private final double hotRatio;
+
+	@Override
+	public int next(SplittableRandom random) {
+		if (size == 1 || random.nextDouble() < hotRatio) {
+			return 0;
+		}
+		return 1 + random.nextInt(size - 1);
+	}
+}
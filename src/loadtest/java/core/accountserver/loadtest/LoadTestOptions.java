@@ -0,0 +1,58 @@
+package core.accountserver.loadtest;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LoadTestOptions {
+	private static final String PREFIX = "loadtest.";
+
+	private final int users;
+	private final int accountsPerUser;
+	private final long initialBalance;
+	private final long amount;
+	private final int threads;
+	private final int warmupSeconds;
+	private final int durationSeconds;
+	private final String skew;
+	private final double zipfExponent;
+	private final double hotRatio;
+	private final int usePercent;
+	private final int cancelPercent;
+	private final long seed;
+
+	public static LoadTestOptions fromSystemProperties() {
+		LoadTestOptions options = new LoadTestOptions(
+			Integer.getInteger(PREFIX + "users", 100),
+			Integer.getInteger(PREFIX + "accounts-per-user", 10),
+			Long.getLong(PREFIX + "initial-balance", 1_000_000_000L),
+			Long.getLong(PREFIX + "amount", 10L),
+			Integer.getInteger(PREFIX + "threads", 32),
+			Integer.getInteger(PREFIX + "warmup-seconds", 5),
+			Integer.getInteger(PREFIX + "duration-seconds", 30),
+			System.getProperty(PREFIX + "skew", "uniform"),
+			Double.parseDouble(System.getProperty(PREFIX + "zipf-exponent", "1.0")),
+			Double.parseDouble(System.getProperty(PREFIX + "hot-ratio", "0.9")),
+			Integer.getInteger(PREFIX + "use-percent", 70),
+			Integer.getInteger(PREFIX + "cancel-percent", 10),
+			Long.getLong(PREFIX + "seed", 42L));
+		if (options.usePercent + options.cancelPercent > 100) {
+			throw new IllegalArgumentException("use-percent 와 cancel-percent 의 합은 100 이하여야 합니다.");
+		}
+		return options;
+	}
+
+	public int getGetPercent() {
+		return 100 - usePercent - cancelPercent;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("users=%d, accountsPerUser=%d, threads=%d, warmup=%ds, duration=%ds, skew=%s, "
+				+ "zipfExponent=%.2f, hotRatio=%.2f, mix(use/cancel/get)=%d/%d/%d, seed=%d",
+			users, accountsPerUser, threads, warmupSeconds, durationSeconds, skew, zipfExponent, hotRatio,
+			usePercent, cancelPercent, getGetPercent(), seed);
+	}
+}
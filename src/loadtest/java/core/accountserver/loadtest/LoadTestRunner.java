@@ -0,0 +1,98 @@
+package core.accountserver.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import core.accountserver.AccountServerApplication;
+import core.accountserver.service.AccountService;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadTestRunner {
+
+	private static final long SEED_USER_OFFSET = 1_000_000L;
+
+	public static void main(String[] args) throws InterruptedException {
+		LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+		ConfigurableApplicationContext context = new SpringApplication(AccountServerApplication.class).run(
+			"--server.port=0",
+			"--spring.jpa.properties.hibernate.show_sql=false",
+			"--spring.jpa.properties.hibernate.format_sql=false",
+			"--logging.level.root=WARN");
+		try {
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			List<SeededAccount> accounts = seed(context, options);
+			run(URI.create("http://127.0.0.1:" + port), accounts, options);
+		} finally {
+			context.close();
+		}
+	}
+
+	private static List<SeededAccount> seed(ConfigurableApplicationContext context, LoadTestOptions options) {
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		AccountService accountService = context.getBean(AccountService.class);
+		List<Object[]> users = new ArrayList<>();
+		for (int i = 0; i < options.getUsers(); i++) {
+			users.add(new Object[] {SEED_USER_OFFSET + i, "loadtest-" + i});
+		}
+		jdbcTemplate.batchUpdate("insert into account_user(id, name, account_count, create_at, update_at) "
+			+ "values (?, ?, 0, now(), now())", users);
+
+		List<SeededAccount> accounts = new ArrayList<>();
+		for (int i = 0; i < options.getUsers(); i++) {
+			long userId = SEED_USER_OFFSET + i;
+			for (int j = 0; j < options.getAccountsPerUser(); j++) {
+				String accountNumber = accountService.createAccount(userId, options.getInitialBalance())
+					.getAccountNumber();
+				accounts.add(new SeededAccount(userId, accountNumber));
+			}
+		}
+		log.warn("Seeded {} users and {} accounts", options.getUsers(), accounts.size());
+		return accounts;
+	}
+
+	private static void run(URI baseUri, List<SeededAccount> accounts, LoadTestOptions options)
+		throws InterruptedException {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+		ObjectMapper objectMapper = new ObjectMapper();
+		AccountSelector accountSelector = AccountSelector.of(options, accounts.size());
+		LoadTestStats stats = new LoadTestStats();
+		AtomicBoolean running = new AtomicBoolean(true);
+		SplittableRandom random = new SplittableRandom(options.getSeed());
+
+		ExecutorService executor = Executors.newFixedThreadPool(options.getThreads());
+		for (int i = 0; i < options.getThreads(); i++) {
+			executor.execute(new LoadTestWorker(httpClient, objectMapper, baseUri, accounts, accountSelector, options,
+				stats, random.split(), running));
+		}
+		TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+		stats.reset();
+		long start = System.nanoTime();
+		TimeUnit.SECONDS.sleep(options.getDurationSeconds());
+		running.set(false);
+		double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		executor.shutdown();
+		executor.awaitTermination(30, TimeUnit.SECONDS);
+
+		System.out.println(options);
+		System.out.println(OperationStats.HEADER);
+		stats.all().forEach(operationStats -> System.out.println(operationStats.report(elapsedSeconds)));
+	}
+}
@@ -0,0 +1,20 @@
+package core.accountserver.loadtest;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class LoadTestStats {
+	private final OperationStats use = new OperationStats("use");
+	private final OperationStats cancel = new OperationStats("cancel");
+	private final OperationStats get = new OperationStats("get");
+
+	public List<OperationStats> all() {
+		return List.of(use, cancel, get);
+	}
+
+	public void reset() {
+		all().forEach(OperationStats::reset);
+	}
+}
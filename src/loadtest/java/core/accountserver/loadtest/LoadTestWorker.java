@@ -0,0 +1,113 @@
+package core.accountserver.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LoadTestWorker implements Runnable {
+
+	private static final int MAX_CANCELLABLE = 1024;
+
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper;
+	private final URI baseUri;
+	private final List<SeededAccount> accounts;
+	private final AccountSelector accountSelector;
+	private final LoadTestOptions options;
+	private final LoadTestStats stats;
+	private final SplittableRandom random;
+	private final AtomicBoolean running;
+
+	private final Deque<UsedTransaction> cancellable = new ArrayDeque<>();
+	private String lastTransactionId;
+
+	@Override
+	public void run() {
+		while (running.get()) {
+			int operation = random.nextInt(100);
+			if (operation < options.getUsePercent()) {
+				use();
+			} else if (operation < options.getUsePercent() + options.getCancelPercent() && !cancellable.isEmpty()) {
+				cancel();
+			} else if (lastTransactionId != null) {
+				get();
+			} else {
+				use();
+			}
+		}
+	}
+
+	private void use() {
+		SeededAccount account = accounts.get(accountSelector.next(random));
+		String body = String.format("{\"userId\":%d,\"accountNumber\":\"%s\",\"amount\":%d}",
+			account.getUserId(), account.getAccountNumber(), options.getAmount());
+		JsonNode entity = send(stats.getUse(), post("/transaction/use", body));
+		if (entity != null) {
+			lastTransactionId = entity.path("transactionId").asText();
+			if (cancellable.size() >= MAX_CANCELLABLE) {
+				cancellable.pollFirst();
+			}
+			cancellable.addLast(new UsedTransaction(lastTransactionId, account.getAccountNumber()));
+		}
+	}
+
+	private void cancel() {
+		UsedTransaction transaction = cancellable.pollLast();
+		String body = String.format("{\"transactionId\":\"%s\",\"accountNumber\":\"%s\",\"amount\":%d}",
+			transaction.getTransactionId(), transaction.getAccountNumber(), options.getAmount());
+		send(stats.getCancel(), post("/transaction/cancel", body));
+	}
+
+	private void get() {
+		send(stats.getGet(), HttpRequest.newBuilder(baseUri.resolve("/transaction/" + lastTransactionId))
+			.GET()
+			.build());
+	}
+
+	private HttpRequest post(String path, String body) {
+		return HttpRequest.newBuilder(baseUri.resolve(path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private JsonNode send(OperationStats operationStats, HttpRequest request) {
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			long latency = System.nanoTime() - start;
+			if (response.statusCode() == 200) {
+				operationStats.success(latency);
+				return objectMapper.readTree(response.body()).path("entity");
+			}
+			if (response.statusCode() == 400) {
+				if (objectMapper.readTree(response.body()).path("reasons").has("lock")) {
+					operationStats.lockConflict(latency);
+				} else {
+					operationStats.rejected(latency);
+				}
+				return null;
+			}
+			operationStats.error();
+		} catch (IOException e) {
+			operationStats.error();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running.set(false);
+		}
+		return null;
+	}
+}
@@ -0,0 +1,76 @@
+package core.accountserver.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import lombok.Getter;
+
+public class OperationStats {
+
+	public static final String HEADER = String.format("%-8s %10s %10s %9s %9s %9s %9s %9s %9s %9s %9s %9s %9s",
+		"op", "count", "ops/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)", "success", "rejected",
+		"lock", "error", "lock%");
+	private static final String ROW_FORMAT = "%-8s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9d %9d %9d %9d %8.2f%%";
+	private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	@Getter
+	private final String operation;
+	private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+	private final LongAdder success = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder lockConflict = new LongAdder();
+	private final LongAdder error = new LongAdder();
+
+	public OperationStats(String operation) {
+		this.operation = operation;
+	}
+
+	public void success(long latencyNanos) {
+		record(latencyNanos);
+		success.increment();
+	}
+
+	public void rejected(long latencyNanos) {
+		record(latencyNanos);
+		rejected.increment();
+	}
+
+	public void lockConflict(long latencyNanos) {
+		record(latencyNanos);
+		lockConflict.increment();
+	}
+
+	public void error() {
+		error.increment();
+	}
+
+	public void reset() {
+		recorder.reset();
+		success.reset();
+		rejected.reset();
+		lockConflict.reset();
+		error.reset();
+	}
+
+	public String report(double elapsedSeconds) {
+		Histogram histogram = recorder.getIntervalHistogram();
+		long completed = success.sum() + rejected.sum() + lockConflict.sum();
+		return String.format(ROW_FORMAT,
+			operation, completed, completed / elapsedSeconds,
+			millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+			millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+			millis(histogram.getMaxValue()), success.sum(), rejected.sum(), lockConflict.sum(),
+			error.sum(), completed == 0 ? 0.0 : lockConflict.sum() * 100.0 / completed);
+	}
+
+	private void record(long latencyNanos) {
+		recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
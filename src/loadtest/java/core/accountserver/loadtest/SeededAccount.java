@@ -0,0 +1,11 @@
+package core.accountserver.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SeededAccount {
+	private final long userId;
+	private final String accountNumber;
+}
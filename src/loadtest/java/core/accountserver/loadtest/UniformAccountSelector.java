@@ -0,0 +1,16 @@
+package core.accountserver.loadtest;
+
+import java.util.SplittableRandom;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UniformAccountSelector implements AccountSelector {
+
+	private final int size;
+
+	@Override
+	public int next(SplittableRandom random) {
+		return random.nextInt(size);
+	}
+}
@@ -0,0 +1,11 @@
+package core.accountserver.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UsedTransaction {
+	private final String transactionId;
+	private final String accountNumber;
+}
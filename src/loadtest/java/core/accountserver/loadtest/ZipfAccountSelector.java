@@ -0,0 +1,28 @@
+package core.accountserver.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class ZipfAccountSelector implements AccountSelector {
+
+	private final double[] cumulative;
+
+	public ZipfAccountSelector(int size, double exponent) {
+		cumulative = new double[size];
+		double sum = 0;
+		for (int rank = 0; rank < size; rank++) {
+			sum += 1.0 / Math.pow(rank + 1, exponent);
+			cumulative[rank] = sum;
+		}
+		for (int rank = 0; rank < size; rank++) {
+			cumulative[rank] /= sum;
+		}
+	}
+
+	@Override
+	public int next(SplittableRandom random) {
+		int index = Arrays.binarySearch(cumulative, random.nextDouble());
+		int rank = index >= 0 ? index : -index - 1;
+		return Math.min(rank, cumulative.length - 1);
+	}
+}
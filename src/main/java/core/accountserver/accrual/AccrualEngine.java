@@ -0,0 +1,404 @@
+package core.accountserver.accrual;
+
+import static core.accountserver.domain.transaction.TransactionType.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.transaction.TransactionType;
+import core.accountserver.etag.AccountVersions;
+import core.accountserver.exception.RedisClientException;
+import core.accountserver.exception.account.AccountExceedBalanceException;
+import core.accountserver.exception.accrual.AccrualRunConflictException;
+import core.accountserver.exception.transaction.TransactionHasLockException;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.service.LockService;
+import core.accountserver.stream.BalanceChangeEvent;
+import core.accountserver.stream.BalanceEventRelay;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AccrualEngine {
+
+	private static final String RUN_LOCK_PREFIX = "accrual:";
+	private static final long LOCK_BUDGET_MILLIS = 3_000;
+	private static final long RETRY_DELAY_MILLIS = 50;
+	private static final String SELECT_RUN_TYPES = "select distinct transaction_type from accrual_checkpoint "
+		+ "where run_id = ?";
+	private static final String SELECT_PROGRESS = "select count(*), "
+		+ "coalesce(sum(case when last_account_id >= partition_end then 1 else 0 end), 0) "
+		+ "from accrual_checkpoint where run_id = ?";
+	private static final String SELECT_PARTITIONS = "select partition_start, partition_end, last_account_id "
+		+ "from accrual_checkpoint where run_id = ? and last_account_id < partition_end order by partition_start";
+	private static final String INSERT_CHECKPOINT = "insert into accrual_checkpoint"
+		+ "(id, run_id, transaction_type, partition_start, partition_end, last_account_id) "
+		+ "values (next value for hibernate_sequence, ?, ?, ?, ?, ?)";
+	private static final String UPDATE_CHECKPOINT = "update accrual_checkpoint set last_account_id = ? "
+		+ "where run_id = ? and partition_start = ? and last_account_id = ?";
+	private static final String SELECT_CANDIDATES = "select id, account_number, "
+		+ "case when exists (select 1 from account_balance_slot s where s.account_id = a.id) then 1 else 0 end "
+		+ "from account a where id > ? and id <= ? and account_status = 'IN_USE' order by id limit ?";
+	private static final String SELECT_BALANCES = "select id, account_user_id, balance from account "
+		+ "where id in (:ids) and account_status = 'IN_USE'";
+	private static final String UPDATE_BALANCE = "update account set balance = balance + ?, update_at = ? where id = ?";
+	private static final String INSERT_TRANSACTION = "insert into transaction"
+		+ "(id, account_id, transaction_type, transaction_result, amount, balance_snapshot, transaction_id, "
+		+ "transacted_at, create_at, update_at) "
+		+ "values (next value for hibernate_sequence, ?, ?, 'SUCCESS', ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final LockService lockService;
+	private final RedissonClient redissonClient;
+	private final AccountVersions accountVersions;
+	private final BalanceEventRelay balanceEventRelay;
+	private final SplitBalances splitBalances;
+	private final AccrualOptions options;
+	private final ExecutorService runner = Executors.newSingleThreadExecutor();
+
+	public AccrualEngine(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+		LockService lockService, RedissonClient redissonClient, AccountVersions accountVersions,
+		BalanceEventRelay balanceEventRelay, SplitBalances splitBalances, AccrualOptions options) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.lockService = lockService;
+		this.redissonClient = redissonClient;
+		this.accountVersions = accountVersions;
+		this.balanceEventRelay = balanceEventRelay;
+		this.splitBalances = splitBalances;
+		this.options = options;
+	}
+
+	public CompletableFuture<AccrualResult> start(String runId, TransactionType transactionType) {
+		validType(runId, transactionType);
+		if (redissonClient.getLock(RUN_LOCK_PREFIX + runId).isLocked()) {
+			throw new AccrualRunConflictException("이미 실행중인 일괄 처리입니다.");
+		}
+		return CompletableFuture.supplyAsync(() -> run(runId, transactionType), runner)
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					log.error("Accrual {} failed", runId, e);
+				}
+			});
+	}
+
+	public AccrualProgress progress(String runId) {
+		return jdbcTemplate.queryForObject(SELECT_PROGRESS,
+			(rs, rowNum) -> new AccrualProgress(runId, rs.getInt(1), rs.getInt(2)), runId);
+	}
+
+	public void shutdown() {
+		runner.shutdown();
+	}
+
+	public AccrualResult run(String runId, TransactionType transactionType) {
+		validType(runId, transactionType);
+		RLock runLock = redissonClient.getLock(RUN_LOCK_PREFIX + runId);
+		if (!runLock.tryLock()) {
+			throw new AccrualRunConflictException("이미 실행중인 일괄 처리입니다.");
+		}
+		try {
+			return runLocked(runId, transactionType);
+		} finally {
+			runLock.unlock();
+		}
+	}
+
+	private void validType(String runId, TransactionType transactionType) {
+		if (transactionType != INTEREST && transactionType != FEE) {
+			throw new IllegalArgumentException("Unsupported accrual type: " + transactionType);
+		}
+		List<String> types = jdbcTemplate.queryForList(SELECT_RUN_TYPES, String.class, runId);
+		if (!types.isEmpty() && !types.equals(List.of(transactionType.name()))) {
+			throw new AccrualRunConflictException("다른 유형으로 시작된 실행 아이디입니다.");
+		}
+	}
+
+	private AccrualResult runLocked(String runId, TransactionType transactionType) {
+		long startedAt = System.currentTimeMillis();
+		Run run = new Run(runId, transactionType);
+		List<Partition> partitions = partitions(run);
+		AtomicLong accounts = new AtomicLong();
+		AtomicLong transactions = new AtomicLong();
+		ForkJoinPool pool = new ForkJoinPool(options.getParallelism());
+		try {
+			pool.invoke(new PartitionTask(run, partitions, accounts, transactions));
+		} finally {
+			pool.shutdown();
+		}
+		long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+		AccrualResult result = new AccrualResult(runId, partitions.size(), accounts.get(),
+			transactions.get(), elapsedMillis, accounts.get() * 1000.0 / elapsedMillis);
+		log.info("Accrual {} processed {} accounts, {} transactions in {} ms ({} accounts/s)", result.getRunId(),
+			result.getAccounts(), result.getTransactions(), result.getElapsedMillis(),
+			String.format("%.1f", result.getAccountsPerSecond()));
+		return result;
+	}
+
+	private List<Partition> partitions(Run run) {
+		transactionTemplate.executeWithoutResult(status -> {
+			Integer started = jdbcTemplate.queryForObject("select count(*) from accrual_checkpoint where run_id = ?",
+				Integer.class, run.runId);
+			if (started != null && started > 0) {
+				return;
+			}
+			Long maxId = jdbcTemplate.queryForObject("select max(id) from account", Long.class);
+			List<Object[]> checkpoints = new ArrayList<>();
+			for (long start = 0; maxId != null && start < maxId; start += options.getPartitionSize()) {
+				long end = Math.min(start + options.getPartitionSize(), maxId);
+				checkpoints.add(new Object[] {run.runId, run.transactionType.name(), start, end, start});
+			}
+			jdbcTemplate.batchUpdate(INSERT_CHECKPOINT, checkpoints);
+		});
+		return jdbcTemplate.query(SELECT_PARTITIONS, (rs, rowNum) -> new Partition(rs.getLong(1), rs.getLong(2),
+			rs.getLong(3)), run.runId);
+	}
+
+	private void process(Run run, Partition partition, AtomicLong accounts, AtomicLong transactions) {
+		long lastAccountId = partition.lastAccountId;
+		while (lastAccountId < partition.end) {
+			List<Candidate> candidates = jdbcTemplate.query(SELECT_CANDIDATES,
+				(rs, rowNum) -> new Candidate(rs.getLong(1), rs.getString(2), rs.getInt(3) == 1), lastAccountId,
+				partition.end, options.getChunkSize());
+			long chunkEnd = candidates.size() < options.getChunkSize()
+				? partition.end : candidates.get(candidates.size() - 1).id;
+			if (splitBalances == null) {
+				candidates.removeIf(candidate -> candidate.split);
+			}
+			Set<Long> users = applyWithRetry(run, partition, candidates, lastAccountId, chunkEnd, transactions);
+			accounts.addAndGet(candidates.size());
+			if (accountVersions != null) {
+				users.forEach(accountVersions::bump);
+			}
+			lastAccountId = chunkEnd;
+		}
+	}
+
+	private Set<Long> applyWithRetry(Run run, Partition partition, List<Candidate> candidates,
+		long chunkStart, long chunkEnd, AtomicLong transactions) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return applyLocked(run, partition, candidates, chunkStart, chunkEnd, transactions);
+			} catch (TransactionHasLockException e) {
+				if (attempt >= options.getLockRetries()) {
+					throw e;
+				}
+				log.debug("Accrual chunk ending at {} is busy, retrying ({}/{})", chunkEnd, attempt,
+					options.getLockRetries());
+				pause(attempt);
+			}
+		}
+	}
+
+	private Set<Long> applyLocked(Run run, Partition partition, List<Candidate> candidates,
+		long chunkStart, long chunkEnd, AtomicLong transactions) {
+		List<String> locked = new ArrayList<>(candidates.size());
+		List<BalanceChangeEvent> events = new ArrayList<>(candidates.size());
+		try {
+			long lockedAt = System.currentTimeMillis();
+			for (Candidate candidate : candidates) {
+				if (candidate.split) {
+					continue;
+				}
+				if (!lockService.tryLock(candidate.accountNumber)) {
+					throw new TransactionHasLockException("해당 계좌는 사용중입니다.");
+				}
+				locked.add(candidate.accountNumber);
+			}
+			Set<Long> users = transactionTemplate.execute(
+				status -> apply(run, partition, candidates, chunkStart, chunkEnd, lockedAt, transactions, events));
+			if (balanceEventRelay != null) {
+				events.forEach(balanceEventRelay::publish);
+			}
+			return users;
+		} finally {
+			locked.forEach(lockService::unlock);
+		}
+	}
+
+	private void pause(int attempt) {
+		try {
+			Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RedisClientException(e);
+		}
+	}
+
+	private Set<Long> apply(Run run, Partition partition, List<Candidate> candidates, long chunkStart,
+		long chunkEnd, long lockedAt, AtomicLong transactions, List<BalanceChangeEvent> events) {
+		Set<Long> users = new HashSet<>();
+		int inserted = 0;
+		if (!candidates.isEmpty()) {
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			List<Object[]> inserts = new ArrayList<>(candidates.size());
+			for (Candidate candidate : candidates) {
+				if (candidate.split) {
+					applySplit(run, candidate, now, inserts, users, events);
+				}
+			}
+			Map<Long, String> accountNumbers = candidates.stream()
+				.filter(candidate -> !candidate.split)
+				.collect(Collectors.toMap(candidate -> candidate.id, candidate -> candidate.accountNumber));
+			List<Long> ids = new ArrayList<>(accountNumbers.keySet());
+			List<Map<String, Object>> rows = ids.isEmpty() ? List.of()
+				: namedParameterJdbcTemplate.queryForList(SELECT_BALANCES, new MapSqlParameterSource("ids", ids));
+			List<Object[]> balanceUpdates = new ArrayList<>(rows.size());
+			for (Map<String, Object> row : rows) {
+				long accountId = ((Number)row.get("id")).longValue();
+				long balance = ((Number)row.get("balance")).longValue();
+				long amount = amount(run.transactionType, balance);
+				if (amount <= 0) {
+					continue;
+				}
+				long delta = run.transactionType == INTEREST ? amount : -amount;
+				long userId = ((Number)row.get("account_user_id")).longValue();
+				String transactionId = UUID.randomUUID().toString().replace("-", "");
+				balanceUpdates.add(new Object[] {delta, now, accountId});
+				inserts.add(new Object[] {accountId, run.transactionType.name(), amount, balance + delta,
+					transactionId, now, now, now});
+				events.add(BalanceChangeEvent.builder()
+					.userId(userId)
+					.accountNumber(accountNumbers.get(accountId))
+					.transactionId(transactionId)
+					.transactionType(run.transactionType)
+					.amount(amount)
+					.balance(balance + delta)
+					.transactedAt(now.toLocalDateTime())
+					.build());
+				users.add(userId);
+			}
+			jdbcTemplate.batchUpdate(UPDATE_BALANCE, balanceUpdates);
+			jdbcTemplate.batchUpdate(INSERT_TRANSACTION, inserts);
+			inserted = inserts.size();
+		}
+		if (System.currentTimeMillis() - lockedAt > LOCK_BUDGET_MILLIS) {
+			throw new TransactionHasLockException("계좌 락 유지 시간을 초과했습니다.");
+		}
+		if (jdbcTemplate.update(UPDATE_CHECKPOINT, chunkEnd, run.runId, partition.start, chunkStart) == 0) {
+			throw new AccrualRunConflictException("다른 실행이 같은 파티션을 먼저 처리했습니다.");
+		}
+		transactions.addAndGet(inserted);
+		return users;
+	}
+
+	private void applySplit(Run run, Candidate candidate, Timestamp now, List<Object[]> inserts, Set<Long> users,
+		List<BalanceChangeEvent> events) {
+		Account account = splitBalances.findAccount(candidate.accountNumber);
+		long amount = amount(run.transactionType, splitBalances.total(account));
+		if (amount <= 0) {
+			return;
+		}
+		long balance;
+		try {
+			balance = run.transactionType == INTEREST
+				? splitBalances.credit(account, amount) : splitBalances.debit(account, amount);
+		} catch (AccountExceedBalanceException e) {
+			return;
+		}
+		long userId = account.getAccountUser().getId();
+		String transactionId = UUID.randomUUID().toString().replace("-", "");
+		inserts.add(new Object[] {account.getId(), run.transactionType.name(), amount, balance, transactionId, now,
+			now, now});
+		events.add(BalanceChangeEvent.builder()
+			.userId(userId)
+			.accountNumber(candidate.accountNumber)
+			.transactionId(transactionId)
+			.transactionType(run.transactionType)
+			.amount(amount)
+			.balance(balance)
+			.transactedAt(now.toLocalDateTime())
+			.build());
+		users.add(userId);
+	}
+
+	private long amount(TransactionType transactionType, long balance) {
+		if (transactionType == INTEREST) {
+			return balance * options.getInterestBasisPoints() / 10_000;
+		}
+		return balance >= options.getFee() ? options.getFee() : 0;
+	}
+
+	private class PartitionTask extends RecursiveAction {
+		private final Run run;
+		private final List<Partition> partitions;
+		private final AtomicLong accounts;
+		private final AtomicLong transactions;
+
+		PartitionTask(Run run, List<Partition> partitions, AtomicLong accounts, AtomicLong transactions) {
+			this.run = run;
+			this.partitions = partitions;
+			this.accounts = accounts;
+			this.transactions = transactions;
+		}
+
+		@Override
+		protected void compute() {
+			if (partitions.size() <= 1) {
+				partitions.forEach(partition -> process(run, partition, accounts, transactions));
+				return;
+			}
+			int middle = partitions.size() / 2;
+			invokeAll(new PartitionTask(run, partitions.subList(0, middle), accounts, transactions),
+				new PartitionTask(run, partitions.subList(middle, partitions.size()), accounts, transactions));
+		}
+	}
+
+	private static class Run {
+		private final String runId;
+		private final TransactionType transactionType;
+
+		Run(String runId, TransactionType transactionType) {
+			this.runId = runId;
+			this.transactionType = transactionType;
+		}
+	}
+
+	private static class Partition {
+		private final long start;
+		private final long end;
+		private final long lastAccountId;
+
+		Partition(long start, long end, long lastAccountId) {
+			this.start = start;
+			this.end = end;
+			this.lastAccountId = lastAccountId;
+		}
+	}
+
+	private static class Candidate {
+		private final long id;
+		private final String accountNumber;
+		private final boolean split;
+
+		Candidate(long id, String accountNumber, boolean split) {
+			this.id = id;
+			this.accountNumber = accountNumber;
+			this.split = split;
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package core.accountserver.accrual;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AccrualOptions {
+	private final long interestBasisPoints;
+	private final long fee;
+	private final long partitionSize;
+	private final int chunkSize;
+	private final int parallelism;
+	private final int lockRetries;
+}
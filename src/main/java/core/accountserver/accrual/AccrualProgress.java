@@ -0,0 +1,12 @@
+package core.accountserver.accrual;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccrualProgress {
+	private final String runId;
+	private final int partitions;
+	private final int completedPartitions;
+}
@@ -0,0 +1,15 @@
+package core.accountserver.accrual;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccrualResult {
+	private final String runId;
+	private final int partitions;
+	private final long accounts;
+	private final long transactions;
+	private final long elapsedMillis;
+	private final double accountsPerSecond;
+}
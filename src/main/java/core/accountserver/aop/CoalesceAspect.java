@@ -0,0 +1,97 @@
+package core.accountserver.aop;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import core.accountserver.datasource.ReadYourWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CoalesceAspect {
+
+	public static final String COALESCED = "account.request.coalesced";
+
+	private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final Map<Method, Counter> sharedCounters = new ConcurrentHashMap<>();
+	private final Map<Method, Counter> timeoutCounters = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	private final ReadYourWrites readYourWrites;
+
+	@Autowired
+	public CoalesceAspect(MeterRegistry meterRegistry, ObjectProvider<ReadYourWrites> readYourWrites) {
+		this(meterRegistry, readYourWrites.getIfAvailable());
+	}
+
+	CoalesceAspect(MeterRegistry meterRegistry, ReadYourWrites readYourWrites) {
+		this.meterRegistry = meterRegistry;
+		this.readYourWrites = readYourWrites;
+	}
+
+	@Around("@annotation(coalesce)")
+	public Object aroundRead(ProceedingJoinPoint pjp, Coalesce coalesce) throws Throwable {
+		if (readYourWrites != null && readYourWrites.isSticky()) {
+			return pjp.proceed();
+		}
+		Method method = ((MethodSignature)pjp.getSignature()).getMethod();
+		FlightKey key = new FlightKey(method, pjp.getArgs());
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+		if (leader == null) {
+			try {
+				Object result = pjp.proceed();
+				flight.complete(result);
+				return result;
+			} catch (Throwable e) {
+				flight.completeExceptionally(e);
+				throw e;
+			} finally {
+				inFlight.remove(key, flight);
+			}
+		}
+		try {
+			Object result = leader.get(coalesce.timeoutMillis(), TimeUnit.MILLISECONDS);
+			counter(sharedCounters, method, "shared").increment();
+			return result;
+		} catch (ExecutionException e) {
+			counter(sharedCounters, method, "shared").increment();
+			throw e.getCause();
+		} catch (TimeoutException e) {
+			counter(timeoutCounters, method, "timeout").increment();
+			return pjp.proceed();
+		}
+	}
+
+	private Counter counter(Map<Method, Counter> counters, Method method, String result) {
+		return counters.computeIfAbsent(method, key -> Counter.builder(COALESCED)
+			.tag("method", key.getDeclaringClass().getSimpleName() + "." + key.getName())
+			.tag("result", result)
+			.register(meterRegistry));
+	}
+
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static final class FlightKey {
+		private final Method method;
+		private final Object[] args;
+	}
+}
@@ -0,0 +1,115 @@
+package core.accountserver.circuit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CircuitBreaker {
+
+	private final String name;
+	private final CircuitBreakerOptions options;
+	private final LongSupplier clock;
+	private final long slowCallNanos;
+
+	private final boolean[] failures;
+	private final boolean[] slowCalls;
+	private int recorded;
+	private int cursor;
+	private int failureCount;
+	private int slowCallCount;
+
+	private volatile CircuitState state = CircuitState.CLOSED;
+	private long openedAt;
+	private int probes;
+	private int probeSuccesses;
+
+	public CircuitBreaker(String name, CircuitBreakerOptions options) {
+		this(name, options, System::currentTimeMillis);
+	}
+
+	public CircuitBreaker(String name, CircuitBreakerOptions options, LongSupplier clock) {
+		this.name = name;
+		this.options = options;
+		this.clock = clock;
+		this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(options.getSlowCallMillis());
+		this.failures = new boolean[options.getWindowSize()];
+		this.slowCalls = new boolean[options.getWindowSize()];
+	}
+
+	public synchronized boolean tryAcquirePermission() {
+		if (state == CircuitState.OPEN) {
+			if (clock.getAsLong() - openedAt < options.getOpenMillis()) {
+				return false;
+			}
+			transition(CircuitState.HALF_OPEN);
+		}
+		if (state == CircuitState.HALF_OPEN) {
+			if (probes >= options.getHalfOpenCalls()) {
+				return false;
+			}
+			probes++;
+		}
+		return true;
+	}
+
+	public void onSuccess(long nanos) {
+		record(false, nanos >= slowCallNanos);
+	}
+
+	public void onError(long nanos) {
+		record(true, nanos >= slowCallNanos);
+	}
+
+	public CircuitState getState() {
+		return state;
+	}
+
+	private synchronized void record(boolean failure, boolean slow) {
+		if (state == CircuitState.HALF_OPEN) {
+			if (failure || slow) {
+				open();
+			} else if (++probeSuccesses >= options.getHalfOpenCalls()) {
+				transition(CircuitState.CLOSED);
+			}
+			return;
+		}
+		if (state == CircuitState.OPEN) {
+			return;
+		}
+		if (recorded == failures.length) {
+			failureCount -= failures[cursor] ? 1 : 0;
+			slowCallCount -= slowCalls[cursor] ? 1 : 0;
+		} else {
+			recorded++;
+		}
+		failures[cursor] = failure;
+		slowCalls[cursor] = slow;
+		failureCount += failure ? 1 : 0;
+		slowCallCount += slow ? 1 : 0;
+		cursor = (cursor + 1) % failures.length;
+
+		if (recorded >= options.getMinimumCalls()
+			&& ((double)failureCount / recorded >= options.getFailureRateThreshold()
+			|| (double)slowCallCount / recorded >= options.getSlowCallRateThreshold())) {
+			open();
+		}
+	}
+
+	private void open() {
+		openedAt = clock.getAsLong();
+		transition(CircuitState.OPEN);
+	}
+
+	private void transition(CircuitState next) {
+		log.warn("Circuit {} moved from {} to {}", name, state, next);
+		state = next;
+		probes = 0;
+		probeSuccesses = 0;
+		recorded = 0;
+		cursor = 0;
+		failureCount = 0;
+		slowCallCount = 0;
+	}
+}
@@ -0,0 +1,16 @@
+package core.accountserver.circuit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CircuitBreakerOptions {
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final double slowCallRateThreshold;
+	private final long slowCallMillis;
+	private final long openMillis;
+	private final int halfOpenCalls;
+}
@@ -0,0 +1,5 @@
+package core.accountserver.circuit;
+
+public enum CircuitState {
+	CLOSED, OPEN, HALF_OPEN
+}
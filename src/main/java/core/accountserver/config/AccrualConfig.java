@@ -0,0 +1,67 @@
+package core.accountserver.config;
+
+import javax.annotation.PostConstruct;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import core.accountserver.accrual.AccrualEngine;
+import core.accountserver.accrual.AccrualOptions;
+import core.accountserver.etag.AccountVersions;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.service.LockService;
+import core.accountserver.stream.BalanceEventRelay;
+
+@Configuration
+@ConditionalOnProperty(prefix = "accrual", name = "enabled", havingValue = "true")
+public class AccrualConfig {
+	@Value("${accrual.interest-basis-points}")
+	private long interestBasisPoints;
+
+	@Value("${accrual.fee}")
+	private long fee;
+
+	@Value("${accrual.partition-size}")
+	private long partitionSize;
+
+	@Value("${accrual.chunk-size}")
+	private int chunkSize;
+
+	@Value("${accrual.parallelism}")
+	private int parallelism;
+
+	@Value("${accrual.lock-retries}")
+	private int lockRetries;
+
+	@Value("${ledger.enabled}")
+	private boolean ledgerEnabled;
+
+	@PostConstruct
+	public void rejectLedger() {
+		if (ledgerEnabled) {
+			throw new IllegalStateException("원장 모드에서는 accrual 기능을 사용할 수 없습니다.");
+		}
+	}
+
+	@Bean
+	public AccrualEngine accrualEngine(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+		LockService lockService, RedissonClient redissonClient, ObjectProvider<AccountVersions> accountVersions,
+		ObjectProvider<BalanceEventRelay> balanceEventRelay, ObjectProvider<SplitBalances> splitBalances) {
+		return new AccrualEngine(jdbcTemplate, transactionManager, lockService, redissonClient,
+			accountVersions.getIfAvailable(), balanceEventRelay.getIfAvailable(), splitBalances.getIfAvailable(),
+			AccrualOptions.builder()
+				.interestBasisPoints(interestBasisPoints)
+				.fee(fee)
+				.partitionSize(partitionSize)
+				.chunkSize(chunkSize)
+				.parallelism(parallelism)
+				.lockRetries(lockRetries)
+				.build());
+	}
+}
@@ -0,0 +1,56 @@
+package core.accountserver.config;
+
+import java.util.concurrent.Executors;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import core.accountserver.stream.BalanceEventRelay;
+import core.accountserver.stream.BalanceStreamHub;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "balance-stream", name = "enabled", havingValue = "true")
+public class BalanceStreamConfig {
+	@Value("${balance-stream.topic}")
+	private String topic;
+
+	@Value("${balance-stream.max-connections}")
+	private int maxConnections;
+
+	@Value("${balance-stream.queue-capacity}")
+	private int queueCapacity;
+
+	@Value("${balance-stream.timeout-ms}")
+	private long timeoutMillis;
+
+	@Value("${balance-stream.write-timeout-ms}")
+	private long writeTimeoutMillis;
+
+	@Value("${balance-stream.sender-threads}")
+	private int senderThreads;
+
+	@Bean(destroyMethod = "close")
+	public BalanceStreamHub balanceStreamHub(MeterRegistry meterRegistry) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("balance-stream-");
+		threadFactory.setDaemon(true);
+		BalanceStreamHub hub = new BalanceStreamHub(maxConnections, queueCapacity, timeoutMillis, writeTimeoutMillis,
+			Executors.newFixedThreadPool(senderThreads, threadFactory));
+		Gauge.builder("account.stream.connections", hub, BalanceStreamHub::connections)
+			.register(meterRegistry);
+		return hub;
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public BalanceEventRelay balanceEventRelay(RedissonClient redissonClient, ObjectMapper objectMapper,
+		BalanceStreamHub balanceStreamHub) {
+		return new BalanceEventRelay(redissonClient, topic, objectMapper, balanceStreamHub);
+	}
+}
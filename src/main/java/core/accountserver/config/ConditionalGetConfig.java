@@ -0,0 +1,32 @@
+package core.accountserver.config;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import core.accountserver.etag.AccountVersions;
+import core.accountserver.etag.ConditionalGetInterceptor;
+
+@Configuration
+@ConditionalOnProperty(prefix = "conditional-get", name = "enabled", havingValue = "true")
+public class ConditionalGetConfig {
+
+	@Bean
+	public AccountVersions accountVersions(RedissonClient redissonClient) {
+		return new AccountVersions(redissonClient);
+	}
+
+	@Bean
+	public WebMvcConfigurer conditionalGetConfigurer(AccountVersions accountVersions) {
+		return new WebMvcConfigurer() {
+			@Override
+			public void addInterceptors(InterceptorRegistry registry) {
+				registry.addInterceptor(new ConditionalGetInterceptor(accountVersions))
+					.addPathPatterns("/account", "/transaction/*");
+			}
+		};
+	}
+}
@@ -0,0 +1,69 @@
+package core.accountserver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import core.accountserver.generator.AccountNumberGenerator;
+import core.accountserver.hot.HotAccountRegistry;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.metrics.RequestMetrics;
+import core.accountserver.repository.AccountBalanceSlotRepository;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+import core.accountserver.service.LockService;
+import core.accountserver.service.SplitBalanceAccountService;
+import core.accountserver.service.SplitBalanceHoldService;
+import core.accountserver.service.SplitBalanceTransactionService;
+
+@Configuration
+@ConditionalOnProperty(prefix = "hot-account", name = "enabled", havingValue = "true")
+public class HotAccountConfig {
+	@Value("${hot-account.slots}")
+	private int slots;
+
+	@Value("${hot-account.low-watermark}")
+	private double lowWatermark;
+
+	@Bean
+	public SplitBalances splitBalances(AccountRepository accountRepository,
+		AccountBalanceSlotRepository accountBalanceSlotRepository, LockService lockService,
+		HotAccountRegistry hotAccountRegistry, PlatformTransactionManager transactionManager) {
+		SplitBalances splitBalances = new SplitBalances(accountRepository, accountBalanceSlotRepository, lockService,
+			hotAccountRegistry, transactionManager, slots, lowWatermark);
+		splitBalances.refresh();
+		return splitBalances;
+	}
+
+	@Bean
+	@Primary
+	public SplitBalanceAccountService splitBalanceAccountService(AccountRepository accountRepository,
+		AccountUserRepository accountUserRepository, AccountNumberGenerator accountNumberGenerator,
+		SplitBalances splitBalances) {
+		return new SplitBalanceAccountService(accountRepository, accountUserRepository, accountNumberGenerator,
+			splitBalances);
+	}
+
+	@Bean
+	@Primary
+	public SplitBalanceTransactionService splitBalanceTransactionService(TransactionRepository transactionRepository,
+		AccountUserRepository accountUserRepository, AccountRepository accountRepository, RequestMetrics requestMetrics,
+		SplitBalances splitBalances) {
+		return new SplitBalanceTransactionService(transactionRepository, accountUserRepository, accountRepository,
+			requestMetrics, splitBalances);
+	}
+
+	@Bean
+	@Primary
+	public SplitBalanceHoldService splitBalanceHoldService(BalanceHoldRepository balanceHoldRepository,
+		AccountRepository accountRepository, AccountUserRepository accountUserRepository,
+		TransactionRepository transactionRepository, SplitBalances splitBalances) {
+		return new SplitBalanceHoldService(balanceHoldRepository, accountRepository, accountUserRepository,
+			transactionRepository, splitBalances);
+	}
+}
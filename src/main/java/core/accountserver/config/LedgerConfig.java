@@ -0,0 +1,100 @@
+package core.accountserver.config;
+
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import core.accountserver.etag.AccountVersions;
+import core.accountserver.generator.AccountNumberGenerator;
+import core.accountserver.ledger.InMemoryLedger;
+import core.accountserver.ledger.LedgerSnapshotStore;
+import core.accountserver.ledger.TransactionIdCodec;
+import core.accountserver.ledger.WriteAheadLog;
+import core.accountserver.metrics.RequestMetrics;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+import core.accountserver.service.LedgerAccountService;
+import core.accountserver.service.LedgerBalanceHoldService;
+import core.accountserver.service.LedgerTransactionService;
+
+@Configuration
+@ConditionalOnProperty(prefix = "ledger", name = "enabled", havingValue = "true")
+public class LedgerConfig {
+	@Value("${ledger.wal.directory}")
+	private String walDirectory;
+
+	@Value("${ledger.wal.segment-size}")
+	private int segmentSize;
+
+	@Value("${ledger.wal.fsync-every}")
+	private int fsyncEvery;
+
+	@Value("${ledger.snapshot.directory}")
+	private String snapshotDirectory;
+
+	@Value("${ledger.snapshot.retain}")
+	private int snapshotRetain;
+
+	@Value("${ledger.expected-accounts}")
+	private int expectedAccounts;
+
+	@Value("${ledger.expected-transactions}")
+	private int expectedTransactions;
+
+	@Value("${ledger.transaction-id-key}")
+	private String transactionIdKey;
+
+	@Bean(destroyMethod = "close")
+	public WriteAheadLog writeAheadLog() {
+		return new WriteAheadLog(Paths.get(walDirectory), segmentSize, fsyncEvery);
+	}
+
+	@Bean
+	public LedgerSnapshotStore ledgerSnapshotStore() {
+		return new LedgerSnapshotStore(Paths.get(snapshotDirectory), snapshotRetain);
+	}
+
+	@Bean
+	public InMemoryLedger inMemoryLedger(WriteAheadLog writeAheadLog, LedgerSnapshotStore ledgerSnapshotStore) {
+		if (transactionIdKey.isBlank()) {
+			throw new IllegalStateException("LEDGER_TRANSACTION_ID_KEY 환경 변수로 거래 ID 키를 설정해야 합니다.");
+		}
+		InMemoryLedger ledger = new InMemoryLedger(writeAheadLog, ledgerSnapshotStore,
+			new TransactionIdCodec(transactionIdKey), expectedAccounts, expectedTransactions);
+		ledger.recover();
+		return ledger;
+	}
+
+	@Bean
+	@Primary
+	public LedgerAccountService ledgerAccountService(AccountRepository accountRepository,
+		AccountUserRepository accountUserRepository, AccountNumberGenerator accountNumberGenerator,
+		InMemoryLedger ledger) {
+		return new LedgerAccountService(accountRepository, accountUserRepository, accountNumberGenerator, ledger);
+	}
+
+	@Bean
+	@Primary
+	public LedgerTransactionService ledgerTransactionService(TransactionRepository transactionRepository,
+		AccountUserRepository accountUserRepository, AccountRepository accountRepository, RequestMetrics requestMetrics,
+		InMemoryLedger ledger, ObjectProvider<AccountVersions> accountVersions) {
+		return new LedgerTransactionService(transactionRepository, accountUserRepository, accountRepository,
+			requestMetrics, ledger, accountVersions.getIfAvailable());
+	}
+
+	@Bean
+	@Primary
+	public LedgerBalanceHoldService ledgerBalanceHoldService(BalanceHoldRepository balanceHoldRepository,
+		AccountRepository accountRepository, AccountUserRepository accountUserRepository,
+		TransactionRepository transactionRepository) {
+		return new LedgerBalanceHoldService(balanceHoldRepository, accountRepository, accountUserRepository,
+			transactionRepository);
+	}
+}
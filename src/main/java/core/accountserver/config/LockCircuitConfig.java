@@ -0,0 +1,73 @@
+package core.accountserver.config;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import core.accountserver.circuit.CircuitBreaker;
+import core.accountserver.circuit.CircuitBreakerOptions;
+import core.accountserver.service.CircuitBreakerLockService;
+import core.accountserver.service.LockFallback;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "lock-circuit", name = "enabled", havingValue = "true")
+public class LockCircuitConfig {
+	@Value("${lock-circuit.window-size}")
+	private int windowSize;
+
+	@Value("${lock-circuit.minimum-calls}")
+	private int minimumCalls;
+
+	@Value("${lock-circuit.failure-rate}")
+	private double failureRate;
+
+	@Value("${lock-circuit.slow-call-rate}")
+	private double slowCallRate;
+
+	@Value("${lock-circuit.slow-call-ms}")
+	private long slowCallMillis;
+
+	@Value("${lock-circuit.open-ms}")
+	private long openMillis;
+
+	@Value("${lock-circuit.half-open-calls}")
+	private int halfOpenCalls;
+
+	@Value("${lock-circuit.fallback}")
+	private LockFallback fallback;
+
+	@Value("${lock-circuit.local-wait-ms}")
+	private long localWaitMillis;
+
+	@Value("${lock-circuit.local-stripes}")
+	private int localStripes;
+
+	@Bean
+	public CircuitBreaker lockCircuitBreaker(MeterRegistry meterRegistry) {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("account-lock", CircuitBreakerOptions.builder()
+			.windowSize(windowSize)
+			.minimumCalls(minimumCalls)
+			.failureRateThreshold(failureRate)
+			.slowCallRateThreshold(slowCallRate)
+			.slowCallMillis(slowCallMillis)
+			.openMillis(openMillis)
+			.halfOpenCalls(halfOpenCalls)
+			.build());
+		Gauge.builder("account.lock.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+			.register(meterRegistry);
+		return circuitBreaker;
+	}
+
+	@Bean
+	@Primary
+	public CircuitBreakerLockService circuitBreakerLockService(RedissonClient redissonClient,
+		CircuitBreaker lockCircuitBreaker) {
+		return new CircuitBreakerLockService(redissonClient, lockCircuitBreaker, fallback, localWaitMillis,
+			localStripes);
+	}
+}
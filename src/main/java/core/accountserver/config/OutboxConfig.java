@@ -0,0 +1,74 @@
+package core.accountserver.config;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import core.accountserver.outbox.FileSink;
+import core.accountserver.outbox.OutboxRelay;
+import core.accountserver.outbox.OutboxRingBuffer;
+import core.accountserver.outbox.OutboxSink;
+import core.accountserver.outbox.OutboxWriter;
+import core.accountserver.outbox.RedisStreamSink;
+import core.accountserver.repository.OutboxEventRepository;
+
+@Configuration
+@ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+	private static final String RECOVERY_LOCK_KEY = "outbox:recovery";
+
+	@Value("${outbox.sinks}")
+	private List<String> sinks;
+
+	@Value("${outbox.ring-size}")
+	private int ringSize;
+
+	@Value("${outbox.batch-size}")
+	private int batchSize;
+
+	@Value("${outbox.idle-micros}")
+	private long idleMicros;
+
+	@Value("${outbox.recovery-delay-ms}")
+	private long recoveryDelayMillis;
+
+	@Value("${outbox.redis.stream}")
+	private String redisStream;
+
+	@Value("${outbox.file.path}")
+	private String filePath;
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository,
+		PlatformTransactionManager transactionManager, ObjectProvider<RedissonClient> redissonClient) {
+		List<OutboxSink> outboxSinks = new ArrayList<>();
+		for (String sink : sinks) {
+			if (sink.equals("redis")) {
+				outboxSinks.add(new RedisStreamSink(redissonClient.getObject(), redisStream));
+			} else if (sink.equals("file")) {
+				outboxSinks.add(new FileSink(Paths.get(filePath)));
+			} else {
+				throw new IllegalArgumentException("Unknown outbox sink: " + sink);
+			}
+		}
+		RedissonClient client = redissonClient.getIfAvailable();
+		RLock recoveryLock = client == null ? null : client.getLock(RECOVERY_LOCK_KEY);
+		return new OutboxRelay(new OutboxRingBuffer(ringSize), outboxSinks, outboxEventRepository,
+			transactionManager, recoveryLock, batchSize, idleMicros, recoveryDelayMillis);
+	}
+
+	@Bean
+	public OutboxWriter outboxWriter(JdbcTemplate jdbcTemplate, OutboxRelay outboxRelay) {
+		return new OutboxWriter(jdbcTemplate, outboxRelay);
+	}
+}
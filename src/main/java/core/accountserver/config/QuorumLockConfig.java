@@ -0,0 +1,82 @@
+package core.accountserver.config;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import core.accountserver.service.QuorumLockService;
+import redis.embedded.RedisServer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "quorum-lock", name = "enabled", havingValue = "true")
+public class QuorumLockConfig {
+	@Value("${quorum-lock.nodes}")
+	private List<String> nodes;
+
+	@Value("${quorum-lock.embedded}")
+	private boolean embedded;
+
+	@Value("${quorum-lock.wait-ms}")
+	private long waitMillis;
+
+	@Value("${quorum-lock.lease-ms}")
+	private long leaseMillis;
+
+	@Value("${quorum-lock.node-timeout-ms}")
+	private int nodeTimeoutMillis;
+
+	@Value("${quorum-lock.drift-factor}")
+	private double driftFactor;
+
+	@Value("${quorum-lock.retry-delay-ms}")
+	private long retryDelayMillis;
+
+	private final List<RedisServer> redisServers = new ArrayList<>();
+	private final List<RedissonClient> clients = new ArrayList<>();
+
+	@PostConstruct
+	public void startRedis() {
+		if (!embedded) {
+			return;
+		}
+		for (String node : nodes) {
+			RedisServer redisServer = new RedisServer(URI.create(node).getPort());
+			redisServer.start();
+			redisServers.add(redisServer);
+		}
+	}
+
+	@PreDestroy
+	public void stopRedis() {
+		clients.forEach(RedissonClient::shutdown);
+		redisServers.forEach(RedisServer::stop);
+	}
+
+	@Bean
+	@Primary
+	public QuorumLockService quorumLockService(RedissonClient redissonClient) {
+		for (String node : nodes) {
+			Config config = new Config();
+			config.useSingleServer()
+				.setAddress(node)
+				.setTimeout(nodeTimeoutMillis)
+				.setConnectTimeout(nodeTimeoutMillis)
+				.setRetryAttempts(0);
+			clients.add(Redisson.create(config));
+		}
+		return new QuorumLockService(redissonClient, clients, waitMillis, leaseMillis, nodeTimeoutMillis, driftFactor,
+			retryDelayMillis);
+	}
+}
@@ -0,0 +1,92 @@
+package core.accountserver.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import core.accountserver.datasource.ReadYourWrites;
+import core.accountserver.datasource.ReadYourWritesAspect;
+import core.accountserver.datasource.ReplicaFallback;
+import core.accountserver.datasource.ReplicaHealth;
+import core.accountserver.datasource.ReplicaRoutingDataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+	@Value("${replica.url}")
+	private String url;
+
+	@Value("${replica.username}")
+	private String username;
+
+	@Value("${replica.password}")
+	private String password;
+
+	@Value("${replica.max-lag-ms}")
+	private long maxLagMillis;
+
+	@Value("${replica.lag-query}")
+	private String lagQuery;
+
+	@Value("${replica.fallback}")
+	private ReplicaFallback fallback;
+
+	@Value("${replica.sticky-ms}")
+	private long stickyMillis;
+
+	@Bean(destroyMethod = "close")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean(destroyMethod = "close")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.url(url)
+			.username(username)
+			.password(password)
+			.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaHealth replicaHealth(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+		ReplicaHealth replicaHealth = new ReplicaHealth(replicaDataSource, lagQuery, maxLagMillis);
+		replicaHealth.check();
+		return replicaHealth;
+	}
+
+	@Bean
+	public ReadYourWrites readYourWrites() {
+		return new ReadYourWrites(stickyMillis);
+	}
+
+	@Bean
+	public ReadYourWritesAspect readYourWritesAspect(ReadYourWrites readYourWrites) {
+		return new ReadYourWritesAspect(readYourWrites);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource, ReplicaHealth replicaHealth,
+		ReadYourWrites readYourWrites) {
+		return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+			replicaHealth, readYourWrites, fallback));
+	}
+}
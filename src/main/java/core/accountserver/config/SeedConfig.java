@@ -0,0 +1,58 @@
+package core.accountserver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import core.accountserver.seed.DatasetSeeder;
+import core.accountserver.seed.SeedOptions;
+
+@Configuration
+@ConditionalOnProperty(prefix = "seed", name = "enabled", havingValue = "true")
+public class SeedConfig {
+	@Value("${seed.users}")
+	private int users;
+
+	@Value("${seed.max-accounts-per-user}")
+	private int maxAccountsPerUser;
+
+	@Value("${seed.transactions-per-account}")
+	private int transactionsPerAccount;
+
+	@Value("${seed.median-balance}")
+	private long medianBalance;
+
+	@Value("${seed.median-amount}")
+	private long medianAmount;
+
+	@Value("${seed.history-days}")
+	private int historyDays;
+
+	@Value("${seed.batch-size}")
+	private int batchSize;
+
+	@Value("${seed.seed}")
+	private long seed;
+
+	@Bean
+	public DatasetSeeder datasetSeeder(JdbcTemplate jdbcTemplate) {
+		return new DatasetSeeder(jdbcTemplate, SeedOptions.builder()
+			.users(users)
+			.maxAccountsPerUser(maxAccountsPerUser)
+			.transactionsPerAccount(transactionsPerAccount)
+			.medianBalance(medianBalance)
+			.medianAmount(medianAmount)
+			.historyDays(historyDays)
+			.batchSize(batchSize)
+			.seed(seed)
+			.build());
+	}
+
+	@Bean
+	public ApplicationRunner datasetSeederRunner(DatasetSeeder datasetSeeder) {
+		return args -> datasetSeeder.seed();
+	}
+}
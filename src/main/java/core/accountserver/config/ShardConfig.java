@@ -0,0 +1,151 @@
+package core.accountserver.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import core.accountserver.generator.AccountNumberGenerator;
+import core.accountserver.metrics.RequestMetrics;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+import core.accountserver.service.ShardedAccountService;
+import core.accountserver.service.ShardedBalanceHoldService;
+import core.accountserver.service.ShardedTransactionService;
+import core.accountserver.shard.ShardAwareAccountNumberGenerator;
+import core.accountserver.shard.ShardContext;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardRebalancer;
+import core.accountserver.shard.ShardRoutingDataSource;
+import core.accountserver.shard.ShardTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "shard", name = "enabled", havingValue = "true")
+public class ShardConfig {
+	@Value("${shard.urls}")
+	private List<String> urls;
+
+	@Value("${shard.username}")
+	private String username;
+
+	@Value("${shard.password}")
+	private String password;
+
+	@Value("${shard.buckets}")
+	private int buckets;
+
+	@Value("${shard.mirror-schema}")
+	private boolean mirrorSchema;
+
+	@Value("${shard.owner-lease-ms}")
+	private long ownerLeaseMillis;
+
+	@Value("${accrual.enabled}")
+	private boolean accrualEnabled;
+
+	@Value("${outbox.enabled}")
+	private boolean outboxEnabled;
+
+	@Value("${balance-snapshot.enabled}")
+	private boolean balanceSnapshotEnabled;
+
+	@PostConstruct
+	public void rejectUnroutedFeatures() {
+		if (accrualEnabled || outboxEnabled || balanceSnapshotEnabled) {
+			throw new IllegalStateException(
+				"샤딩 모드에서는 accrual, outbox, balance-snapshot 기능을 함께 사용할 수 없습니다.");
+		}
+	}
+
+	@Bean
+	public ShardMap shardMap() {
+		return new ShardMap(urls.size(), buckets);
+	}
+
+	@Bean
+	public ShardContext shardContext() {
+		return new ShardContext();
+	}
+
+	@Bean(destroyMethod = "close")
+	@Primary
+	public ShardRoutingDataSource dataSource(ShardContext shardContext) {
+		List<DataSource> shards = new ArrayList<>();
+		for (int shard = 0; shard < urls.size(); shard++) {
+			HikariDataSource dataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(urls.get(shard))
+				.username(username)
+				.password(password)
+				.build();
+			dataSource.setPoolName("shard-" + shard);
+			shards.add(dataSource);
+		}
+		return new ShardRoutingDataSource(shards, shardContext);
+	}
+
+	@Bean
+	public ShardTemplate shardTemplate(ShardMap shardMap, ShardContext shardContext,
+		PlatformTransactionManager transactionManager) {
+		return new ShardTemplate(shardMap, shardContext, transactionManager);
+	}
+
+	@Bean
+	public ShardRebalancer shardRebalancer(ShardMap shardMap, ShardRoutingDataSource dataSource) {
+		return new ShardRebalancer(shardMap, dataSource.getShards(), ownerLeaseMillis);
+	}
+
+	@Bean
+	public SmartInitializingSingleton shardInitializer(ShardRebalancer shardRebalancer) {
+		return () -> shardRebalancer.initialize(mirrorSchema);
+	}
+
+	@Bean
+	@Primary
+	public AccountNumberGenerator shardAwareAccountNumberGenerator(
+		@Qualifier("hashAccountNumberGenerator") AccountNumberGenerator accountNumberGenerator, ShardMap shardMap) {
+		return new ShardAwareAccountNumberGenerator(accountNumberGenerator, shardMap);
+	}
+
+	@Bean
+	@Primary
+	public ShardedAccountService shardedAccountService(AccountRepository accountRepository,
+		AccountUserRepository accountUserRepository, AccountNumberGenerator accountNumberGenerator,
+		ShardMap shardMap, ShardTemplate shardTemplate) {
+		return new ShardedAccountService(accountRepository, accountUserRepository, accountNumberGenerator,
+			shardMap, shardTemplate);
+	}
+
+	@Bean
+	@Primary
+	public ShardedTransactionService shardedTransactionService(TransactionRepository transactionRepository,
+		AccountUserRepository accountUserRepository, AccountRepository accountRepository, RequestMetrics requestMetrics,
+		ShardMap shardMap, ShardTemplate shardTemplate) {
+		return new ShardedTransactionService(transactionRepository, accountUserRepository, accountRepository,
+			requestMetrics, shardMap, shardTemplate);
+	}
+
+	@Bean
+	@Primary
+	public ShardedBalanceHoldService shardedBalanceHoldService(BalanceHoldRepository balanceHoldRepository,
+		AccountRepository accountRepository, AccountUserRepository accountUserRepository,
+		TransactionRepository transactionRepository, ShardMap shardMap, ShardTemplate shardTemplate) {
+		return new ShardedBalanceHoldService(balanceHoldRepository, accountRepository, accountUserRepository,
+			transactionRepository, shardMap, shardTemplate);
+	}
+}
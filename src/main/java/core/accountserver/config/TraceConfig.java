@@ -0,0 +1,51 @@
+package core.accountserver.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import core.accountserver.trace.RequestTraceFilter;
+import core.accountserver.trace.SlowRequestRecorder;
+import core.accountserver.trace.TracingJackson2HttpMessageConverter;
+
+@Configuration
+public class TraceConfig {
+	@Value("${trace.slow-requests}")
+	private int slowRequests;
+
+	@Bean
+	public SlowRequestRecorder slowRequestRecorder() {
+		return new SlowRequestRecorder(slowRequests);
+	}
+
+	@Bean
+	public FilterRegistrationBean<RequestTraceFilter> requestTraceFilter(SlowRequestRecorder slowRequestRecorder) {
+		FilterRegistrationBean<RequestTraceFilter> registration = new FilterRegistrationBean<>(
+			new RequestTraceFilter(slowRequestRecorder));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+
+	@Bean
+	public WebMvcConfigurer tracingMessageConverterConfigurer() {
+		return new WebMvcConfigurer() {
+			@Override
+			public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+				for (int i = 0; i < converters.size(); i++) {
+					HttpMessageConverter<?> converter = converters.get(i);
+					if (converter.getClass() == MappingJackson2HttpMessageConverter.class) {
+						converters.set(i, new TracingJackson2HttpMessageConverter(
+							((MappingJackson2HttpMessageConverter)converter).getObjectMapper()));
+					}
+				}
+			}
+		};
+	}
+}
@@ -1,8 +1,11 @@
 package core.accountserver.controller;
 
+import java.time.LocalDate;
+
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +20,7 @@ import core.accountserver.dto.response.account.CreateAccountResponse;
 import core.accountserver.dto.response.account.DeleteAccountResponse;
 import core.accountserver.dto.response.Response;
 import core.accountserver.service.AccountService;
+import core.accountserver.service.BalanceSnapshotService;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -24,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class AccountController {
 
 	private final AccountService accountService;
+	private final BalanceSnapshotService balanceSnapshotService;
 
 	@PostMapping("/account")
 	public ResponseEntity<Response> createAccount(@RequestBody @Valid CreateAccountRequest createAccountRequest) {
@@ -41,7 +46,12 @@ public class AccountController {
 
 	@GetMapping("/account")
 	public ResponseEntity<Response> findByAccountUserId(
-		@RequestParam("user_id") @Min(value = 1, message = "아이디는 1 이상 이여야 합니다.") @Valid Long id) {
+		@RequestParam("user_id") @Min(value = 1, message = "아이디는 1 이상 이여야 합니다.") @Valid Long id,
+		@RequestParam(value = "as_of", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+		if (asOf != null) {
+			return Response.createSuccess("성공적으로 계좌가 조회되었습니다.",
+				balanceSnapshotService.findAccountByUserId(id, asOf));
+		}
 		return Response.createSuccess("성공적으로 계좌가 조회되었습니다.", accountService.findAccountByUserId(id));
 	}
 }
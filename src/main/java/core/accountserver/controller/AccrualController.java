@@ -0,0 +1,35 @@
+package core.accountserver.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import core.accountserver.accrual.AccrualEngine;
+import core.accountserver.domain.transaction.TransactionType;
+import core.accountserver.dto.response.Response;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@Profile("admin")
+@ConditionalOnProperty(prefix = "accrual", name = "enabled", havingValue = "true")
+public class AccrualController {
+
+	private final AccrualEngine accrualEngine;
+
+	@PostMapping("/admin/accrual")
+	public ResponseEntity<Response> run(@RequestParam String runId, @RequestParam TransactionType type) {
+		accrualEngine.start(runId, type);
+		return Response.createSuccess("일괄 처리가 시작되었습니다.", runId);
+	}
+
+	@GetMapping("/admin/accrual/{runId}")
+	public ResponseEntity<Response> progress(@PathVariable String runId) {
+		return Response.createSuccess("성공적으로 진행 상황을 조회했습니다.", accrualEngine.progress(runId));
+	}
+}
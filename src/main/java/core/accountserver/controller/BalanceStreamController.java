@@ -0,0 +1,26 @@
+package core.accountserver.controller;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import core.accountserver.stream.BalanceStreamHub;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "balance-stream", name = "enabled", havingValue = "true")
+public class BalanceStreamController {
+
+	private final BalanceStreamHub balanceStreamHub;
+
+	@GetMapping(value = "/account/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@RequestParam("user_id") @Min(value = 1, message = "아이디는 1 이상 이여야 합니다.") Long userId) {
+		return balanceStreamHub.connect(userId);
+	}
+}
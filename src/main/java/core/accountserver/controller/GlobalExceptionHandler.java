@@ -6,11 +6,24 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import core.accountserver.dto.response.Response;
+import core.accountserver.exception.accrual.AccrualRunConflictException;
 import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
 import core.accountserver.exception.account.AccountHasBalanceException;
 import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.BalanceNotRecordedException;
+import core.accountserver.exception.account.BalanceSnapshotNotFoundException;
 import core.accountserver.exception.transaction.TransactionFailedException;
 import core.accountserver.exception.account.UserAccountUnMatchException;
+import core.accountserver.exception.hold.HoldAccountUnMatchException;
+import core.accountserver.exception.hold.HoldAlreadyFinishedException;
+import core.accountserver.exception.hold.HoldExpiredException;
+import core.accountserver.exception.hold.HoldNotFoundException;
+import core.accountserver.exception.hold.HoldNotSupportedException;
+import core.accountserver.exception.shard.ShardFencedException;
+import core.accountserver.exception.shard.ShardNotFoundException;
+import core.accountserver.exception.stream.StreamConnectionLimitException;
+import core.accountserver.exception.transaction.LockUnavailableException;
+import core.accountserver.exception.transaction.TransactionHasLockException;
 import core.accountserver.exception.transaction.TransactionNotFoundException;
 import core.accountserver.exception.user.MaxAccountPerUserException;
 import core.accountserver.exception.user.UserNotFoundException;
@@ -36,7 +49,8 @@ public class GlobalExceptionHandler {
 
 	@ExceptionHandler(value = {
 		UserAccountUnMatchException.class, AccountAlreadyUnregisteredException.class,
-		AccountNotFoundException.class, AccountHasBalanceException.class, AccountAlreadyUnregisteredException.class})
+		AccountNotFoundException.class, AccountHasBalanceException.class, AccountAlreadyUnregisteredException.class,
+		BalanceSnapshotNotFoundException.class, BalanceNotRecordedException.class})
 	public ResponseEntity<Response> handle(Exception e) {
 		return Response.createBadRequest(BAD_REQUEST, "account", e.getMessage());
 	}
@@ -46,8 +60,45 @@ public class GlobalExceptionHandler {
 		return Response.createBadRequest(BAD_REQUEST, "transaction", e.getMessage());
 	}
 
+	@ExceptionHandler(TransactionHasLockException.class)
+	public ResponseEntity<Response> handle(TransactionHasLockException e) {
+		return Response.createBadRequest(BAD_REQUEST, "lock", e.getMessage());
+	}
+
+	@ExceptionHandler(LockUnavailableException.class)
+	public ResponseEntity<Response> handle(LockUnavailableException e) {
+		return Response.createBadRequest(BAD_REQUEST, "lock", e.getMessage());
+	}
+
 	@ExceptionHandler(TransactionNotFoundException.class)
 	public ResponseEntity<Response> handle(TransactionNotFoundException e) {
 		return Response.createBadRequest(BAD_REQUEST, "transactionId", e.getMessage());
 	}
+
+	@ExceptionHandler(value = {
+		HoldNotFoundException.class, HoldAlreadyFinishedException.class, HoldExpiredException.class,
+		HoldAccountUnMatchException.class})
+	public ResponseEntity<Response> handleHold(Exception e) {
+		return Response.createBadRequest(BAD_REQUEST, "holdId", e.getMessage());
+	}
+
+	@ExceptionHandler(HoldNotSupportedException.class)
+	public ResponseEntity<Response> handle(HoldNotSupportedException e) {
+		return Response.createBadRequest(BAD_REQUEST, "hold", e.getMessage());
+	}
+
+	@ExceptionHandler(value = {ShardNotFoundException.class, ShardFencedException.class})
+	public ResponseEntity<Response> handleShard(Exception e) {
+		return Response.createBadRequest(BAD_REQUEST, "shard", e.getMessage());
+	}
+
+	@ExceptionHandler(AccrualRunConflictException.class)
+	public ResponseEntity<Response> handle(AccrualRunConflictException e) {
+		return Response.createBadRequest(BAD_REQUEST, "runId", e.getMessage());
+	}
+
+	@ExceptionHandler(StreamConnectionLimitException.class)
+	public ResponseEntity<Response> handle(StreamConnectionLimitException e) {
+		return Response.createBadRequest(BAD_REQUEST, "connection", e.getMessage());
+	}
 }
@@ -0,0 +1,43 @@
+package core.accountserver.controller;
+
+import javax.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import core.accountserver.aop.AccountLock;
+import core.accountserver.dto.request.hold.FinishHoldRequest;
+import core.accountserver.dto.request.hold.HoldBalanceRequest;
+import core.accountserver.dto.response.Response;
+import core.accountserver.service.BalanceHoldService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class HoldController {
+
+	private final BalanceHoldService balanceHoldService;
+
+	@PostMapping("/transaction/hold")
+	@AccountLock
+	public ResponseEntity<Response> hold(@Valid @RequestBody HoldBalanceRequest request) {
+		return Response.createSuccess("성공적으로 잔액이 홀드 되었습니다.",
+			balanceHoldService.hold(request.getUserId(), request.getAccountNumber(), request.getAmount()));
+	}
+
+	@PostMapping("/transaction/hold/capture")
+	@AccountLock
+	public ResponseEntity<Response> capture(@Valid @RequestBody FinishHoldRequest request) {
+		return Response.createSuccess("성공적으로 거래가 완료 되었습니다.",
+			balanceHoldService.capture(request.getHoldId(), request.getAccountNumber()));
+	}
+
+	@PostMapping("/transaction/hold/release")
+	@AccountLock
+	public ResponseEntity<Response> release(@Valid @RequestBody FinishHoldRequest request) {
+		return Response.createSuccess("성공적으로 홀드가 해제 되었습니다.",
+			balanceHoldService.release(request.getHoldId(), request.getAccountNumber()));
+	}
+}
@@ -0,0 +1,40 @@
+package core.accountserver.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import core.accountserver.dto.response.Response;
+import core.accountserver.hot.HotAccountRegistry;
+import core.accountserver.hot.SplitBalances;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "hot-account", name = "enabled", havingValue = "true")
+public class HotAccountController {
+
+	private final SplitBalances splitBalances;
+	private final HotAccountRegistry hotAccountRegistry;
+
+	@GetMapping("/admin/accounts/hot")
+	public ResponseEntity<Response> findHotAccounts() {
+		return Response.createSuccess("성공적으로 조회가 완료되었습니다.", hotAccountRegistry.accountNumbers());
+	}
+
+	@PostMapping("/admin/accounts/hot/{accountNumber}")
+	public ResponseEntity<Response> split(@PathVariable String accountNumber) {
+		splitBalances.split(accountNumber);
+		return Response.createSuccess("성공적으로 잔액이 분할되었습니다.", accountNumber);
+	}
+
+	@DeleteMapping("/admin/accounts/hot/{accountNumber}")
+	public ResponseEntity<Response> merge(@PathVariable String accountNumber) {
+		splitBalances.merge(accountNumber);
+		return Response.createSuccess("성공적으로 잔액이 병합되었습니다.", accountNumber);
+	}
+}
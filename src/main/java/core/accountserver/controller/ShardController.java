@@ -0,0 +1,46 @@
+package core.accountserver.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import core.accountserver.dto.response.Response;
+import core.accountserver.dto.response.shard.ShardMapResponse;
+import core.accountserver.exception.shard.ShardNotFoundException;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardRebalancer;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "shard", name = "enabled", havingValue = "true")
+public class ShardController {
+
+	private final ShardMap shardMap;
+	private final ShardRebalancer shardRebalancer;
+
+	@GetMapping("/admin/shards")
+	public ResponseEntity<Response> findShardMap() {
+		return Response.createSuccess("성공적으로 조회가 완료되었습니다.", ShardMapResponse.from(shardMap));
+	}
+
+	@PutMapping("/admin/shards/buckets/{bucket}")
+	public ResponseEntity<Response> moveBucket(@PathVariable int bucket, @RequestParam int shard) {
+		if (!shardMap.contains(bucket, shard)) {
+			throw new ShardNotFoundException("해당 버킷 또는 샤드가 존재하지 않습니다.");
+		}
+		shardRebalancer.moveBucket(bucket, shard);
+		return Response.createSuccess("성공적으로 버킷이 이동되었습니다.", ShardMapResponse.from(shardMap));
+	}
+
+	@PostMapping("/admin/shards/rebalance")
+	public ResponseEntity<Response> rebalance() {
+		shardRebalancer.rebalance();
+		return Response.createSuccess("성공적으로 재배치가 완료되었습니다.", ShardMapResponse.from(shardMap));
+	}
+}
@@ -0,0 +1,28 @@
+package core.accountserver.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import core.accountserver.dto.response.Response;
+import core.accountserver.trace.SlowRequestRecorder;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class TraceController {
+
+	private final SlowRequestRecorder slowRequestRecorder;
+
+	@GetMapping("/admin/traces/slow")
+	public ResponseEntity<Response> findSlowRequests() {
+		return Response.createSuccess("성공적으로 조회가 완료되었습니다.", slowRequestRecorder.slowest());
+	}
+
+	@DeleteMapping("/admin/traces/slow")
+	public ResponseEntity<Response> clearSlowRequests() {
+		slowRequestRecorder.clear();
+		return Response.createSuccess("성공적으로 초기화 되었습니다.", null);
+	}
+}
@@ -2,13 +2,17 @@ package core.accountserver.controller;
 
 import static core.accountserver.domain.transaction.TransactionType.*;
 
+import java.time.LocalDateTime;
+
 import javax.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import core.accountserver.aop.AccountLock;
@@ -17,6 +21,7 @@ import core.accountserver.dto.request.transaction.UseBalanceRequest;
 import core.accountserver.dto.response.Response;
 import core.accountserver.dto.response.transaction.CancelBalanceResponse;
 import core.accountserver.dto.response.transaction.UseBalanceResponse;
+import core.accountserver.exception.BusinessException;
 import core.accountserver.exception.transaction.TransactionFailedException;
 import core.accountserver.service.TransactionService;
 import lombok.RequiredArgsConstructor;
@@ -34,9 +39,9 @@ public class TransactionController {
 			UseBalanceResponse response = transactionService.useBalance(request.getUserId(),
 				request.getAccountNumber(), request.getAmount());
 			return Response.createSuccess("성공적으로 거래가 완료 되었습니다.", response);
-		} catch (Exception e) {
+		} catch (BusinessException e) {
 			transactionService.saveFailedTransaction(request.getAccountNumber(), request.getAmount(), USE);
-			throw new TransactionFailedException(e.getMessage());
+			throw new TransactionFailedException(e.getMessage(), e);
 		}
 	}
 
@@ -47,9 +52,9 @@ public class TransactionController {
 			CancelBalanceResponse response = transactionService.cancelBalance(request.getTransactionId(),
 				request.getAccountNumber(), request.getAmount());
 			return Response.createSuccess("성공적으로 거래가 취소 되었습니다.", response);
-		} catch (Exception e) {
+		} catch (BusinessException e) {
 			transactionService.saveFailedTransaction(request.getAccountNumber(), request.getAmount(), CANCEL);
-			throw new TransactionFailedException(e.getMessage());
+			throw new TransactionFailedException(e.getMessage(), e);
 		}
 	}
 
@@ -58,4 +63,10 @@ public class TransactionController {
 		return Response.createSuccess("성공적으로 조회가 완료되었습니다.",
 			transactionService.findByTransactionId(transactionId));
 	}
+
+	@GetMapping("/account/{accountNumber}/balance")
+	public ResponseEntity<Response> findBalanceAt(@PathVariable String accountNumber,
+		@RequestParam("at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+		return Response.createSuccess("성공적으로 잔액이 조회되었습니다.", transactionService.findBalanceAt(accountNumber, at));
+	}
 }
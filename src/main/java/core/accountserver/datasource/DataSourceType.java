@@ -0,0 +1,5 @@
+package core.accountserver.datasource;
+
+public enum DataSourceType {
+	PRIMARY, REPLICA
+}
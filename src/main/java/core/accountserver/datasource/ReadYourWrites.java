@@ -0,0 +1,52 @@
+package core.accountserver.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReadYourWrites {
+
+	private final long stickyMillis;
+	private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+	private final ThreadLocal<Long> currentUser = new ThreadLocal<>();
+
+	public ReadYourWrites(long stickyMillis) {
+		this.stickyMillis = stickyMillis;
+	}
+
+	public Long bind(Long userId) {
+		Long previous = currentUser.get();
+		currentUser.set(userId);
+		return previous;
+	}
+
+	public void restore(Long previous) {
+		if (previous == null) {
+			currentUser.remove();
+		} else {
+			currentUser.set(previous);
+		}
+	}
+
+	public void written(Long userId) {
+		if (stickyMillis > 0) {
+			lastWrites.put(userId, System.currentTimeMillis());
+		}
+	}
+
+	public boolean isSticky() {
+		Long userId = currentUser.get();
+		if (userId == null) {
+			return false;
+		}
+		Long writtenAt = lastWrites.get(userId);
+		return writtenAt != null && System.currentTimeMillis() - writtenAt <= stickyMillis;
+	}
+
+	@Scheduled(fixedDelayString = "${replica.check-interval-ms}")
+	public void evictExpired() {
+		long bound = System.currentTimeMillis() - stickyMillis;
+		lastWrites.values().removeIf(writtenAt -> writtenAt < bound);
+	}
+}
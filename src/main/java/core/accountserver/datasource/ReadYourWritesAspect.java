@@ -0,0 +1,28 @@
+package core.accountserver.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import lombok.RequiredArgsConstructor;
+
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ReadYourWritesAspect {
+
+	private final ReadYourWrites readYourWrites;
+
+	@Around("within(core.accountserver.service..*) "
+		+ "&& @annotation(org.springframework.transaction.annotation.Transactional) && args(userId, ..)")
+	public Object aroundUserTransaction(ProceedingJoinPoint pjp, Long userId) throws Throwable {
+		Long previous = readYourWrites.bind(userId);
+		try {
+			return pjp.proceed();
+		} finally {
+			readYourWrites.restore(previous);
+		}
+	}
+}
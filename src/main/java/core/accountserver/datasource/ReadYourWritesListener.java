@@ -0,0 +1,53 @@
+package core.accountserver.datasource;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.domain.transaction.Transaction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ReadYourWritesListener {
+
+	private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+	@PostPersist
+	@PostUpdate
+	public void written(Object entity) {
+		ReadYourWrites current = readYourWrites.getIfAvailable();
+		Account account = accountOf(entity);
+		if (current == null || account == null) {
+			return;
+		}
+		Long userId = account.getAccountUser().getId();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			current.written(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				current.written(userId);
+			}
+		});
+	}
+
+	private static Account accountOf(Object entity) {
+		if (entity instanceof Account) {
+			return (Account)entity;
+		}
+		if (entity instanceof Transaction) {
+			return ((Transaction)entity).getAccount();
+		}
+		if (entity instanceof BalanceHold) {
+			return ((BalanceHold)entity).getAccount();
+		}
+		return null;
+	}
+}
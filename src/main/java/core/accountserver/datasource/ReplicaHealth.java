@@ -0,0 +1,47 @@
+package core.accountserver.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ReplicaHealth {
+
+	private static final String PING_QUERY = "select 0";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final String lagQuery;
+	private final long maxLagMillis;
+
+	private volatile long lagMillis = Long.MAX_VALUE;
+
+	public ReplicaHealth(DataSource replica, String lagQuery, long maxLagMillis) {
+		this.jdbcTemplate = new JdbcTemplate(replica);
+		this.lagQuery = lagQuery == null || lagQuery.isBlank() ? PING_QUERY : lagQuery;
+		this.maxLagMillis = maxLagMillis;
+	}
+
+	@Scheduled(fixedDelayString = "${replica.check-interval-ms}")
+	public void check() {
+		try {
+			Long lag = jdbcTemplate.queryForObject(lagQuery, Long.class);
+			lagMillis = lag == null ? 0 : Math.max(lag, 0);
+		} catch (RuntimeException e) {
+			if (lagMillis != Long.MAX_VALUE) {
+				log.warn("Replica health check failed, reads fall back by policy", e);
+			}
+			lagMillis = Long.MAX_VALUE;
+		}
+	}
+
+	public boolean isUsable() {
+		return lagMillis <= maxLagMillis;
+	}
+
+	public long getLagMillis() {
+		return lagMillis;
+	}
+}
@@ -0,0 +1,38 @@
+package core.accountserver.datasource;
+
+import static core.accountserver.datasource.DataSourceType.*;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	private final ReplicaHealth replicaHealth;
+	private final ReadYourWrites readYourWrites;
+	private final ReplicaFallback fallback;
+
+	public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealth replicaHealth,
+		ReadYourWrites readYourWrites, ReplicaFallback fallback) {
+		this.replicaHealth = replicaHealth;
+		this.readYourWrites = readYourWrites;
+		this.fallback = fallback;
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || readYourWrites.isSticky()) {
+			return PRIMARY;
+		}
+		if (fallback == ReplicaFallback.PRIMARY && !replicaHealth.isUsable()) {
+			return PRIMARY;
+		}
+		return REPLICA;
+	}
+}
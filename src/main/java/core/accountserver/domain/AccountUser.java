@@ -20,4 +20,5 @@ public class AccountUser extends TimeStampedEntity{
 	@GeneratedValue
 	private Long id;
 	private String name;
+	private int accountCount;
 }
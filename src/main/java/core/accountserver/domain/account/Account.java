@@ -5,14 +5,17 @@ import static core.accountserver.domain.account.AccountStatus.*;
 import java.time.LocalDateTime;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
+import core.accountserver.datasource.ReadYourWritesListener;
 import core.accountserver.domain.AccountUser;
 import core.accountserver.domain.TimeStampedEntity;
+import core.accountserver.etag.AccountVersionListener;
 import core.accountserver.exception.account.AccountExceedBalanceException;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -21,6 +24,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners({AccountVersionListener.class, ReadYourWritesListener.class})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -54,6 +58,16 @@ public class Account extends TimeStampedEntity {
 		balance += amount;
 	}
 
+	public long detachBalance() {
+		long detached = balance;
+		balance = 0L;
+		return detached;
+	}
+
+	public void attachBalance(long amount) {
+		balance += amount;
+	}
+
 	public boolean isUnRegistered() {
 		return accountStatus.equals(UNREGISTERED);
 	}
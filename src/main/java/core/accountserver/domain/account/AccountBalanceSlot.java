@@ -0,0 +1,40 @@
+package core.accountserver.domain.account;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import core.accountserver.domain.TimeStampedEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccountBalanceSlot extends TimeStampedEntity {
+	@Id
+	@GeneratedValue
+	private Long id;
+	@ManyToOne
+	private Account account;
+	private int slotIndex;
+	private Long balance;
+
+	public void rebalance(long balance) {
+		this.balance = balance;
+	}
+
+	public static AccountBalanceSlot create(Account account, int slotIndex, long balance) {
+		return AccountBalanceSlot.builder()
+			.account(account)
+			.slotIndex(slotIndex)
+			.balance(balance)
+			.build();
+	}
+}
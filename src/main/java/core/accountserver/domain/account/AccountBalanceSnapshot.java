@@ -0,0 +1,35 @@
+package core.accountserver.domain.account;
+
+import java.time.LocalDate;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_balance_snapshot_date_account", columnList = "snapshotDate, accountId", unique = true),
+	@Index(name = "idx_balance_snapshot_user_date", columnList = "accountUserId, snapshotDate")})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccountBalanceSnapshot {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private LocalDate snapshotDate;
+	private Long accountId;
+	private Long accountUserId;
+	private String accountNumber;
+	private Long balance;
+}
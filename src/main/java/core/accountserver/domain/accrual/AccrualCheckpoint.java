@@ -0,0 +1,30 @@
+package core.accountserver.domain.accrual;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import core.accountserver.domain.transaction.TransactionType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = @Index(name = "idx_accrual_checkpoint_run", columnList = "runId, partitionStart", unique = true))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccrualCheckpoint {
+	@Id
+	@GeneratedValue
+	private Long id;
+	private String runId;
+	@Enumerated(EnumType.STRING)
+	private TransactionType transactionType;
+	private Long partitionStart;
+	private Long partitionEnd;
+	private Long lastAccountId;
+}
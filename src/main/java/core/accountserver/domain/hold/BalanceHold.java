@@ -0,0 +1,65 @@
+package core.accountserver.domain.hold;
+
+import static core.accountserver.domain.hold.HoldStatus.*;
+import static core.accountserver.policy.TransactionConstant.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import core.accountserver.datasource.ReadYourWritesListener;
+import core.accountserver.domain.TimeStampedEntity;
+import core.accountserver.domain.account.Account;
+import core.accountserver.etag.AccountVersionListener;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@EntityListeners({AccountVersionListener.class, ReadYourWritesListener.class})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BalanceHold extends TimeStampedEntity {
+
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	@ManyToOne
+	private Account account;
+	private String holdId;
+	private Long amount;
+	@Enumerated(EnumType.STRING)
+	private HoldStatus holdStatus;
+	private String transactionId;
+	private LocalDateTime expiresAt;
+
+	public boolean isHeld() {
+		return holdStatus.equals(HELD);
+	}
+
+	public boolean isExpired() {
+		return expiresAt.isBefore(LocalDateTime.now());
+	}
+
+	public static BalanceHold create(Account account, Long amount) {
+		return BalanceHold.builder()
+			.account(account)
+			.holdId(UUID.randomUUID().toString().replace("-", ""))
+			.amount(amount)
+			.holdStatus(HELD)
+			.expiresAt(LocalDateTime.now().plusMinutes(HOLD_EXPIRE_MINUTES))
+			.build();
+	}
+}
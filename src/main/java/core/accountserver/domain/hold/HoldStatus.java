@@ -0,0 +1,5 @@
+package core.accountserver.domain.hold;
+
+public enum HoldStatus {
+	HELD, CAPTURED, RELEASED, EXPIRED
+}
@@ -0,0 +1,41 @@
+package core.accountserver.domain.outbox;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import core.accountserver.domain.transaction.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_outbox_event_published", columnList = "published, id"),
+	@Index(name = "idx_outbox_event_account", columnList = "accountNumber, published, id")})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	private String accountNumber;
+	private String transactionId;
+	@Enumerated(EnumType.STRING)
+	private TransactionType transactionType;
+	private Long amount;
+	private Long balanceSnapshot;
+	private LocalDateTime transactedAt;
+	private boolean published;
+}
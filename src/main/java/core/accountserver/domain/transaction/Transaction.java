@@ -9,14 +9,21 @@ import java.util.Objects;
 import java.util.UUID;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
+import core.accountserver.datasource.ReadYourWritesListener;
 import core.accountserver.domain.TimeStampedEntity;
 import core.accountserver.domain.account.Account;
+import core.accountserver.etag.AccountVersionListener;
+import core.accountserver.outbox.OutboxListener;
+import core.accountserver.stream.BalanceEventListener;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,6 +31,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_account_result_transacted_at",
+	columnList = "account_id, transactionResult, transactedAt DESC, id DESC"))
+@EntityListeners({OutboxListener.class, BalanceEventListener.class, AccountVersionListener.class,
+	ReadYourWritesListener.class})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -53,6 +64,10 @@ public class Transaction extends TimeStampedEntity {
 		return transactionType.equals(CANCEL);
 	}
 
+	public boolean isUse() {
+		return transactionType.equals(USE);
+	}
+
 	public boolean isFailed() {
 		return transactionResult.equals(FAIL);
 	}
@@ -61,25 +76,45 @@ public class Transaction extends TimeStampedEntity {
 		return Objects.equals(this.amount, amount);
 	}
 
+	public long balanceBefore() {
+		if (isFailed()) {
+			return balanceSnapshot;
+		}
+		if (transactionType.equals(USE) || transactionType.equals(FEE) || transactionType.equals(HOLD)) {
+			return balanceSnapshot + amount;
+		}
+		return balanceSnapshot - amount;
+	}
+
 	public static Transaction createSuccessTransaction(Account account, Long amount, TransactionType transactionType) {
+		return createSuccessTransaction(account, amount, transactionType, account.getBalance());
+	}
+
+	public static Transaction createSuccessTransaction(Account account, Long amount, TransactionType transactionType,
+		Long balanceSnapshot) {
 		return Transaction.builder()
 			.transactionType(transactionType)
 			.transactionResult(SUCCESS)
 			.account(account)
 			.amount(amount)
-			.balanceSnapshot(account.getBalance())
+			.balanceSnapshot(balanceSnapshot)
 			.transactionId(UUID.randomUUID().toString().replace("-", ""))
 			.transactedAt(LocalDateTime.now())
 			.build();
 	}
 
 	public static Transaction createFailTransaction(Account account, Long amount, TransactionType cancel) {
+		return createFailTransaction(account, amount, cancel, account.getBalance());
+	}
+
+	public static Transaction createFailTransaction(Account account, Long amount, TransactionType cancel,
+		Long balanceSnapshot) {
 		return Transaction.builder()
 			.transactionType(cancel)
 			.transactionResult(FAIL)
 			.account(account)
 			.amount(amount)
-			.balanceSnapshot(account.getBalance())
+			.balanceSnapshot(balanceSnapshot)
 			.transactionId(UUID.randomUUID().toString().replace("-", ""))
 			.transactedAt(LocalDateTime.now())
 			.build();
@@ -1,5 +1,5 @@
 package core.accountserver.domain.transaction;
 
 public enum TransactionType {
-	USE, CANCEL
+	USE, CANCEL, INTEREST, FEE, HOLD, RELEASE
 }
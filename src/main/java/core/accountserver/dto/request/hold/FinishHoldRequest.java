@@ -0,0 +1,20 @@
+package core.accountserver.dto.request.hold;
+
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.constraints.Length;
+
+import core.accountserver.aop.AccountLockRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FinishHoldRequest implements AccountLockRequest {
+
+	@NotNull(message = "홀드 아이디는 필수로 존재해야 합니다.")
+	private final String holdId;
+	@NotNull(message = "계좌번호는 필수로 존재해야 합니다.")
+	@Length(min = 10, max = 10, message = "계좌번호는 10자리여야합니다.")
+	private final String accountNumber;
+}
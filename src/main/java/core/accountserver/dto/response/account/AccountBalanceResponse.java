@@ -0,0 +1,18 @@
+package core.accountserver.dto.response.account;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountBalanceResponse {
+	private String accountNumber;
+	private Long balance;
+	private LocalDateTime at;
+}
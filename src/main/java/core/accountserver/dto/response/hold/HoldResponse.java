@@ -0,0 +1,21 @@
+package core.accountserver.dto.response.hold;
+
+import java.time.LocalDateTime;
+
+import core.accountserver.domain.hold.HoldStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HoldResponse {
+	private String accountNumber;
+	private String holdId;
+	private HoldStatus holdStatus;
+	private Long amount;
+	private LocalDateTime expiresAt;
+}
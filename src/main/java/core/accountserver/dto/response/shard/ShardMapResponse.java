@@ -0,0 +1,29 @@
+package core.accountserver.dto.response.shard;
+
+import java.util.List;
+import java.util.Map;
+
+import core.accountserver.shard.ShardMap;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ShardMapResponse {
+
+	private int shardCount;
+	private int bucketCount;
+	private Map<Integer, List<Integer>> buckets;
+
+	public static ShardMapResponse from(ShardMap shardMap) {
+		return ShardMapResponse.builder()
+			.shardCount(shardMap.getShardCount())
+			.bucketCount(shardMap.getBucketCount())
+			.buckets(shardMap.assignments())
+			.build();
+	}
+}
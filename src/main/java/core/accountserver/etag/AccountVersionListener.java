@@ -0,0 +1,53 @@
+package core.accountserver.etag;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.domain.transaction.Transaction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AccountVersionListener {
+
+	private final ObjectProvider<AccountVersions> accountVersions;
+
+	@PostPersist
+	@PostUpdate
+	public void changed(Object entity) {
+		AccountVersions versions = accountVersions.getIfAvailable();
+		Account account = accountOf(entity);
+		if (versions == null || account == null) {
+			return;
+		}
+		Long userId = account.getAccountUser().getId();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			versions.bump(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				versions.bump(userId);
+			}
+		});
+	}
+
+	private static Account accountOf(Object entity) {
+		if (entity instanceof Account) {
+			return (Account)entity;
+		}
+		if (entity instanceof Transaction) {
+			return ((Transaction)entity).getAccount();
+		}
+		if (entity instanceof BalanceHold) {
+			return ((BalanceHold)entity).getAccount();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,39 @@
+package core.accountserver.etag;
+
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AccountVersions {
+
+	private static final String KEY_PREFIX = "account-version:";
+
+	private final RedissonClient redissonClient;
+
+	public long current(Long userId) {
+		RAtomicLong version = version(userId);
+		long current = version.get();
+		if (current == 0) {
+			version.compareAndSet(0, epoch());
+			current = version.get();
+		}
+		return current;
+	}
+
+	public void bump(Long userId) {
+		RAtomicLong version = version(userId);
+		if (version.incrementAndGet() == 1) {
+			version.compareAndSet(1, epoch());
+		}
+	}
+
+	private RAtomicLong version(Long userId) {
+		return redissonClient.getAtomicLong(KEY_PREFIX + userId);
+	}
+
+	private static long epoch() {
+		return System.currentTimeMillis() * 1000;
+	}
+}
@@ -0,0 +1,70 @@
+package core.accountserver.etag;
+
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.redisson.client.RedisException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+	private static final String ACCOUNTS = "/account";
+	private static final String TRANSACTION = "/transaction/{transactionId}";
+
+	private final AccountVersions accountVersions;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!"GET".equals(request.getMethod())) {
+			return true;
+		}
+		String etag = etag(request);
+		if (etag == null) {
+			return true;
+		}
+		return !new ServletWebRequest(request, response).checkNotModified(etag);
+	}
+
+	private String etag(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (TRANSACTION.equals(pattern)) {
+			Map<?, ?> variables = (Map<?, ?>)request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+			return variables == null ? null : "\"t-" + variables.get("transactionId") + "\"";
+		}
+		if (ACCOUNTS.equals(pattern) && request.getParameter("as_of") == null) {
+			Long userId = userId(request.getParameter("user_id"));
+			return userId == null ? null : accountEtag(userId);
+		}
+		return null;
+	}
+
+	private String accountEtag(Long userId) {
+		try {
+			return "\"a-" + userId + "-" + accountVersions.current(userId) + "\"";
+		} catch (RedisException e) {
+			log.warn("Skipping ETag of userId: {}, account version is unavailable", userId, e);
+			return null;
+		}
+	}
+
+	private static Long userId(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			long userId = Long.parseLong(value);
+			return userId < 1 ? null : userId;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package core.accountserver.exception;
+
+public abstract class BusinessException extends RuntimeException {
+
+	protected BusinessException(String message) {
+		super(message, null, false, false);
+	}
+
+	protected BusinessException(String message, Throwable cause) {
+		super(message, cause, false, false);
+	}
+}
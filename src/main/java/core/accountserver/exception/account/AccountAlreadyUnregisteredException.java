@@ -1,6 +1,8 @@
 package core.accountserver.exception.account;
 
-public class AccountAlreadyUnregisteredException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class AccountAlreadyUnregisteredException extends BusinessException {
 	public AccountAlreadyUnregisteredException(String message) {
 		super(message);
 	}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.account;
 
-public class AccountExceedBalanceException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class AccountExceedBalanceException extends BusinessException {
 	public AccountExceedBalanceException(String message) {
 		super(message);
 	}
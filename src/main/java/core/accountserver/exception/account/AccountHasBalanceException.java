@@ -1,6 +1,8 @@
 package core.accountserver.exception.account;
 
-public class AccountHasBalanceException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class AccountHasBalanceException extends BusinessException {
 	public AccountHasBalanceException(String Exception) {
 		super(Exception);
 	}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.account;
 
-public class AccountNotFoundException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class AccountNotFoundException extends BusinessException {
 	public AccountNotFoundException(String message) {
 		super(message);
 	}
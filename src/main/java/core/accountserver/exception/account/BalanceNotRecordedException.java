@@ -0,0 +1,9 @@
+package core.accountserver.exception.account;
+
+import core.accountserver.exception.BusinessException;
+
+public class BalanceNotRecordedException extends BusinessException {
+	public BalanceNotRecordedException(String message) {
+		super(message);
+	}
+}
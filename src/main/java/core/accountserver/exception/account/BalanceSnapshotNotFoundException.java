@@ -0,0 +1,9 @@
+package core.accountserver.exception.account;
+
+import core.accountserver.exception.BusinessException;
+
+public class BalanceSnapshotNotFoundException extends BusinessException {
+	public BalanceSnapshotNotFoundException(String message) {
+		super(message);
+	}
+}
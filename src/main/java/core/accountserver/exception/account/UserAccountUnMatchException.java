@@ -1,6 +1,8 @@
 package core.accountserver.exception.account;
 
-public class UserAccountUnMatchException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class UserAccountUnMatchException extends BusinessException {
 	public UserAccountUnMatchException(String message) {
 		super(message);
 	}
@@ -0,0 +1,9 @@
+package core.accountserver.exception.accrual;
+
+import core.accountserver.exception.BusinessException;
+
+public class AccrualRunConflictException extends BusinessException {
+	public AccrualRunConflictException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,9 @@
+package core.accountserver.exception.hold;
+
+import core.accountserver.exception.BusinessException;
+
+public class HoldAccountUnMatchException extends BusinessException {
+	public HoldAccountUnMatchException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,9 @@
+package core.accountserver.exception.hold;
+
+import core.accountserver.exception.BusinessException;
+
+public class HoldAlreadyFinishedException extends BusinessException {
+	public HoldAlreadyFinishedException(String message) {
+		super(message);
+	}
+}
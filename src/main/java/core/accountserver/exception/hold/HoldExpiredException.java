@@ -0,0 +1,9 @@
+package core.accountserver.exception.hold;
+
+import core.accountserver.exception.BusinessException;
+
+public class HoldExpiredException extends BusinessException {
+	public HoldExpiredException(String message) {
+		super(message);
+	}
+}
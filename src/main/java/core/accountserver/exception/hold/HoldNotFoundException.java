@@ -0,0 +1,9 @@
+package core.accountserver.exception.hold;
+
+import core.accountserver.exception.BusinessException;
+
+public class HoldNotFoundException extends BusinessException {
+	public HoldNotFoundException(String message) {
+		super(message);
+	}
+}
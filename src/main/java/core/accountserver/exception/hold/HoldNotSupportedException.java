@@ -0,0 +1,9 @@
+package core.accountserver.exception.hold;
+
+import core.accountserver.exception.BusinessException;
+
+public class HoldNotSupportedException extends BusinessException {
+	public HoldNotSupportedException(String message) {
+		super(message);
+	}
+}
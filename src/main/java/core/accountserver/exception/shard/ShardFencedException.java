@@ -0,0 +1,9 @@
+package core.accountserver.exception.shard;
+
+import core.accountserver.exception.BusinessException;
+
+public class ShardFencedException extends BusinessException {
+	public ShardFencedException(String message) {
+		super(message);
+	}
+}
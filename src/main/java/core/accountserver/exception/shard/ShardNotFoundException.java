@@ -0,0 +1,9 @@
+package core.accountserver.exception.shard;
+
+import core.accountserver.exception.BusinessException;
+
+public class ShardNotFoundException extends BusinessException {
+	public ShardNotFoundException(String message) {
+		super(message);
+	}
+}
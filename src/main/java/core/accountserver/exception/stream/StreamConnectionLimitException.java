@@ -0,0 +1,9 @@
+package core.accountserver.exception.stream;
+
+import core.accountserver.exception.BusinessException;
+
+public class StreamConnectionLimitException extends BusinessException {
+	public StreamConnectionLimitException(String message) {
+		super(message);
+	}
+}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.transaction;
 
-public class AccountTransactionUnMatchException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class AccountTransactionUnMatchException extends BusinessException {
 	public AccountTransactionUnMatchException(String message) {
 		super(message);
 	}
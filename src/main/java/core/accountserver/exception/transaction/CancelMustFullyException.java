@@ -1,6 +1,8 @@
 package core.accountserver.exception.transaction;
 
-public class CancelMustFullyException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class CancelMustFullyException extends BusinessException {
 	public CancelMustFullyException(String message) {
 		super(message);
 	}
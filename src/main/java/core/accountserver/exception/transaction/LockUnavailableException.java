@@ -0,0 +1,9 @@
+package core.accountserver.exception.transaction;
+
+import core.accountserver.exception.BusinessException;
+
+public class LockUnavailableException extends BusinessException {
+	public LockUnavailableException(String message) {
+		super(message);
+	}
+}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.transaction;
 
-public class TooOldOrderToCancelException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class TooOldOrderToCancelException extends BusinessException {
 	public TooOldOrderToCancelException(String message) {
 		super(message);
 	}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.transaction;
 
-public class TransactionAlreadyCancelException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class TransactionAlreadyCancelException extends BusinessException {
 	public TransactionAlreadyCancelException(String message) {
 		super(message);
 	}
@@ -1,7 +1,13 @@
 package core.accountserver.exception.transaction;
 
-public class TransactionFailedException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class TransactionFailedException extends BusinessException {
 	public TransactionFailedException(String message) {
 		super(message);
 	}
+
+	public TransactionFailedException(String message, Throwable cause) {
+		super(message, cause);
+	}
 }
@@ -1,6 +1,8 @@
 package core.accountserver.exception.transaction;
 
-public class TransactionHasLockException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class TransactionHasLockException extends BusinessException {
 
 	public TransactionHasLockException(String message) {
 		super(message);
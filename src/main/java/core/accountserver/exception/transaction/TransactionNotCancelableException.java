@@ -0,0 +1,9 @@
+package core.accountserver.exception.transaction;
+
+import core.accountserver.exception.BusinessException;
+
+public class TransactionNotCancelableException extends BusinessException {
+	public TransactionNotCancelableException(String message) {
+		super(message);
+	}
+}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.transaction;
 
-public class TransactionNotFoundException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class TransactionNotFoundException extends BusinessException {
 	public TransactionNotFoundException(String message) {
 		super(message);
 	}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.transaction;
 
-public class TransactionResultFailedException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class TransactionResultFailedException extends BusinessException {
 	public TransactionResultFailedException(String message) {
 		super(message);
 	}
@@ -1,6 +1,8 @@
 package core.accountserver.exception.user;
 
-public class MaxAccountPerUserException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class MaxAccountPerUserException extends BusinessException {
 
 	public MaxAccountPerUserException(String message) {
 		super(message);
@@ -1,6 +1,8 @@
 package core.accountserver.exception.user;
 
-public class UserNotFoundException extends RuntimeException {
+import core.accountserver.exception.BusinessException;
+
+public class UserNotFoundException extends BusinessException {
 	public UserNotFoundException(String message) {
 		super(message);
 	}
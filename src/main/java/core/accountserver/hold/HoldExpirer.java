@@ -0,0 +1,40 @@
+package core.accountserver.hold;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.service.BalanceHoldService;
+import core.accountserver.service.LockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpirer {
+
+	private final BalanceHoldService balanceHoldService;
+	private final LockService lockService;
+
+	@Value("${hold.expire-batch-size}")
+	private int batchSize;
+
+	@Scheduled(fixedDelayString = "${hold.expire-interval-ms}")
+	public void expire() {
+		for (BalanceHold hold : balanceHoldService.findExpired(batchSize)) {
+			String accountNumber = hold.getAccount().getAccountNumber();
+			if (!lockService.tryLock(accountNumber)) {
+				continue;
+			}
+			try {
+				balanceHoldService.expire(hold.getHoldId(), accountNumber);
+			} catch (RuntimeException e) {
+				log.warn("Failed to expire holdId: {}", hold.getHoldId(), e);
+			} finally {
+				lockService.unlock(accountNumber);
+			}
+		}
+	}
+}
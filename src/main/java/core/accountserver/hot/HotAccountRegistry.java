@@ -0,0 +1,52 @@
+package core.accountserver.hot;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class HotAccountRegistry {
+
+	private final Set<String> accountNumbers = ConcurrentHashMap.newKeySet();
+	private final ThreadLocal<String> skippedLock = new ThreadLocal<>();
+
+	public boolean isHot(String accountNumber) {
+		return !accountNumbers.isEmpty() && accountNumbers.contains(accountNumber);
+	}
+
+	public void register(String accountNumber) {
+		accountNumbers.add(accountNumber);
+	}
+
+	public void replaceAll(Collection<String> hotAccountNumbers) {
+		Set<String> current = Set.copyOf(hotAccountNumbers);
+		accountNumbers.retainAll(current);
+		accountNumbers.addAll(current);
+	}
+
+	public void unregister(String accountNumber) {
+		accountNumbers.remove(accountNumber);
+	}
+
+	public boolean skipLock(String accountNumber) {
+		if (!isHot(accountNumber)) {
+			return false;
+		}
+		skippedLock.set(accountNumber);
+		return true;
+	}
+
+	public boolean isLockSkipped(String accountNumber) {
+		return accountNumber.equals(skippedLock.get());
+	}
+
+	public void clearSkippedLock() {
+		skippedLock.remove();
+	}
+
+	public Set<String> accountNumbers() {
+		return Set.copyOf(accountNumbers);
+	}
+}
@@ -0,0 +1,273 @@
+package core.accountserver.hot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountBalanceSlot;
+import core.accountserver.exception.account.AccountExceedBalanceException;
+import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.repository.AccountBalanceSlotRepository;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.service.LockService;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SplitBalances {
+
+	private final AccountRepository accountRepository;
+	private final AccountBalanceSlotRepository slotRepository;
+	private final LockService lockService;
+	private final HotAccountRegistry hotAccountRegistry;
+	private final TransactionTemplate transactionTemplate;
+	private final int slotCount;
+	private final double lowWatermark;
+
+	public SplitBalances(AccountRepository accountRepository, AccountBalanceSlotRepository slotRepository,
+		LockService lockService, HotAccountRegistry hotAccountRegistry, PlatformTransactionManager transactionManager,
+		int slotCount, double lowWatermark) {
+		this.accountRepository = accountRepository;
+		this.slotRepository = slotRepository;
+		this.lockService = lockService;
+		this.hotAccountRegistry = hotAccountRegistry;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.slotCount = slotCount;
+		this.lowWatermark = lowWatermark;
+	}
+
+	public void refresh() {
+		hotAccountRegistry.replaceAll(slotRepository.findHotAccountNumbers());
+	}
+
+	public long total(Account account) {
+		return account.getBalance() + slotRepository.sumBalance(account);
+	}
+
+	public boolean isSplit(String accountNumber) {
+		return slotRepository.existsByAccountAccountNumber(accountNumber);
+	}
+
+	public long debit(Account account, long amount) {
+		List<AccountBalanceSlot> slots = slotRepository.findByAccountOrderBySlotIndex(account);
+		if (slots.isEmpty()) {
+			return debitUnsplit(account, amount);
+		}
+		int start = ThreadLocalRandom.current().nextInt(slots.size());
+		for (int i = 0; i < slots.size(); i++) {
+			AccountBalanceSlot slot = slots.get((start + i) % slots.size());
+			String slotKey = slotKey(account, slot);
+			if (slot.getBalance() < amount || !lockService.tryLock(slotKey)) {
+				continue;
+			}
+			if (slotRepository.debit(slot.getId(), amount) == 1) {
+				unlockAfterCompletion(slotKey);
+				return account.getBalance() + slotRepository.sumBalance(account);
+			}
+			lockService.unlock(slotKey);
+		}
+		return debitAcrossSlots(account, slots, amount);
+	}
+
+	private long debitAcrossSlots(Account account, List<AccountBalanceSlot> slots, long amount) {
+		long[] balances = new long[slots.size()];
+		long available = 0;
+		for (int i = 0; i < slots.size(); i++) {
+			String slotKey = slotKey(account, slots.get(i));
+			lockService.lock(slotKey);
+			unlockAfterCompletion(slotKey);
+			balances[i] = slotRepository.findBalanceById(slots.get(i).getId());
+			available += balances[i];
+		}
+		if (available < amount) {
+			throw new AccountExceedBalanceException("거래금액이 계좌 잔액보다 큽니다.");
+		}
+		long remaining = amount;
+		for (int i = 0; i < slots.size() && remaining > 0; i++) {
+			long part = Math.min(balances[i], remaining);
+			if (part > 0) {
+				slotRepository.debit(slots.get(i).getId(), part);
+				remaining -= part;
+			}
+		}
+		return account.getBalance() + available - amount;
+	}
+
+	private long debitUnsplit(Account account, long amount) {
+		String accountNumber = account.getAccountNumber();
+		if (!hotAccountRegistry.isLockSkipped(accountNumber)) {
+			account.useBalance(amount);
+			return account.getBalance();
+		}
+		lockService.lock(accountNumber);
+		unlockAfterCompletion(accountNumber);
+		if (accountRepository.reserveBalance(account.getId(), amount) == 0) {
+			throw new AccountExceedBalanceException("거래금액이 계좌 잔액보다 큽니다.");
+		}
+		return accountRepository.findBalanceById(account.getId());
+	}
+
+	public long credit(Account account, long amount) {
+		List<AccountBalanceSlot> slots = slotRepository.findByAccountOrderBySlotIndex(account);
+		if (slots.isEmpty()) {
+			account.cancelBalance(amount);
+			return account.getBalance();
+		}
+		AccountBalanceSlot lowest = slots.get(0);
+		for (AccountBalanceSlot slot : slots) {
+			if (slot.getBalance() < lowest.getBalance()) {
+				lowest = slot;
+			}
+		}
+		lockService.lock(slotKey(account, lowest));
+		unlockAfterCompletion(slotKey(account, lowest));
+		slotRepository.credit(lowest.getId(), amount);
+		return account.getBalance() + sum(slots) + amount;
+	}
+
+	public void split(String accountNumber) {
+		lockService.lock(accountNumber);
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				Account account = findAccount(accountNumber);
+				if (!slotRepository.findByAccountOrderBySlotIndex(account).isEmpty()) {
+					return;
+				}
+				long[] balances = distribute(account.detachBalance(), slotCount);
+				List<AccountBalanceSlot> slots = new ArrayList<>(slotCount);
+				for (int i = 0; i < slotCount; i++) {
+					slots.add(AccountBalanceSlot.create(account, i, balances[i]));
+				}
+				slotRepository.saveAll(slots);
+			});
+			hotAccountRegistry.register(accountNumber);
+		} finally {
+			lockService.unlock(accountNumber);
+		}
+	}
+
+	public void merge(String accountNumber) {
+		lockService.lock(accountNumber);
+		hotAccountRegistry.unregister(accountNumber);
+		List<String> slotKeys = new ArrayList<>();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				Account account = findAccount(accountNumber);
+				List<AccountBalanceSlot> slots = slotRepository.findByAccountOrderBySlotIndex(account);
+				for (AccountBalanceSlot slot : slots) {
+					lockService.lock(slotKey(account, slot));
+					slotKeys.add(slotKey(account, slot));
+				}
+				account.attachBalance(slotRepository.sumBalance(account));
+				slotRepository.deleteAll(slots);
+			});
+		} catch (RuntimeException e) {
+			hotAccountRegistry.register(accountNumber);
+			throw e;
+		} finally {
+			slotKeys.forEach(lockService::unlock);
+			lockService.unlock(accountNumber);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${hot-account.rebalance-interval-ms}")
+	public void rebalance() {
+		refresh();
+		for (String accountNumber : hotAccountRegistry.accountNumbers()) {
+			try {
+				rebalance(accountNumber);
+			} catch (RuntimeException e) {
+				log.warn("Failed to rebalance slots of accountNumber: {}", accountNumber, e);
+			}
+		}
+	}
+
+	private void rebalance(String accountNumber) {
+		List<String> slotKeys = transactionTemplate.execute(status -> lowSlotKeys(findAccount(accountNumber)));
+		if (slotKeys == null || slotKeys.isEmpty()) {
+			return;
+		}
+		List<String> locked = new ArrayList<>(slotKeys.size());
+		try {
+			for (String slotKey : slotKeys) {
+				if (!lockService.tryLock(slotKey)) {
+					return;
+				}
+				locked.add(slotKey);
+			}
+			transactionTemplate.executeWithoutResult(status -> {
+				List<AccountBalanceSlot> slots = slotRepository.findByAccountOrderBySlotIndex(
+					findAccount(accountNumber));
+				long[] balances = distribute(sum(slots), slots.size());
+				for (int i = 0; i < slots.size(); i++) {
+					slots.get(i).rebalance(balances[i]);
+				}
+			});
+		} finally {
+			locked.forEach(lockService::unlock);
+		}
+	}
+
+	private List<String> lowSlotKeys(Account account) {
+		List<AccountBalanceSlot> slots = slotRepository.findByAccountOrderBySlotIndex(account);
+		List<String> slotKeys = new ArrayList<>(slots.size());
+		if (slots.isEmpty() || !isLow(slots)) {
+			return slotKeys;
+		}
+		for (AccountBalanceSlot slot : slots) {
+			slotKeys.add(slotKey(account, slot));
+		}
+		return slotKeys;
+	}
+
+	private boolean isLow(List<AccountBalanceSlot> slots) {
+		long total = sum(slots);
+		long threshold = (long)(total / slots.size() * lowWatermark);
+		for (AccountBalanceSlot slot : slots) {
+			if (slot.getBalance() < threshold) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public Account findAccount(String accountNumber) {
+		return accountRepository.findByAccountNumber(accountNumber)
+			.orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
+	}
+
+	private void unlockAfterCompletion(String lockKey) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				lockService.unlock(lockKey);
+			}
+		});
+	}
+
+	private static long[] distribute(long total, int slotCount) {
+		long[] balances = new long[slotCount];
+		for (int i = 0; i < slotCount; i++) {
+			balances[i] = total / slotCount + (i < total % slotCount ? 1 : 0);
+		}
+		return balances;
+	}
+
+	private static long sum(List<AccountBalanceSlot> slots) {
+		long sum = 0;
+		for (AccountBalanceSlot slot : slots) {
+			sum += slot.getBalance();
+		}
+		return sum;
+	}
+
+	private static String slotKey(Account account, AccountBalanceSlot slot) {
+		return account.getAccountNumber() + "#" + slot.getSlotIndex();
+	}
+}
@@ -0,0 +1,238 @@
+package core.accountserver.ledger;
+
+import static core.accountserver.ledger.LedgerRecord.*;
+import static core.accountserver.ledger.LedgerTables.*;
+import static core.accountserver.policy.TransactionConstant.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import core.accountserver.domain.transaction.TransactionResult;
+import core.accountserver.domain.transaction.TransactionType;
+import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
+import core.accountserver.exception.account.AccountExceedBalanceException;
+import core.accountserver.exception.account.AccountHasBalanceException;
+import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.UserAccountUnMatchException;
+import core.accountserver.exception.transaction.AccountTransactionUnMatchException;
+import core.accountserver.exception.transaction.CancelMustFullyException;
+import core.accountserver.exception.transaction.TooOldOrderToCancelException;
+import core.accountserver.exception.transaction.TransactionAlreadyCancelException;
+import core.accountserver.exception.transaction.TransactionNotFoundException;
+import core.accountserver.exception.transaction.TransactionResultFailedException;
+
+public class InMemoryLedger {
+
+	private static final int EXPIRE_BATCH = 10_000;
+
+	private final WriteAheadLog writeAheadLog;
+	private final LedgerSnapshotStore snapshotStore;
+	private final TransactionIdCodec transactionIdCodec;
+	private final Object snapshotLock = new Object();
+	private LedgerTables live;
+	private LedgerTables shadow;
+	private long snapshotSequence;
+
+	public InMemoryLedger(WriteAheadLog writeAheadLog, LedgerSnapshotStore snapshotStore,
+		TransactionIdCodec transactionIdCodec, int expectedAccounts, int expectedTransactions) {
+		this.writeAheadLog = writeAheadLog;
+		this.snapshotStore = snapshotStore;
+		this.transactionIdCodec = transactionIdCodec;
+		this.live = new LedgerTables(expectedAccounts, expectedTransactions);
+	}
+
+	public synchronized void recover() {
+		snapshotStore.readLatest().ifPresent(snapshot -> {
+			live = new LedgerTables(snapshot.getAccounts(), snapshot.getTransactions(), snapshot.getLastSequence());
+			snapshotSequence = snapshot.getLastSequence();
+		});
+		long restored = snapshotSequence;
+		long lastSequence = writeAheadLog.replay(record -> {
+			if (record.getSequence() > restored) {
+				live.apply(record);
+			}
+		});
+		live.sequence = Math.max(restored, lastSequence);
+		expireAll(live, cancelBound());
+		shadow = live.copy();
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.snapshot.interval-ms}", initialDelayString = "${ledger.snapshot.interval-ms}")
+	public void snapshot() {
+		synchronized (snapshotLock) {
+			long cancelBound = cancelBound();
+			boolean remaining = true;
+			long lastSequence = 0;
+			while (remaining) {
+				synchronized (this) {
+					remaining = live.expire(cancelBound, EXPIRE_BATCH);
+					lastSequence = live.sequence;
+				}
+			}
+			if (lastSequence == snapshotSequence) {
+				return;
+			}
+			writeAheadLog.read(shadow.sequence, lastSequence, shadow::apply);
+			expireAll(shadow, cancelBound);
+			snapshotStore.write(new LedgerSnapshot(lastSequence, shadow.accounts, shadow.transactions));
+			synchronized (this) {
+				snapshotSequence = lastSequence;
+				writeAheadLog.deleteSegmentsBefore(lastSequence);
+			}
+		}
+	}
+
+	public synchronized boolean contains(long accountNumber) {
+		return live.accounts.indexOf(accountNumber) >= 0;
+	}
+
+	public synchronized OptionalLong balance(long accountNumber) {
+		int account = accountNumber == LedgerKeys.INVALID ? -1 : live.accounts.indexOf(accountNumber);
+		return account < 0 ? OptionalLong.empty() : OptionalLong.of(live.accounts.get(account, BALANCE));
+	}
+
+	public synchronized void open(long accountNumber, long userId, long balance, boolean unregistered) {
+		if (live.accounts.indexOf(accountNumber) >= 0) {
+			return;
+		}
+		journal(OPEN, accountNumber, userId, 0, balance, unregistered ? UNREGISTERED : 0);
+	}
+
+	public synchronized void unregister(long accountNumber) {
+		int account = findAccount(accountNumber);
+		validAccount(account);
+		long balance = live.accounts.get(account, BALANCE);
+		if (balance > 0) {
+			throw new AccountHasBalanceException("해지하려는 계좌에 잔액이 존재합니다.");
+		}
+		journal(UNREGISTER, accountNumber, live.accounts.get(account, USER_ID), 0, balance, UNREGISTERED);
+	}
+
+	public synchronized LedgerEntry use(long userId, long accountNumber, long amount) {
+		int account = findAccount(accountNumber);
+		if (live.accounts.get(account, USER_ID) != userId) {
+			throw new UserAccountUnMatchException("사용자와 계좌의 소유주가 다릅니다.");
+		}
+		validAccount(account);
+		long balance = live.accounts.get(account, BALANCE);
+		if (balance < amount) {
+			throw new AccountExceedBalanceException("거래금액이 계좌 잔액보다 큽니다.");
+		}
+		return toEntry(journal(USE, accountNumber, userId, amount, balance - amount, 0));
+	}
+
+	public synchronized LedgerEntry cancel(String transactionId, long accountNumber, long amount) {
+		int account = findAccount(accountNumber);
+		validAccount(account);
+		long target = transactionIdCodec.decode(transactionId);
+		int transaction = target == LedgerKeys.INVALID ? -1 : live.transactions.indexOf(target);
+		if (transaction < 0) {
+			throw new TransactionNotFoundException("해당 거래내역이 존재하지 않습니다.");
+		}
+		validCancel(transaction, accountNumber, amount);
+		long balance = live.accounts.get(account, BALANCE) + amount;
+		return toEntry(journal(CANCEL, accountNumber, live.accounts.get(account, USER_ID), amount, balance, target));
+	}
+
+	public synchronized LedgerEntry fail(long accountNumber, long amount, TransactionType transactionType) {
+		int account = findAccount(accountNumber);
+		int type = transactionType == TransactionType.USE ? FAIL_USE : FAIL_CANCEL;
+		return toEntry(journal(type, accountNumber, live.accounts.get(account, USER_ID), amount,
+			live.accounts.get(account, BALANCE), 0));
+	}
+
+	public synchronized Optional<LedgerEntry> find(String transactionId) {
+		long target = transactionIdCodec.decode(transactionId);
+		int transaction = target == LedgerKeys.INVALID ? -1 : live.transactions.indexOf(target);
+		if (transaction < 0) {
+			return Optional.empty();
+		}
+		long accountNumber = live.transactions.get(transaction, ACCOUNT);
+		return Optional.of(toEntry(target, (int)live.transactions.get(transaction, TYPE), accountNumber,
+			live.accounts.get(findAccount(accountNumber), USER_ID), live.transactions.get(transaction, AMOUNT),
+			live.transactions.get(transaction, BALANCE_AFTER), live.transactions.get(transaction, TRANSACTED_AT)));
+	}
+
+	@Scheduled(fixedDelayString = "${ledger.wal.fsync-interval-ms}")
+	public synchronized void sync() {
+		writeAheadLog.sync();
+	}
+
+	private static void expireAll(LedgerTables tables, long cancelBound) {
+		boolean remaining = true;
+		while (remaining) {
+			remaining = tables.expire(cancelBound, EXPIRE_BATCH);
+		}
+	}
+
+	private static long cancelBound() {
+		return ZonedDateTime.now()
+			.minusYears(MAX_TRANSACTION_CANCEL_YEARS_BOUND)
+			.toInstant()
+			.toEpochMilli();
+	}
+
+	private int findAccount(long accountNumber) {
+		int account = accountNumber == LedgerKeys.INVALID ? -1 : live.accounts.indexOf(accountNumber);
+		if (account < 0) {
+			throw new AccountNotFoundException("해당 계좌가 존재하지 않습니다.");
+		}
+		return account;
+	}
+
+	private void validAccount(int account) {
+		if (live.accounts.get(account, STATUS) == UNREGISTERED) {
+			throw new AccountAlreadyUnregisteredException("이미 해지된 계좌번호 입니다.");
+		}
+	}
+
+	private void validCancel(int transaction, long accountNumber, long amount) {
+		if (live.transactions.get(transaction, ACCOUNT) != accountNumber) {
+			throw new AccountTransactionUnMatchException("해당계좌에서 발생된 거래가 아닙니다.");
+		}
+		long type = live.transactions.get(transaction, TYPE);
+		if (type == CANCEL || live.transactions.get(transaction, CANCELED) != 0) {
+			throw new TransactionAlreadyCancelException("이미 취소된 거래입니다.");
+		}
+		if (type != USE) {
+			throw new TransactionResultFailedException("해당 거래는 실패한 거래입니다.");
+		}
+		if (live.transactions.get(transaction, TRANSACTED_AT) < cancelBound()) {
+			throw new TooOldOrderToCancelException("취소 가능한 거래 날짜가 지났습니다.");
+		}
+		if (live.transactions.get(transaction, AMOUNT) != amount) {
+			throw new CancelMustFullyException("취소금액은 거래된 금액과 일치 해야 합니다.");
+		}
+	}
+
+	private LedgerRecord journal(int type, long accountNumber, long userId, long amount, long balance,
+		long reference) {
+		LedgerRecord record = new LedgerRecord(live.sequence + 1, type, accountNumber, userId, amount, balance, reference,
+			System.currentTimeMillis());
+		writeAheadLog.append(record);
+		live.apply(record);
+		return record;
+	}
+
+	private LedgerEntry toEntry(LedgerRecord record) {
+		return toEntry(record.getSequence(), record.getType(), record.getAccountNumber(), record.getUserId(),
+			record.getAmount(), record.getBalance(), record.getTransactedAt());
+	}
+
+	private LedgerEntry toEntry(long sequence, int type, long accountNumber, long userId, long amount, long balance,
+		long transactedAt) {
+		TransactionType transactionType = type == USE || type == FAIL_USE
+			? TransactionType.USE : TransactionType.CANCEL;
+		TransactionResult transactionResult = type == USE || type == CANCEL ? TransactionResult.SUCCESS
+			: TransactionResult.FAIL;
+		return new LedgerEntry(transactionIdCodec.encode(sequence), LedgerKeys.accountNumber(accountNumber), userId,
+			transactionType, transactionResult, amount, balance,
+			LocalDateTime.ofInstant(Instant.ofEpochMilli(transactedAt), ZoneId.systemDefault()));
+	}
+}
@@ -0,0 +1,21 @@
+package core.accountserver.ledger;
+
+import java.time.LocalDateTime;
+
+import core.accountserver.domain.transaction.TransactionResult;
+import core.accountserver.domain.transaction.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LedgerEntry {
+	private final String transactionId;
+	private final String accountNumber;
+	private final long userId;
+	private final TransactionType transactionType;
+	private final TransactionResult transactionResult;
+	private final long amount;
+	private final long balance;
+	private final LocalDateTime transactedAt;
+}
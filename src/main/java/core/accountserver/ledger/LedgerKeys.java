@@ -0,0 +1,29 @@
+package core.accountserver.ledger;
+
+public final class LedgerKeys {
+
+	public static final long INVALID = -1L;
+	private static final int ACCOUNT_NUMBER_LENGTH = 10;
+
+	private LedgerKeys() {
+	}
+
+	public static long accountNumber(String accountNumber) {
+		if (accountNumber == null || accountNumber.length() != ACCOUNT_NUMBER_LENGTH) {
+			return INVALID;
+		}
+		long value = 0;
+		for (int i = 0; i < ACCOUNT_NUMBER_LENGTH; i++) {
+			char c = accountNumber.charAt(i);
+			if (c < '0' || c > '9') {
+				return INVALID;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	public static String accountNumber(long accountNumber) {
+		return String.format("%010d", accountNumber);
+	}
+}
@@ -0,0 +1,24 @@
+package core.accountserver.ledger;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LedgerRecord {
+	public static final int OPEN = 1;
+	public static final int USE = 2;
+	public static final int CANCEL = 3;
+	public static final int FAIL_USE = 4;
+	public static final int FAIL_CANCEL = 5;
+	public static final int UNREGISTER = 6;
+
+	private final long sequence;
+	private final int type;
+	private final long accountNumber;
+	private final long userId;
+	private final long amount;
+	private final long balance;
+	private final long reference;
+	private final long transactedAt;
+}
@@ -0,0 +1,13 @@
+package core.accountserver.ledger;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LedgerSnapshot {
+
+	private final long lastSequence;
+	private final LongHashTable accounts;
+	private final LongHashTable transactions;
+}
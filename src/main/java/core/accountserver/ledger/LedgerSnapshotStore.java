@@ -0,0 +1,155 @@
+package core.accountserver.ledger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LedgerSnapshotStore {
+
+	private static final int MAGIC = 0x4C534E50;
+	private static final int VERSION = 1;
+	private static final String SNAPSHOT_PREFIX = "snapshot-";
+	private static final String SNAPSHOT_SUFFIX = ".bin";
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final Path directory;
+	private final int retain;
+
+	public LedgerSnapshotStore(Path directory, int retain) {
+		if (retain < 1) {
+			throw new IllegalArgumentException("보관할 스냅샷 수는 1 이상이어야 합니다.");
+		}
+		this.directory = directory;
+		this.retain = retain;
+	}
+
+	public void write(LedgerSnapshot snapshot) {
+		Path target = snapshotPath(snapshot.getLastSequence());
+		Path temp = directory.resolve(target.getFileName() + TEMP_SUFFIX);
+		try {
+			Files.createDirectories(directory);
+			try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+				CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), new CRC32());
+				DataOutputStream out = new DataOutputStream(checked);
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(snapshot.getLastSequence());
+				writeTable(out, snapshot.getAccounts());
+				writeTable(out, snapshot.getTransactions());
+				out.flush();
+				out.writeLong(checked.getChecksum().getValue());
+				out.flush();
+				file.getFD().sync();
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			deleteExpired();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		log.info("Wrote ledger snapshot at sequence {} ({} accounts, {} transactions)",
+			snapshot.getLastSequence(), snapshot.getAccounts().size(), snapshot.getTransactions().size());
+	}
+
+	public Optional<LedgerSnapshot> readLatest() {
+		List<Path> snapshots = snapshots();
+		Collections.reverse(snapshots);
+		for (Path snapshot : snapshots) {
+			try {
+				return Optional.of(read(snapshot));
+			} catch (IOException | IllegalStateException e) {
+				log.warn("Skipped unreadable ledger snapshot {}", snapshot, e);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private LedgerSnapshot read(Path snapshot) throws IOException {
+		try (CheckedInputStream checked = new CheckedInputStream(
+			new BufferedInputStream(Files.newInputStream(snapshot)), new CRC32())) {
+			DataInputStream in = new DataInputStream(checked);
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				throw new IllegalStateException("지원하지 않는 스냅샷 형식입니다.");
+			}
+			long lastSequence = in.readLong();
+			LongHashTable accounts = readTable(in);
+			LongHashTable transactions = readTable(in);
+			long expected = checked.getChecksum().getValue();
+			if (in.readLong() != expected) {
+				throw new IllegalStateException("스냅샷 체크섬이 일치하지 않습니다.");
+			}
+			return new LedgerSnapshot(lastSequence, accounts, transactions);
+		}
+	}
+
+	private void writeTable(DataOutputStream out, LongHashTable table) throws IOException {
+		out.writeInt(table.columnCount());
+		out.writeInt(table.size());
+		for (int index = 0; index < table.capacity(); index++) {
+			if (!table.isOccupied(index)) {
+				continue;
+			}
+			out.writeLong(table.keyAt(index));
+			for (int column = 0; column < table.columnCount(); column++) {
+				out.writeLong(table.get(index, column));
+			}
+		}
+	}
+
+	private LongHashTable readTable(DataInputStream in) throws IOException {
+		int columnCount = in.readInt();
+		int size = in.readInt();
+		LongHashTable table = new LongHashTable(columnCount, size);
+		for (int row = 0; row < size; row++) {
+			int index = table.insert(in.readLong());
+			for (int column = 0; column < columnCount; column++) {
+				table.set(index, column, in.readLong());
+			}
+		}
+		return table;
+	}
+
+	private void deleteExpired() throws IOException {
+		List<Path> snapshots = snapshots();
+		for (int i = 0; i < snapshots.size() - retain; i++) {
+			Files.deleteIfExists(snapshots.get(i));
+		}
+	}
+
+	private List<Path> snapshots() {
+		if (!Files.isDirectory(directory)) {
+			return Collections.emptyList();
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> {
+					String name = path.getFileName().toString();
+					return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+				})
+				.sorted()
+				.collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Path snapshotPath(long lastSequence) {
+		return directory.resolve(String.format("%s%019d%s", SNAPSHOT_PREFIX, lastSequence, SNAPSHOT_SUFFIX));
+	}
+}
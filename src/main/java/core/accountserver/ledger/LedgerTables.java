@@ -0,0 +1,94 @@
+package core.accountserver.ledger;
+
+import static core.accountserver.ledger.LedgerRecord.*;
+
+class LedgerTables {
+
+	static final int USER_ID = 0;
+	static final int BALANCE = 1;
+	static final int STATUS = 2;
+
+	static final int ACCOUNT = 0;
+	static final int AMOUNT = 1;
+	static final int BALANCE_AFTER = 2;
+	static final int TYPE = 3;
+	static final int CANCELED = 4;
+	static final int TRANSACTED_AT = 5;
+
+	static final long UNREGISTERED = 1L;
+
+	final LongHashTable accounts;
+	final LongHashTable transactions;
+	long sequence;
+	private long expireCursor;
+
+	LedgerTables(int expectedAccounts, int expectedTransactions) {
+		this(new LongHashTable(3, expectedAccounts), new LongHashTable(6, expectedTransactions), 0);
+	}
+
+	LedgerTables(LongHashTable accounts, LongHashTable transactions, long sequence) {
+		this.accounts = accounts;
+		this.transactions = transactions;
+		this.sequence = sequence;
+		this.expireCursor = sequence + 1;
+		for (int index = 0; index < transactions.capacity(); index++) {
+			if (transactions.isOccupied(index)) {
+				expireCursor = Math.min(expireCursor, transactions.keyAt(index));
+			}
+		}
+	}
+
+	LedgerTables copy() {
+		return new LedgerTables(accounts.copy(), transactions.copy(), sequence);
+	}
+
+	void apply(LedgerRecord record) {
+		sequence = record.getSequence();
+		if (record.getType() == OPEN) {
+			int account = accounts.insert(record.getAccountNumber());
+			accounts.set(account, USER_ID, record.getUserId());
+			accounts.set(account, BALANCE, record.getBalance());
+			accounts.set(account, STATUS, record.getReference());
+			return;
+		}
+		int account = accounts.indexOf(record.getAccountNumber());
+		if (record.getType() == UNREGISTER) {
+			if (account >= 0) {
+				accounts.set(account, STATUS, UNREGISTERED);
+			}
+			return;
+		}
+		if (account >= 0) {
+			accounts.set(account, BALANCE, record.getBalance());
+		}
+		int transaction = transactions.insert(record.getSequence());
+		transactions.set(transaction, ACCOUNT, record.getAccountNumber());
+		transactions.set(transaction, AMOUNT, record.getAmount());
+		transactions.set(transaction, BALANCE_AFTER, record.getBalance());
+		transactions.set(transaction, TYPE, record.getType());
+		transactions.set(transaction, TRANSACTED_AT, record.getTransactedAt());
+		if (record.getType() == CANCEL) {
+			int original = transactions.indexOf(record.getReference());
+			if (original >= 0) {
+				transactions.set(original, CANCELED, 1L);
+			}
+		}
+	}
+
+	boolean expire(long cancelBound, int limit) {
+		for (int step = 0; step < limit; step++) {
+			if (expireCursor > sequence) {
+				return false;
+			}
+			int transaction = transactions.indexOf(expireCursor);
+			if (transaction >= 0) {
+				if (transactions.get(transaction, TRANSACTED_AT) >= cancelBound) {
+					return false;
+				}
+				transactions.remove(transaction);
+			}
+			expireCursor++;
+		}
+		return true;
+	}
+}
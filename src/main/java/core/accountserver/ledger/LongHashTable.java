@@ -0,0 +1,156 @@
+package core.accountserver.ledger;
+
+import java.util.Arrays;
+
+public class LongHashTable {
+
+	private static final long EMPTY = Long.MIN_VALUE;
+	private static final int MIN_CAPACITY = 16;
+
+	private final int columnCount;
+	private long[] keys;
+	private long[][] columns;
+	private int mask;
+	private int size;
+
+	public LongHashTable(int columnCount, int expectedSize) {
+		this.columnCount = columnCount;
+		allocate(capacityFor(expectedSize));
+	}
+
+	public int indexOf(long key) {
+		int index = hash(key) & mask;
+		while (true) {
+			long current = keys[index];
+			if (current == key) {
+				return index;
+			}
+			if (current == EMPTY) {
+				return -1;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	public int insert(long key) {
+		if (key == EMPTY) {
+			throw new IllegalArgumentException("사용할 수 없는 키 입니다.");
+		}
+		if ((size + 1) * 2 > keys.length) {
+			resize(keys.length * 2);
+		}
+		int index = hash(key) & mask;
+		while (keys[index] != EMPTY) {
+			if (keys[index] == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = key;
+		size++;
+		return index;
+	}
+
+	public void remove(int index) {
+		int hole = index;
+		int next = (hole + 1) & mask;
+		while (keys[next] != EMPTY) {
+			int home = hash(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				keys[hole] = keys[next];
+				for (int column = 0; column < columnCount; column++) {
+					columns[column][hole] = columns[column][next];
+				}
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[hole] = EMPTY;
+		for (int column = 0; column < columnCount; column++) {
+			columns[column][hole] = 0;
+		}
+		size--;
+	}
+
+	public long get(int index, int column) {
+		return columns[column][index];
+	}
+
+	public void set(int index, int column, long value) {
+		columns[column][index] = value;
+	}
+
+	public int capacity() {
+		return keys.length;
+	}
+
+	public boolean isOccupied(int index) {
+		return keys[index] != EMPTY;
+	}
+
+	public long keyAt(int index) {
+		return keys[index];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int columnCount() {
+		return columnCount;
+	}
+
+	public LongHashTable copy() {
+		LongHashTable copy = new LongHashTable(columnCount, 0);
+		copy.keys = keys.clone();
+		copy.columns = new long[columnCount][];
+		for (int column = 0; column < columnCount; column++) {
+			copy.columns[column] = columns[column].clone();
+		}
+		copy.mask = mask;
+		copy.size = size;
+		return copy;
+	}
+
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		long[][] oldColumns = columns;
+		int oldSize = size;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == EMPTY) {
+				continue;
+			}
+			int index = hash(oldKeys[i]) & mask;
+			while (keys[index] != EMPTY) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = oldKeys[i];
+			for (int column = 0; column < columnCount; column++) {
+				columns[column][index] = oldColumns[column][i];
+			}
+		}
+		size = oldSize;
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		columns = new long[columnCount][capacity];
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity < expectedSize * 2L) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+}
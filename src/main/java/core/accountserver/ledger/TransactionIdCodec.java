@@ -0,0 +1,85 @@
+package core.accountserver.ledger;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+public class TransactionIdCodec {
+
+	private static final int BLOCK_SIZE = 16;
+	private static final int TRANSACTION_ID_LENGTH = BLOCK_SIZE * 2;
+
+	private final ThreadLocal<Cipher> encryptor;
+	private final ThreadLocal<Cipher> decryptor;
+
+	public TransactionIdCodec(String hexKey) {
+		if (hexKey == null || hexKey.length() != TRANSACTION_ID_LENGTH) {
+			throw new IllegalArgumentException("거래 ID 키는 32자리 16진수여야 합니다.");
+		}
+		SecretKeySpec key = new SecretKeySpec(parseHex(hexKey), "AES");
+		this.encryptor = ThreadLocal.withInitial(() -> cipher(Cipher.ENCRYPT_MODE, key));
+		this.decryptor = ThreadLocal.withInitial(() -> cipher(Cipher.DECRYPT_MODE, key));
+	}
+
+	public String encode(long sequence) {
+		byte[] block = ByteBuffer.allocate(BLOCK_SIZE).putLong(0L).putLong(sequence).array();
+		byte[] encrypted = apply(encryptor.get(), block);
+		StringBuilder transactionId = new StringBuilder(TRANSACTION_ID_LENGTH);
+		for (byte value : encrypted) {
+			transactionId.append(Character.forDigit((value >> 4) & 0xF, 16))
+				.append(Character.forDigit(value & 0xF, 16));
+		}
+		return transactionId.toString();
+	}
+
+	public long decode(String transactionId) {
+		if (transactionId == null || transactionId.length() != TRANSACTION_ID_LENGTH) {
+			return LedgerKeys.INVALID;
+		}
+		byte[] block;
+		try {
+			block = parseHex(transactionId);
+		} catch (IllegalArgumentException e) {
+			return LedgerKeys.INVALID;
+		}
+		ByteBuffer decrypted = ByteBuffer.wrap(apply(decryptor.get(), block));
+		if (decrypted.getLong() != 0L) {
+			return LedgerKeys.INVALID;
+		}
+		long sequence = decrypted.getLong();
+		return sequence > 0 ? sequence : LedgerKeys.INVALID;
+	}
+
+	private static byte[] apply(Cipher cipher, byte[] block) {
+		try {
+			return cipher.doFinal(block);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Cipher cipher(int mode, SecretKeySpec key) {
+		try {
+			Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+			cipher.init(mode, key);
+			return cipher;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] parseHex(String hex) {
+		byte[] bytes = new byte[hex.length() / 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int high = Character.digit(hex.charAt(i * 2), 16);
+			int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+			if (high < 0 || low < 0) {
+				throw new IllegalArgumentException("16진수 문자열이 아닙니다.");
+			}
+			bytes[i] = (byte)((high << 4) | low);
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,240 @@
+package core.accountserver.ledger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class WriteAheadLog implements Closeable {
+
+	static final int RECORD_SIZE = 64;
+	private static final int CHECKSUM_OFFSET = 60;
+	private static final String SEGMENT_PREFIX = "wal-";
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int fsyncEvery;
+	private final CRC32 crc32 = new CRC32();
+
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+	private long segmentIndex;
+	private int unsynced;
+
+	public WriteAheadLog(Path directory, int segmentSize, int fsyncEvery) {
+		if (segmentSize < RECORD_SIZE || segmentSize % RECORD_SIZE != 0) {
+			throw new IllegalArgumentException("세그먼트 크기는 " + RECORD_SIZE + " 의 배수여야 합니다.");
+		}
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.fsyncEvery = fsyncEvery;
+	}
+
+	public long replay(Consumer<LedgerRecord> consumer) {
+		long lastSequence = 0;
+		try {
+			Files.createDirectories(directory);
+			List<Path> segments = segments();
+			for (Path segment : segments) {
+				openSegment(segment, indexOf(segment));
+				while (buffer.remaining() >= RECORD_SIZE) {
+					LedgerRecord record = read(buffer, buffer.position(), crc32);
+					if (record == null) {
+						break;
+					}
+					consumer.accept(record);
+					lastSequence = record.getSequence();
+					buffer.position(buffer.position() + RECORD_SIZE);
+				}
+			}
+			if (segments.isEmpty()) {
+				openSegment(segmentPath(0), 0);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		log.info("Replayed write-ahead log up to sequence {}", lastSequence);
+		return lastSequence;
+	}
+
+	public void append(LedgerRecord record) {
+		if (buffer.remaining() < RECORD_SIZE) {
+			roll();
+		}
+		int position = buffer.position();
+		buffer.putLong(record.getSequence())
+			.putLong(record.getAccountNumber())
+			.putLong(record.getUserId())
+			.putLong(record.getAmount())
+			.putLong(record.getBalance())
+			.putLong(record.getReference())
+			.putLong(record.getTransactedAt())
+			.putInt(record.getType());
+		buffer.putInt(checksum(buffer, position, crc32));
+		if (fsyncEvery > 0 && ++unsynced >= fsyncEvery) {
+			sync();
+		}
+	}
+
+	public void read(long afterSequence, long upToSequence, Consumer<LedgerRecord> consumer) {
+		CRC32 checksum = new CRC32();
+		try {
+			List<Path> segments = segments();
+			for (int i = 0; i < segments.size(); i++) {
+				if (i + 1 < segments.size()) {
+					long nextSequence = firstSequence(segments.get(i + 1), checksum);
+					if (nextSequence > 0 && nextSequence - 1 <= afterSequence) {
+						continue;
+					}
+				}
+				try (FileChannel source = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+					MappedByteBuffer segment = source.map(FileChannel.MapMode.READ_ONLY, 0, source.size());
+					for (int position = 0; position + RECORD_SIZE <= segment.limit(); position += RECORD_SIZE) {
+						LedgerRecord record = read(segment, position, checksum);
+						if (record == null || record.getSequence() > upToSequence) {
+							return;
+						}
+						if (record.getSequence() > afterSequence) {
+							consumer.accept(record);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void sync() {
+		if (buffer != null) {
+			buffer.force();
+		}
+		unsynced = 0;
+	}
+
+	public int deleteSegmentsBefore(long sequence) {
+		int deleted = 0;
+		try {
+			List<Path> segments = segments();
+			for (int i = 0; i + 1 < segments.size(); i++) {
+				if (indexOf(segments.get(i)) >= segmentIndex) {
+					break;
+				}
+				long nextSequence = firstSequence(segments.get(i + 1), crc32);
+				if (nextSequence <= 0 || nextSequence - 1 > sequence) {
+					break;
+				}
+				Files.delete(segments.get(i));
+				deleted++;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return deleted;
+	}
+
+	@Override
+	public void close() {
+		sync();
+		closeChannel();
+	}
+
+	private void roll() {
+		sync();
+		try {
+			openSegment(segmentPath(segmentIndex + 1), segmentIndex + 1);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void openSegment(Path segment, long index) throws IOException {
+		closeChannel();
+		channel = FileChannel.open(segment,
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+		segmentIndex = index;
+	}
+
+	private void closeChannel() {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		channel = null;
+	}
+
+	private LedgerRecord read(ByteBuffer source, int position, CRC32 crc32) {
+		ByteBuffer record = source.duplicate();
+		record.position(position);
+		long sequence = record.getLong();
+		if (sequence <= 0 || record.getInt(position + CHECKSUM_OFFSET) != checksum(source, position, crc32)) {
+			return null;
+		}
+		long accountNumber = record.getLong();
+		long userId = record.getLong();
+		long amount = record.getLong();
+		long balance = record.getLong();
+		long reference = record.getLong();
+		long transactedAt = record.getLong();
+		int type = record.getInt();
+		return new LedgerRecord(sequence, type, accountNumber, userId, amount, balance, reference, transactedAt);
+	}
+
+	private static int checksum(ByteBuffer source, int position, CRC32 crc32) {
+		ByteBuffer region = source.duplicate();
+		region.position(position);
+		region.limit(position + CHECKSUM_OFFSET);
+		crc32.reset();
+		crc32.update(region);
+		return (int)crc32.getValue();
+	}
+
+	private long firstSequence(Path segment, CRC32 crc32) throws IOException {
+		try (FileChannel source = FileChannel.open(segment, StandardOpenOption.READ)) {
+			ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+			while (record.hasRemaining()) {
+				if (source.read(record) < 0) {
+					return 0;
+				}
+			}
+			LedgerRecord first = read(record, 0, crc32);
+			return first == null ? 0 : first.getSequence();
+		}
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+	}
+
+	private Path segmentPath(long index) {
+		return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+	}
+
+	private long indexOf(Path segment) {
+		String name = segment.getFileName().toString();
+		return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+}
@@ -0,0 +1,48 @@
+package core.accountserver.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+	private static final String REPOSITORY_PACKAGE = "core.accountserver.repository";
+
+	private final RequestMetrics requestMetrics;
+	private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+	@Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+	public Object aroundRepository(ProceedingJoinPoint pjp) throws Throwable {
+		long start = System.nanoTime();
+		String outcome = RequestMetrics.SUCCESS;
+		try {
+			return pjp.proceed();
+		} catch (Throwable e) {
+			outcome = RequestMetrics.outcome(e);
+			throw e;
+		} finally {
+			requestMetrics.recordRepository(repositoryName(pjp.getThis().getClass()), pjp.getSignature().getName(),
+				outcome, System.nanoTime() - start);
+		}
+	}
+
+	private String repositoryName(Class<?> proxyClass) {
+		return repositoryNames.computeIfAbsent(proxyClass, type -> {
+			for (Class<?> repositoryInterface : type.getInterfaces()) {
+				if (repositoryInterface.getName().startsWith(REPOSITORY_PACKAGE)) {
+					return repositoryInterface.getSimpleName();
+				}
+			}
+			return type.getSimpleName();
+		});
+	}
+}
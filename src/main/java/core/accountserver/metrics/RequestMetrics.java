@@ -0,0 +1,145 @@
+package core.accountserver.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import core.accountserver.exception.transaction.TransactionFailedException;
+import core.accountserver.trace.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RequestMetrics {
+
+	public static final String LOCK_ACQUIRE = "account.lock.acquire";
+	public static final String LOCK_HOLD = "account.lock.hold";
+	public static final String VALIDATION = "account.validation";
+	public static final String REPOSITORY = "account.repository";
+	public static final String COMMIT = "account.commit";
+
+	public static final String SUCCESS = "success";
+	private static final String NO_ENDPOINT = "none";
+
+	private final MeterRegistry meterRegistry;
+	private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	public <T> T record(String name, Supplier<T> action) {
+		long start = System.nanoTime();
+		String outcome = SUCCESS;
+		try {
+			return action.get();
+		} catch (RuntimeException | Error e) {
+			outcome = outcome(e);
+			throw e;
+		} finally {
+			record(name, outcome, System.nanoTime() - start);
+		}
+	}
+
+	public void record(String name, Runnable action) {
+		record(name, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	public void record(String name, String outcome, long nanos) {
+		timer(name, endpoint(), outcome).record(nanos, TimeUnit.NANOSECONDS);
+		RequestTrace.span(name, nanos);
+	}
+
+	public void recordRepository(String repository, String method, String outcome, long nanos) {
+		timers.computeIfAbsent(new TimerKey(REPOSITORY, endpoint(), outcome, repository, method),
+			key -> Timer.builder(REPOSITORY)
+				.tag("endpoint", key.endpoint)
+				.tag("repository", key.repository)
+				.tag("method", key.method)
+				.tag("outcome", key.outcome)
+				.register(meterRegistry))
+			.record(nanos, TimeUnit.NANOSECONDS);
+		RequestTrace.span(REPOSITORY, method, nanos);
+	}
+
+	public void recordCommit() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		String endpoint = endpoint();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			private long start;
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				start = System.nanoTime();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (start == 0) {
+					return;
+				}
+				long nanos = System.nanoTime() - start;
+				String outcome = status == STATUS_COMMITTED ? "committed" : "rolled_back";
+				timer(COMMIT, endpoint, outcome).record(nanos, TimeUnit.NANOSECONDS);
+				RequestTrace.span(COMMIT, nanos);
+			}
+		});
+	}
+
+	public static String outcome(Throwable e) {
+		Throwable original = e;
+		while ((original instanceof UndeclaredThrowableException || original instanceof InvocationTargetException
+			|| original instanceof CompletionException || original instanceof ExecutionException
+			|| original instanceof TransactionFailedException)
+			&& original.getCause() != null) {
+			original = original.getCause();
+		}
+		return original.getClass().getSimpleName();
+	}
+
+	private Timer timer(String name, String endpoint, String outcome) {
+		return timers.computeIfAbsent(new TimerKey(name, endpoint, outcome, null, null), key -> Timer.builder(name)
+			.tag("endpoint", key.endpoint)
+			.tag("outcome", key.outcome)
+			.register(meterRegistry));
+	}
+
+	private static String endpoint() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes)) {
+			return NO_ENDPOINT;
+		}
+		HttpServletRequest request = ((ServletRequestAttributes)attributes).getRequest();
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return request.getMethod() + " " + (pattern == null ? "unknown" : pattern);
+	}
+
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static final class TimerKey {
+		private final String name;
+		private final String endpoint;
+		private final String outcome;
+		private final String repository;
+		private final String method;
+	}
+}
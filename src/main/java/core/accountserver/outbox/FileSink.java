@@ -0,0 +1,54 @@
+package core.accountserver.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+
+public class FileSink implements OutboxSink {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final BufferedWriter writer;
+
+	public FileSink(Path path) {
+		try {
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+			this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void publish(List<OutboxEvent> events) {
+		try {
+			for (OutboxEvent event : events) {
+				writer.write(objectMapper.writeValueAsString(OutboxSink.fields(event)));
+				writer.newLine();
+			}
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			writer.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package core.accountserver.outbox;
+
+import javax.persistence.PostPersist;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import core.accountserver.domain.transaction.Transaction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class OutboxListener {
+
+	private final ObjectProvider<OutboxWriter> outboxWriter;
+
+	@PostPersist
+	public void persisted(Transaction transaction) {
+		outboxWriter.ifAvailable(writer -> writer.append(transaction));
+	}
+}
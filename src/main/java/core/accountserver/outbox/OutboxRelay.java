@@ -0,0 +1,148 @@
+package core.accountserver.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RLock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+import core.accountserver.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OutboxRelay {
+
+	private final OutboxRingBuffer ringBuffer;
+	private final List<OutboxSink> sinks;
+	private final OutboxEventRepository outboxEventRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final RLock recoveryLock;
+	private final int batchSize;
+	private final long idleNanos;
+	private final long recoveryDelayMillis;
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public OutboxRelay(OutboxRingBuffer ringBuffer, List<OutboxSink> sinks,
+		OutboxEventRepository outboxEventRepository, PlatformTransactionManager transactionManager, RLock recoveryLock,
+		int batchSize, long idleMicros, long recoveryDelayMillis) {
+		this.ringBuffer = ringBuffer;
+		this.sinks = sinks;
+		this.outboxEventRepository = outboxEventRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.recoveryLock = recoveryLock;
+		this.batchSize = batchSize;
+		this.idleNanos = TimeUnit.MICROSECONDS.toNanos(idleMicros);
+		this.recoveryDelayMillis = recoveryDelayMillis;
+	}
+
+	public void start() {
+		running = true;
+		worker = new Thread(this::drainLoop, "outbox-relay");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	public boolean offer(OutboxEvent event) {
+		if (!ringBuffer.offer(event)) {
+			log.debug("Outbox ring buffer is full, transactionId: {} is left for recovery", event.getTransactionId());
+			return false;
+		}
+		return true;
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.recovery-interval-ms}")
+	public void recover() {
+		if (recoveryLock == null) {
+			offerUnpublished();
+			return;
+		}
+		if (!recoveryLock.tryLock()) {
+			log.debug("Outbox recovery is already running on another node");
+			return;
+		}
+		try {
+			offerUnpublished();
+		} finally {
+			recoveryLock.unlock();
+		}
+	}
+
+	private void offerUnpublished() {
+		LocalDateTime before = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(recoveryDelayMillis));
+		for (OutboxEvent event : outboxEventRepository.findUnpublished(before, PageRequest.of(0, batchSize))) {
+			if (!offer(event)) {
+				return;
+			}
+		}
+	}
+
+	public void close() throws InterruptedException {
+		running = false;
+		if (worker != null) {
+			worker.join(TimeUnit.SECONDS.toMillis(5));
+		}
+		sinks.forEach(OutboxSink::close);
+	}
+
+	void publish(List<OutboxEvent> batch) {
+		try {
+			List<OutboxEvent> ready = inOrder(batch);
+			if (ready.isEmpty()) {
+				return;
+			}
+			for (OutboxSink sink : sinks) {
+				sink.publish(ready);
+			}
+			List<Long> ids = ready.stream().map(OutboxEvent::getId).collect(Collectors.toList());
+			transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(ids));
+		} catch (RuntimeException e) {
+			log.warn("Failed to publish {} outbox events, leaving them for recovery", batch.size(), e);
+		}
+	}
+
+	private List<OutboxEvent> inOrder(List<OutboxEvent> batch) {
+		Map<String, Long> oldestInBatch = new HashMap<>();
+		for (OutboxEvent event : batch) {
+			oldestInBatch.merge(event.getAccountNumber(), event.getId(), Math::min);
+		}
+		Map<String, Long> oldestUnpublished = new HashMap<>();
+		for (Object[] row : outboxEventRepository.findOldestUnpublished(oldestInBatch.keySet())) {
+			oldestUnpublished.put((String)row[0], (Long)row[1]);
+		}
+		List<OutboxEvent> ready = new ArrayList<>(batch.size());
+		for (OutboxEvent event : batch) {
+			Long oldest = oldestUnpublished.get(event.getAccountNumber());
+			if (oldest != null && oldest < oldestInBatch.get(event.getAccountNumber())) {
+				log.debug("Holding back transactionId: {} behind unpublished events of its account",
+					event.getTransactionId());
+				continue;
+			}
+			ready.add(event);
+		}
+		return ready;
+	}
+
+	private void drainLoop() {
+		List<OutboxEvent> batch = new ArrayList<>(batchSize);
+		while (running || !ringBuffer.isEmpty()) {
+			if (ringBuffer.drain(batch, batchSize) == 0) {
+				LockSupport.parkNanos(idleNanos);
+				continue;
+			}
+			publish(batch);
+			batch.clear();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package core.accountserver.outbox;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+
+public class OutboxRingBuffer {
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<OutboxEvent> entries;
+	private final AtomicLongArray sequences;
+	private final AtomicLong claimed = new AtomicLong();
+	private final AtomicLong consumed = new AtomicLong();
+
+	public OutboxRingBuffer(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+		}
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.entries = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, -1L);
+		}
+	}
+
+	public boolean offer(OutboxEvent event) {
+		while (true) {
+			long sequence = claimed.get();
+			if (sequence - consumed.get() >= capacity) {
+				return false;
+			}
+			if (claimed.compareAndSet(sequence, sequence + 1)) {
+				int index = (int)(sequence & mask);
+				entries.set(index, event);
+				sequences.set(index, sequence);
+				return true;
+			}
+		}
+	}
+
+	public int drain(List<OutboxEvent> batch, int max) {
+		long next = consumed.get();
+		int drained = 0;
+		while (drained < max) {
+			int index = (int)(next & mask);
+			if (sequences.get(index) != next) {
+				break;
+			}
+			batch.add(entries.getAndSet(index, null));
+			next++;
+			drained++;
+		}
+		consumed.lazySet(next);
+		return drained;
+	}
+
+	public boolean isEmpty() {
+		return claimed.get() == consumed.get();
+	}
+
+	public int size() {
+		return (int)(claimed.get() - consumed.get());
+	}
+}
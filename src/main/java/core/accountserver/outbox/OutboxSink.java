@@ -0,0 +1,27 @@
+package core.accountserver.outbox;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+
+public interface OutboxSink {
+
+	void publish(List<OutboxEvent> events);
+
+	default void close() {
+	}
+
+	static Map<String, String> fields(OutboxEvent event) {
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put("id", String.valueOf(event.getId()));
+		fields.put("accountNumber", event.getAccountNumber());
+		fields.put("transactionId", event.getTransactionId());
+		fields.put("transactionType", event.getTransactionType().name());
+		fields.put("amount", String.valueOf(event.getAmount()));
+		fields.put("balanceSnapshot", String.valueOf(event.getBalanceSnapshot()));
+		fields.put("transactedAt", String.valueOf(event.getTransactedAt()));
+		return fields;
+	}
+}
@@ -0,0 +1,61 @@
+package core.accountserver.outbox;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+import core.accountserver.domain.transaction.Transaction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+	private static final String INSERT_OUTBOX_EVENT = "insert into outbox_event"
+		+ "(account_number, transaction_id, transaction_type, amount, balance_snapshot, transacted_at, published) "
+		+ "values (?, ?, ?, ?, ?, ?, false)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final OutboxRelay outboxRelay;
+
+	public void append(Transaction transaction) {
+		if (transaction.isFailed()) {
+			return;
+		}
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement statement = connection.prepareStatement(INSERT_OUTBOX_EVENT, new String[] {"id"});
+			statement.setString(1, transaction.getAccount().getAccountNumber());
+			statement.setString(2, transaction.getTransactionId());
+			statement.setString(3, transaction.getTransactionType().name());
+			statement.setLong(4, transaction.getAmount());
+			statement.setLong(5, transaction.getBalanceSnapshot());
+			statement.setTimestamp(6, Timestamp.valueOf(transaction.getTransactedAt()));
+			return statement;
+		}, keyHolder);
+		OutboxEvent event = OutboxEvent.builder()
+			.id(keyHolder.getKey().longValue())
+			.accountNumber(transaction.getAccount().getAccountNumber())
+			.transactionId(transaction.getTransactionId())
+			.transactionType(transaction.getTransactionType())
+			.amount(transaction.getAmount())
+			.balanceSnapshot(transaction.getBalanceSnapshot())
+			.transactedAt(transaction.getTransactedAt())
+			.build();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			outboxRelay.offer(event);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				outboxRelay.offer(event);
+			}
+		});
+	}
+}
@@ -0,0 +1,29 @@
+package core.accountserver.outbox;
+
+import java.util.List;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RedisStreamSink implements OutboxSink {
+
+	private final RedissonClient redissonClient;
+	private final String streamName;
+
+	@Override
+	public void publish(List<OutboxEvent> events) {
+		RBatch batch = redissonClient.createBatch();
+		RStreamAsync<String, String> stream = batch.getStream(streamName, StringCodec.INSTANCE);
+		for (OutboxEvent event : events) {
+			stream.addAsync(StreamAddArgs.entries(OutboxSink.fields(event)));
+		}
+		batch.execute();
+	}
+}
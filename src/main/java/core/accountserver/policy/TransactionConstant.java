@@ -3,6 +3,7 @@ package core.accountserver.policy;
 public class TransactionConstant {
 
 	public static final int MAX_TRANSACTION_CANCEL_YEARS_BOUND = 1;
+	public static final int HOLD_EXPIRE_MINUTES = 10;
 	private TransactionConstant() {
 
 	}
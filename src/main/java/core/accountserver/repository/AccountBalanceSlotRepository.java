@@ -0,0 +1,38 @@
+package core.accountserver.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountBalanceSlot;
+
+@Repository
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+
+	List<AccountBalanceSlot> findByAccountOrderBySlotIndex(Account account);
+
+	boolean existsByAccountAccountNumber(String accountNumber);
+
+	@Query("select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.account = :account")
+	long sumBalance(@Param("account") Account account);
+
+	@Query("select s.balance from AccountBalanceSlot s where s.id = :slotId")
+	long findBalanceById(@Param("slotId") Long slotId);
+
+	@Query("select distinct s.account.accountNumber from AccountBalanceSlot s")
+	List<String> findHotAccountNumbers();
+
+	@Modifying
+	@Query("update AccountBalanceSlot s set s.balance = s.balance - :amount "
+		+ "where s.id = :slotId and s.balance >= :amount")
+	int debit(@Param("slotId") Long slotId, @Param("amount") Long amount);
+
+	@Modifying
+	@Query("update AccountBalanceSlot s set s.balance = s.balance + :amount where s.id = :slotId")
+	int credit(@Param("slotId") Long slotId, @Param("amount") Long amount);
+}
@@ -0,0 +1,42 @@
+package core.accountserver.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import core.accountserver.domain.account.AccountBalanceSnapshot;
+
+@Repository
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, Long> {
+
+	List<AccountBalanceSnapshot> findByAccountUserIdAndSnapshotDateOrderByAccountId(Long accountUserId,
+		LocalDate snapshotDate);
+
+	boolean existsBySnapshotDate(LocalDate snapshotDate);
+
+	@Modifying
+	@Query("delete from AccountBalanceSnapshot s where s.snapshotDate = :snapshotDate")
+	int deleteBySnapshotDate(@Param("snapshotDate") LocalDate snapshotDate);
+
+	@Modifying
+	@Query(value = "insert into account_balance_snapshot"
+		+ "(snapshot_date, account_id, account_user_id, account_number, balance) "
+		+ "select cast(:snapshotDate as date), a.id, a.account_user_id, a.account_number, coalesce("
+		+ "(select t.balance_snapshot from transaction t where t.account_id = a.id "
+		+ "and t.transaction_result = 'SUCCESS' and t.transacted_at < :closeAt "
+		+ "order by t.transacted_at desc, t.id desc limit 1), "
+		+ "(select case when t.transaction_type in ('USE', 'FEE', 'HOLD') then t.balance_snapshot + t.amount "
+		+ "else t.balance_snapshot - t.amount end from transaction t where t.account_id = a.id "
+		+ "and t.transaction_result = 'SUCCESS' and t.transacted_at >= :closeAt "
+		+ "order by t.transacted_at, t.id limit 1), "
+		+ "a.balance + coalesce((select sum(s.balance) from account_balance_slot s where s.account_id = a.id), 0)) "
+		+ "from account a where (a.register_at is null or a.register_at < :closeAt) "
+		+ "and (a.account_status = 'IN_USE' or a.un_registered_at >= :closeAt)", nativeQuery = true)
+	int copyBalances(@Param("snapshotDate") LocalDate snapshotDate, @Param("closeAt") LocalDateTime closeAt);
+}
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import core.accountserver.domain.AccountUser;
@@ -12,8 +15,17 @@ import core.accountserver.domain.account.Account;
 @Repository
 public interface AccountRepository extends JpaRepository<Account,Long> {
 	boolean existsByAccountNumber(String accountNumber);
-	Integer countByAccountUser(AccountUser accountUser);
 	Optional<Account> findByAccountNumber(String accountNumber);
 
+	@Query("select a from Account a join fetch a.accountUser where a.accountNumber = :accountNumber")
+	Optional<Account> findWithAccountUserByAccountNumber(@Param("accountNumber") String accountNumber);
+
 	List<Account> findByAccountUser(AccountUser accountUser);
+
+	@Modifying
+	@Query("update Account a set a.balance = a.balance - :amount where a.id = :id and a.balance >= :amount")
+	int reserveBalance(@Param("id") Long id, @Param("amount") Long amount);
+
+	@Query("select a.balance from Account a where a.id = :id")
+	long findBalanceById(@Param("id") Long id);
 }
@@ -1,6 +1,9 @@
 package core.accountserver.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import core.accountserver.domain.AccountUser;
@@ -8,4 +11,13 @@ import core.accountserver.domain.AccountUser;
 @Repository
 public interface AccountUserRepository extends JpaRepository<AccountUser, Long> {
 
+	@Modifying
+	@Query("update AccountUser u set u.accountCount = u.accountCount + 1 "
+		+ "where u.id = :userId and u.accountCount < :maxCount")
+	int increaseAccountCount(@Param("userId") Long userId, @Param("maxCount") int maxCount);
+
+	@Modifying
+	@Query("update AccountUser u set u.accountCount = u.accountCount - 1 "
+		+ "where u.id = :userId and u.accountCount > 0")
+	int decreaseAccountCount(@Param("userId") Long userId);
 }
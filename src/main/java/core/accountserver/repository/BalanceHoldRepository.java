@@ -0,0 +1,33 @@
+package core.accountserver.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.domain.hold.HoldStatus;
+
+@Repository
+public interface BalanceHoldRepository extends JpaRepository<BalanceHold, Long> {
+
+	@Query("select h from BalanceHold h join fetch h.account where h.holdId = :holdId")
+	Optional<BalanceHold> findWithAccountByHoldId(@Param("holdId") String holdId);
+
+	@Query("select h from BalanceHold h join fetch h.account "
+		+ "where h.holdStatus = core.accountserver.domain.hold.HoldStatus.HELD and h.expiresAt < :now "
+		+ "order by h.expiresAt")
+	List<BalanceHold> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+
+	@Modifying
+	@Query("update BalanceHold h set h.holdStatus = :holdStatus, h.transactionId = :transactionId "
+		+ "where h.id = :id and h.holdStatus = core.accountserver.domain.hold.HoldStatus.HELD")
+	int finish(@Param("id") Long id, @Param("holdStatus") HoldStatus holdStatus,
+		@Param("transactionId") String transactionId);
+}
@@ -0,0 +1,29 @@
+package core.accountserver.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	@Query("select e from OutboxEvent e where e.published = false and e.transactedAt < :before order by e.id")
+	List<OutboxEvent> findUnpublished(@Param("before") LocalDateTime before, Pageable pageable);
+
+	@Query("select e.accountNumber, min(e.id) from OutboxEvent e "
+		+ "where e.published = false and e.accountNumber in :accountNumbers group by e.accountNumber")
+	List<Object[]> findOldestUnpublished(@Param("accountNumbers") Collection<String> accountNumbers);
+
+	@Modifying
+	@Query("update OutboxEvent e set e.published = true where e.id in :ids")
+	int markPublished(@Param("ids") Collection<Long> ids);
+}
@@ -1,12 +1,27 @@
 package core.accountserver.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import core.accountserver.domain.account.Account;
 import core.accountserver.domain.transaction.Transaction;
+import core.accountserver.domain.transaction.TransactionResult;
 
 public interface TransactionRepository extends JpaRepository<Transaction,Long> {
 	Optional<Transaction> findByTransactionId(String transactionId);
 
+	@Query("select t from Transaction t join fetch t.account a join fetch a.accountUser "
+		+ "where t.transactionId = :transactionId")
+	Optional<Transaction> findWithAccountByTransactionId(@Param("transactionId") String transactionId);
+
+	Optional<Transaction> findFirstByAccountAndTransactionResultAndTransactedAtLessThanEqualOrderByTransactedAtDescIdDesc(
+		Account account, TransactionResult transactionResult, LocalDateTime transactedAt);
+
+	Optional<Transaction> findFirstByAccountAndTransactionResultAndTransactedAtAfterOrderByTransactedAtAscIdAsc(
+		Account account, TransactionResult transactionResult, LocalDateTime transactedAt);
+
 }
@@ -0,0 +1,196 @@
+package core.accountserver.seed;
+
+import static core.accountserver.domain.account.AccountStatus.*;
+import static core.accountserver.domain.transaction.TransactionResult.*;
+import static core.accountserver.domain.transaction.TransactionType.*;
+import static core.accountserver.policy.AccountConstant.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DatasetSeeder {
+
+	private static final String INSERT_USER = "insert into account_user"
+		+ "(id, name, account_count, create_at, update_at) values (?, ?, ?, ?, ?)";
+	private static final String INSERT_ACCOUNT = "insert into account"
+		+ "(id, account_user_id, account_number, account_status, balance, register_at, un_registered_at, "
+		+ "create_at, update_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String INSERT_TRANSACTION = "insert into transaction"
+		+ "(id, account_id, transaction_type, transaction_result, amount, balance_snapshot, transaction_id, "
+		+ "transacted_at, create_at, update_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final long ACCOUNT_NUMBER_SPACE = 10_000_000_000L;
+	private static final long ACCOUNT_NUMBER_MULTIPLIER = 700_000_001L;
+	private static final double UNREGISTERED_RATIO = 0.03;
+	private static final double FAILED_RATIO = 0.03;
+	private static final double CANCEL_RATIO = 0.02;
+	private static final int PROGRESS_INTERVAL = 100_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SeedOptions options;
+
+	public SeedResult seed() {
+		long startedAt = System.currentTimeMillis();
+		SplittableRandom random = new SplittableRandom(options.getSeed());
+		LocalDateTime now = LocalDate.now().atStartOfDay();
+		long nextId = nextId();
+		long firstId = nextId;
+
+		List<Object[]> users = new ArrayList<>();
+		List<Object[]> accounts = new ArrayList<>();
+		List<Object[]> transactions = new ArrayList<>();
+		long accountCount = 0;
+		long transactionCount = 0;
+
+		for (int user = 0; user < options.getUsers(); user++) {
+			long userId = nextId++;
+			int userAccounts = accountsPerUser(random);
+			int activeAccounts = 0;
+			for (int i = 0; i < userAccounts; i++) {
+				long accountId = nextId++;
+				LocalDateTime registerAt = now.minusDays(random.nextInt(options.getHistoryDays()) + 1)
+					.plusSeconds(random.nextInt(86_400));
+				long balance = logNormal(random, options.getMedianBalance());
+				int transactionsOfAccount = (int)Math.min(exponential(random, options.getTransactionsPerAccount()),
+					options.getTransactionsPerAccount() * 20L);
+				long step = Duration.between(registerAt, now).getSeconds() / (transactionsOfAccount + 1);
+				LocalDateTime transactedAt = registerAt;
+				long lastUseAmount = 0;
+				for (int t = 0; t < transactionsOfAccount; t++) {
+					transactedAt = registerAt.plusSeconds(step * (t + 1) + (long)(random.nextDouble() * step));
+					double kind = random.nextDouble();
+					if (lastUseAmount > 0 && kind < CANCEL_RATIO) {
+						balance += lastUseAmount;
+						transactions.add(transaction(nextId++, accountId, CANCEL.name(), SUCCESS.name(),
+							lastUseAmount, balance, random, transactedAt, now));
+						lastUseAmount = 0;
+					} else {
+						long amount = Math.max(10, logNormal(random, options.getMedianAmount()));
+						if (kind < CANCEL_RATIO + FAILED_RATIO || amount > balance) {
+							transactions.add(transaction(nextId++, accountId, USE.name(), FAIL.name(), amount,
+								balance, random, transactedAt, now));
+						} else {
+							balance -= amount;
+							lastUseAmount = amount;
+							transactions.add(transaction(nextId++, accountId, USE.name(), SUCCESS.name(), amount,
+								balance, random, transactedAt, now));
+						}
+					}
+					transactionCount++;
+				}
+				boolean unregistered = balance == 0 || random.nextDouble() < UNREGISTERED_RATIO;
+				if (unregistered && balance > 0) {
+					long remaining = Duration.between(transactedAt, now).getSeconds();
+					transactedAt = transactedAt.plusSeconds(remaining > 0 ? 1 + random.nextLong(remaining) : 0);
+					transactions.add(transaction(nextId++, accountId, USE.name(), SUCCESS.name(), balance, 0,
+						random, transactedAt, now));
+					transactionCount++;
+					balance = 0;
+				}
+				if (!unregistered) {
+					activeAccounts++;
+				}
+				accounts.add(new Object[] {accountId, userId, accountNumber(accountId),
+					(unregistered ? UNREGISTERED : IN_USE).name(), balance, registerAt,
+					unregistered ? transactedAt : null, now, now});
+				accountCount++;
+			}
+			users.add(new Object[] {userId, "seed-" + user, activeAccounts, now, now});
+			flush(users, accounts, transactions, false);
+			if ((user + 1) % PROGRESS_INTERVAL == 0) {
+				log.info("Seeded {} users, {} accounts, {} transactions", user + 1, accountCount, transactionCount);
+			}
+		}
+		flush(users, accounts, transactions, true);
+		restartSequence(nextId);
+
+		SeedResult result = new SeedResult(options.getUsers(), accountCount, transactionCount, firstId, nextId - 1,
+			System.currentTimeMillis() - startedAt);
+		log.info("Seeded {} users, {} accounts, {} transactions in {} ms", result.getUsers(), result.getAccounts(),
+			result.getTransactions(), result.getElapsedMillis());
+		return result;
+	}
+
+	private Object[] transaction(long id, long accountId, String type, String result, long amount, long balance,
+		SplittableRandom random, LocalDateTime transactedAt, LocalDateTime now) {
+		String transactionId = String.format("%016x%016x", random.nextLong(), random.nextLong());
+		return new Object[] {id, accountId, type, result, amount, balance, transactionId, transactedAt, now, now};
+	}
+
+	private void flush(List<Object[]> users, List<Object[]> accounts, List<Object[]> transactions, boolean force) {
+		int batchSize = options.getBatchSize();
+		if (!force && users.size() < batchSize && accounts.size() < batchSize && transactions.size() < batchSize) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_USER, users);
+		jdbcTemplate.batchUpdate(INSERT_ACCOUNT, accounts);
+		jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions);
+		users.clear();
+		accounts.clear();
+		transactions.clear();
+	}
+
+	private long nextId() {
+		long max = 0;
+		for (String table : new String[] {"account_user", "account", "transaction", "account_balance_slot",
+			"balance_hold", "accrual_checkpoint"}) {
+			if (!tableExists(table)) {
+				continue;
+			}
+			Long tableMax = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+			if (tableMax != null) {
+				max = Math.max(max, tableMax);
+			}
+		}
+		return max + 1;
+	}
+
+	private boolean tableExists(String table) {
+		Long tables = jdbcTemplate.queryForObject(
+			"select count(*) from information_schema.tables where lower(table_name) = ?", Long.class, table);
+		return tables != null && tables > 0;
+	}
+
+	private void restartSequence(long nextId) {
+		jdbcTemplate.execute("alter sequence hibernate_sequence restart with " + nextId);
+	}
+
+	private int accountsPerUser(SplittableRandom random) {
+		int maxAccounts = Math.min(options.getMaxAccountsPerUser(), MAX_ACCOUNT_COUNT);
+		int accounts = 1;
+		while (accounts < maxAccounts && random.nextDouble() < 0.45) {
+			accounts++;
+		}
+		return accounts;
+	}
+
+	private static String accountNumber(long accountId) {
+		long permuted = (accountId % ACCOUNT_NUMBER_SPACE) * ACCOUNT_NUMBER_MULTIPLIER % ACCOUNT_NUMBER_SPACE;
+		return String.format("%010d", permuted);
+	}
+
+	private static long logNormal(SplittableRandom random, long median) {
+		return Math.round(median * Math.exp(gaussian(random)));
+	}
+
+	private static double exponential(SplittableRandom random, double mean) {
+		return -mean * Math.log(1 - random.nextDouble());
+	}
+
+	private static double gaussian(SplittableRandom random) {
+		double u = 1 - random.nextDouble();
+		double v = random.nextDouble();
+		return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+	}
+}
@@ -0,0 +1,17 @@
+package core.accountserver.seed;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeedOptions {
+	private final int users;
+	private final int maxAccountsPerUser;
+	private final int transactionsPerAccount;
+	private final long medianBalance;
+	private final long medianAmount;
+	private final int historyDays;
+	private final int batchSize;
+	private final long seed;
+}
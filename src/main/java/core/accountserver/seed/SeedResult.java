@@ -0,0 +1,15 @@
+package core.accountserver.seed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SeedResult {
+	private final long users;
+	private final long accounts;
+	private final long transactions;
+	private final long firstId;
+	private final long lastId;
+	private final long elapsedMillis;
+}
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import core.accountserver.aop.Coalesce;
 import core.accountserver.domain.AccountUser;
 import core.accountserver.domain.account.Account;
 import core.accountserver.dto.response.account.AccountSearchResponse;
@@ -53,7 +54,7 @@ public class AccountService {
 	}
 
 	private void validAccountCount(AccountUser accountUser) {
-		if (accountRepository.countByAccountUser(accountUser) >= MAX_ACCOUNT_COUNT) {
+		if (accountUserRepository.increaseAccountCount(accountUser.getId(), MAX_ACCOUNT_COUNT) == 0) {
 			throw new MaxAccountPerUserException("계좌가 이미 최대 갯수만큼 존재합니다.");
 		}
 	}
@@ -67,6 +68,7 @@ public class AccountService {
 
 		validDeleteAccount(accountUser, account);
 		account.unRegistered();
+		accountUserRepository.decreaseAccountCount(accountUser.getId());
 
 		return DeleteAccountResponse.builder()
 			.accountNumber(accountNumber)
@@ -81,11 +83,12 @@ public class AccountService {
 		if (account.getAccountStatus().equals(UNREGISTERED)) {
 			throw new AccountAlreadyUnregisteredException("이미 해지된 계좌번호 입니다.");
 		}
-		if (account.getBalance() > 0) {
+		if (balanceOf(account) > 0) {
 			throw new AccountHasBalanceException("해지하려는 계좌에 잔액이 존재합니다.");
 		}
 	}
 
+	@Coalesce
 	@Transactional(readOnly = true)
 	public List<AccountSearchResponse> findAccountByUserId(long userId) {
 		AccountUser accountUser = accountUserRepository.findById(userId)
@@ -95,7 +98,11 @@ public class AccountService {
 			throw new AccountNotFoundException("해당 계좌가 존재하지 않습니다.");
 		}
 		return accounts.stream()
-			.map(account -> AccountSearchResponse.create(account.getAccountNumber(), account.getBalance()))
+			.map(account -> AccountSearchResponse.create(account.getAccountNumber(), balanceOf(account)))
 			.collect(Collectors.toList());
 	}
+
+	protected long balanceOf(Account account) {
+		return account.getBalance();
+	}
 }
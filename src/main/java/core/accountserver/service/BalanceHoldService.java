@@ -0,0 +1,156 @@
+package core.accountserver.service;
+
+import static core.accountserver.domain.account.AccountStatus.*;
+import static core.accountserver.domain.hold.HoldStatus.*;
+import static core.accountserver.domain.transaction.TransactionType.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.domain.hold.HoldStatus;
+import core.accountserver.domain.transaction.Transaction;
+import core.accountserver.dto.response.hold.HoldResponse;
+import core.accountserver.dto.response.transaction.UseBalanceResponse;
+import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
+import core.accountserver.exception.account.AccountExceedBalanceException;
+import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.UserAccountUnMatchException;
+import core.accountserver.exception.hold.HoldAccountUnMatchException;
+import core.accountserver.exception.hold.HoldAlreadyFinishedException;
+import core.accountserver.exception.hold.HoldExpiredException;
+import core.accountserver.exception.hold.HoldNotFoundException;
+import core.accountserver.exception.user.UserNotFoundException;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class BalanceHoldService {
+
+	private final BalanceHoldRepository balanceHoldRepository;
+	private final AccountRepository accountRepository;
+	private final AccountUserRepository accountUserRepository;
+	private final TransactionRepository transactionRepository;
+
+	@Transactional
+	public HoldResponse hold(Long userId, String accountNumber, Long amount) {
+		Account account = accountRepository.findWithAccountUserByAccountNumber(accountNumber)
+			.orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
+		if (!Objects.equals(userId, account.getAccountUser().getId())) {
+			if (!accountUserRepository.existsById(userId)) {
+				throw new UserNotFoundException("해당 사용자가 존재하지 않습니다.");
+			}
+			throw new UserAccountUnMatchException("사용자와 계좌의 소유주가 다릅니다.");
+		}
+		if (account.getAccountStatus().equals(UNREGISTERED)) {
+			throw new AccountAlreadyUnregisteredException("이미 해지된 계좌번호 입니다.");
+		}
+		if (balanceOf(account) < amount) {
+			throw new AccountExceedBalanceException("거래금액이 계좌 잔액보다 큽니다.");
+		}
+		long balanceSnapshot = debit(account, amount);
+		transactionRepository.save(Transaction.createSuccessTransaction(account, amount, HOLD, balanceSnapshot));
+		BalanceHold hold = balanceHoldRepository.save(BalanceHold.create(account, amount));
+		return toResponse(hold, HELD);
+	}
+
+	@Transactional
+	public UseBalanceResponse capture(String holdId, String accountNumber) {
+		BalanceHold hold = findHold(holdId, accountNumber);
+		if (hold.isExpired()) {
+			throw new HoldExpiredException("만료된 홀드입니다.");
+		}
+		Account account = hold.getAccount();
+		Transaction transaction = Transaction.createSuccessTransaction(account, hold.getAmount(), USE,
+			balanceOf(account));
+		finish(hold, CAPTURED, transaction);
+		transactionRepository.save(transaction);
+
+		return UseBalanceResponse.builder()
+			.accountNumber(accountNumber)
+			.transactionResult(transaction.getTransactionResult())
+			.transactionId(transaction.getTransactionId())
+			.amount(transaction.getAmount())
+			.transactedAt(transaction.getTransactedAt())
+			.build();
+	}
+
+	@Transactional
+	public HoldResponse release(String holdId, String accountNumber) {
+		BalanceHold hold = findHold(holdId, accountNumber);
+		restore(hold, RELEASED);
+		return toResponse(hold, RELEASED);
+	}
+
+	@Transactional(readOnly = true)
+	public List<BalanceHold> findExpired(int limit) {
+		return balanceHoldRepository.findExpired(LocalDateTime.now(), PageRequest.of(0, limit));
+	}
+
+	@Transactional
+	public void expire(String holdId, String accountNumber) {
+		restore(findHold(holdId, accountNumber), EXPIRED);
+	}
+
+	protected long balanceOf(Account account) {
+		return account.getBalance();
+	}
+
+	protected long debit(Account account, Long amount) {
+		account.useBalance(amount);
+		return account.getBalance();
+	}
+
+	protected long credit(Account account, Long amount) {
+		account.cancelBalance(amount);
+		return account.getBalance();
+	}
+
+	private void restore(BalanceHold hold, HoldStatus holdStatus) {
+		if (!hold.isHeld()) {
+			throw new HoldAlreadyFinishedException("이미 처리된 홀드입니다.");
+		}
+		Account account = hold.getAccount();
+		long balanceSnapshot = credit(account, hold.getAmount());
+		Transaction transaction = Transaction.createSuccessTransaction(account, hold.getAmount(), RELEASE,
+			balanceSnapshot);
+		finish(hold, holdStatus, transaction);
+		transactionRepository.save(transaction);
+	}
+
+	private void finish(BalanceHold hold, HoldStatus holdStatus, Transaction transaction) {
+		if (!hold.isHeld()
+			|| balanceHoldRepository.finish(hold.getId(), holdStatus, transaction.getTransactionId()) == 0) {
+			throw new HoldAlreadyFinishedException("이미 처리된 홀드입니다.");
+		}
+	}
+
+	private BalanceHold findHold(String holdId, String accountNumber) {
+		BalanceHold hold = balanceHoldRepository.findWithAccountByHoldId(holdId)
+			.orElseThrow(() -> new HoldNotFoundException("해당 홀드가 존재하지 않습니다."));
+		if (!Objects.equals(hold.getAccount().getAccountNumber(), accountNumber)) {
+			throw new HoldAccountUnMatchException("해당계좌에서 발생된 홀드가 아닙니다.");
+		}
+		return hold;
+	}
+
+	private static HoldResponse toResponse(BalanceHold hold, HoldStatus holdStatus) {
+		return HoldResponse.builder()
+			.accountNumber(hold.getAccount().getAccountNumber())
+			.holdId(hold.getHoldId())
+			.holdStatus(holdStatus)
+			.amount(hold.getAmount())
+			.expiresAt(hold.getExpiresAt())
+			.build();
+	}
+}
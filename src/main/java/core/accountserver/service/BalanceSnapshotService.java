@@ -0,0 +1,58 @@
+package core.accountserver.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.domain.account.AccountBalanceSnapshot;
+import core.accountserver.dto.response.account.AccountSearchResponse;
+import core.accountserver.exception.account.BalanceSnapshotNotFoundException;
+import core.accountserver.exception.user.UserNotFoundException;
+import core.accountserver.repository.AccountBalanceSnapshotRepository;
+import core.accountserver.repository.AccountUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSnapshotService {
+
+	private final AccountBalanceSnapshotRepository accountBalanceSnapshotRepository;
+	private final AccountUserRepository accountUserRepository;
+
+	@Transactional(isolation = Isolation.REPEATABLE_READ)
+	public int snapshot(LocalDate snapshotDate) {
+		long start = System.currentTimeMillis();
+		accountBalanceSnapshotRepository.deleteBySnapshotDate(snapshotDate);
+		int accounts = accountBalanceSnapshotRepository.copyBalances(snapshotDate,
+			snapshotDate.plusDays(1).atStartOfDay());
+		log.info("Snapshot of {} balances for {} written in {} ms", accounts, snapshotDate,
+			System.currentTimeMillis() - start);
+		return accounts;
+	}
+
+	@Transactional(readOnly = true)
+	public boolean isTaken(LocalDate snapshotDate) {
+		return accountBalanceSnapshotRepository.existsBySnapshotDate(snapshotDate);
+	}
+
+	@Transactional(readOnly = true)
+	public List<AccountSearchResponse> findAccountByUserId(long userId, LocalDate snapshotDate) {
+		if (!accountUserRepository.existsById(userId)) {
+			throw new UserNotFoundException("해당 사용자가 존재하지 않습니다.");
+		}
+		List<AccountBalanceSnapshot> snapshots = accountBalanceSnapshotRepository
+			.findByAccountUserIdAndSnapshotDateOrderByAccountId(userId, snapshotDate);
+		if (snapshots.isEmpty()) {
+			throw new BalanceSnapshotNotFoundException("해당 날짜의 잔액 스냅샷이 존재하지 않습니다.");
+		}
+		return snapshots.stream()
+			.map(snapshot -> AccountSearchResponse.create(snapshot.getAccountNumber(), snapshot.getBalance()))
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,151 @@
+package core.accountserver.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.redisson.api.RedissonClient;
+
+import core.accountserver.circuit.CircuitBreaker;
+import core.accountserver.exception.RedisClientException;
+import core.accountserver.exception.transaction.LockUnavailableException;
+import core.accountserver.exception.transaction.TransactionHasLockException;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CircuitBreakerLockService extends LockService {
+
+	private final CircuitBreaker circuitBreaker;
+	private final LockFallback fallback;
+	private final long localWaitMillis;
+	private final ReentrantLock[] localLocks;
+	private final Set<String> redisHolds = ConcurrentHashMap.newKeySet();
+
+	public CircuitBreakerLockService(RedissonClient redissonClient, CircuitBreaker circuitBreaker,
+		LockFallback fallback, long localWaitMillis, int localStripes) {
+		super(redissonClient);
+		if (localStripes < 1) {
+			throw new IllegalArgumentException("로컬 락 스트라이프 수는 1 이상이어야 합니다.");
+		}
+		this.circuitBreaker = circuitBreaker;
+		this.fallback = fallback;
+		this.localWaitMillis = localWaitMillis;
+		this.localLocks = new ReentrantLock[localStripes];
+		for (int i = 0; i < localStripes; i++) {
+			localLocks[i] = new ReentrantLock();
+		}
+	}
+
+	@Override
+	public void lock(String accountNumber) {
+		if (fallback == LockFallback.LOCAL) {
+			lockLocal(accountNumber);
+		}
+		try {
+			lockRedis(accountNumber);
+		} catch (RuntimeException e) {
+			if (fallback == LockFallback.LOCAL) {
+				localLock(accountNumber).unlock();
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean tryLock(String accountNumber) {
+		if (fallback == LockFallback.LOCAL && !localLock(accountNumber).tryLock()) {
+			return false;
+		}
+		boolean acquired = false;
+		try {
+			acquired = tryLockRedis(accountNumber);
+			return acquired;
+		} finally {
+			if (!acquired && fallback == LockFallback.LOCAL) {
+				localLock(accountNumber).unlock();
+			}
+		}
+	}
+
+	@Override
+	public void unlock(String accountNumber) {
+		try {
+			if (redisHolds.remove(accountNumber)) {
+				unlockRedis(accountNumber);
+			}
+		} finally {
+			if (fallback == LockFallback.LOCAL) {
+				localLock(accountNumber).unlock();
+			}
+		}
+	}
+
+	private void lockRedis(String accountNumber) {
+		if (tryLockRedis(accountNumber)) {
+			return;
+		}
+		try {
+			super.lock(accountNumber);
+			redisHolds.add(accountNumber);
+		} catch (TransactionHasLockException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			if (fallback == LockFallback.SHED) {
+				throw new LockUnavailableException("잠금 서비스가 일시적으로 응답하지 않습니다.");
+			}
+			log.warn("Redis lock failed for accountNumber: {}, continuing with local lock", accountNumber, e);
+		}
+	}
+
+	private boolean tryLockRedis(String accountNumber) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			if (fallback == LockFallback.SHED) {
+				throw new LockUnavailableException("잠금 서비스가 일시적으로 응답하지 않습니다.");
+			}
+			return true;
+		}
+		long start = System.nanoTime();
+		try {
+			boolean acquired = super.tryLock(accountNumber);
+			circuitBreaker.onSuccess(System.nanoTime() - start);
+			if (acquired) {
+				redisHolds.add(accountNumber);
+			}
+			return acquired;
+		} catch (RuntimeException e) {
+			circuitBreaker.onError(System.nanoTime() - start);
+			if (fallback == LockFallback.SHED) {
+				throw new LockUnavailableException("잠금 서비스가 일시적으로 응답하지 않습니다.");
+			}
+			log.warn("Redis lock failed for accountNumber: {}, continuing with local lock", accountNumber, e);
+			return true;
+		}
+	}
+
+	private void unlockRedis(String accountNumber) {
+		long start = System.nanoTime();
+		try {
+			super.unlock(accountNumber);
+			circuitBreaker.onSuccess(System.nanoTime() - start);
+		} catch (RuntimeException e) {
+			circuitBreaker.onError(System.nanoTime() - start);
+			log.warn("Redis unlock failed for accountNumber: {}, lease will expire", accountNumber, e);
+		}
+	}
+
+	private void lockLocal(String accountNumber) {
+		try {
+			if (!localLock(accountNumber).tryLock(localWaitMillis, TimeUnit.MILLISECONDS)) {
+				throw new TransactionHasLockException("해당 계좌는 사용중입니다.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RedisClientException(e);
+		}
+	}
+
+	private ReentrantLock localLock(String accountNumber) {
+		return localLocks[Math.floorMod(accountNumber.hashCode(), localLocks.length)];
+	}
+}
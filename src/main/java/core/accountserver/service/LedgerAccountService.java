@@ -0,0 +1,51 @@
+package core.accountserver.service;
+
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.dto.response.account.DeleteAccountResponse;
+import core.accountserver.generator.AccountNumberGenerator;
+import core.accountserver.ledger.InMemoryLedger;
+import core.accountserver.ledger.LedgerKeys;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+
+public class LedgerAccountService extends AccountService {
+
+	private final InMemoryLedger ledger;
+
+	public LedgerAccountService(AccountRepository accountRepository, AccountUserRepository accountUserRepository,
+		AccountNumberGenerator accountNumberGenerator, InMemoryLedger ledger) {
+		super(accountRepository, accountUserRepository, accountNumberGenerator);
+		this.ledger = ledger;
+	}
+
+	@Override
+	@Transactional
+	public DeleteAccountResponse deleteAccount(Long userId, String accountNumber) {
+		DeleteAccountResponse response = super.deleteAccount(userId, accountNumber);
+		long key = LedgerKeys.accountNumber(accountNumber);
+		if (!ledger.contains(key)) {
+			return response;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			ledger.unregister(key);
+			return response;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				ledger.unregister(key);
+			}
+		});
+		return response;
+	}
+
+	@Override
+	protected long balanceOf(Account account) {
+		return ledger.balance(LedgerKeys.accountNumber(account.getAccountNumber()))
+			.orElse(account.getBalance());
+	}
+}
@@ -0,0 +1,35 @@
+package core.accountserver.service;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.exception.hold.HoldNotSupportedException;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+
+public class LedgerBalanceHoldService extends BalanceHoldService {
+
+	public LedgerBalanceHoldService(BalanceHoldRepository balanceHoldRepository, AccountRepository accountRepository,
+		AccountUserRepository accountUserRepository, TransactionRepository transactionRepository) {
+		super(balanceHoldRepository, accountRepository, accountUserRepository, transactionRepository);
+	}
+
+	@Override
+	protected long balanceOf(Account account) {
+		throw notSupported();
+	}
+
+	@Override
+	protected long debit(Account account, Long amount) {
+		throw notSupported();
+	}
+
+	@Override
+	protected long credit(Account account, Long amount) {
+		throw notSupported();
+	}
+
+	private static HoldNotSupportedException notSupported() {
+		return new HoldNotSupportedException("원장 모드에서는 홀드를 지원하지 않습니다.");
+	}
+}
@@ -0,0 +1,127 @@
+package core.accountserver.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.domain.transaction.TransactionType;
+import core.accountserver.dto.response.account.AccountBalanceResponse;
+import core.accountserver.dto.response.transaction.CancelBalanceResponse;
+import core.accountserver.dto.response.transaction.TransactionSearchResponse;
+import core.accountserver.dto.response.transaction.UseBalanceResponse;
+import core.accountserver.etag.AccountVersions;
+import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.BalanceNotRecordedException;
+import core.accountserver.exception.account.UserAccountUnMatchException;
+import core.accountserver.exception.transaction.TransactionNotFoundException;
+import core.accountserver.exception.user.UserNotFoundException;
+import core.accountserver.ledger.InMemoryLedger;
+import core.accountserver.ledger.LedgerEntry;
+import core.accountserver.ledger.LedgerKeys;
+import core.accountserver.metrics.RequestMetrics;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.TransactionRepository;
+
+public class LedgerTransactionService extends TransactionService {
+
+	private final AccountUserRepository accountUserRepository;
+	private final AccountRepository accountRepository;
+	private final InMemoryLedger ledger;
+	private final AccountVersions accountVersions;
+
+	public LedgerTransactionService(TransactionRepository transactionRepository,
+		AccountUserRepository accountUserRepository, AccountRepository accountRepository, RequestMetrics requestMetrics,
+		InMemoryLedger ledger, AccountVersions accountVersions) {
+		super(transactionRepository, accountUserRepository, accountRepository, requestMetrics);
+		this.accountUserRepository = accountUserRepository;
+		this.accountRepository = accountRepository;
+		this.ledger = ledger;
+		this.accountVersions = accountVersions;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public UseBalanceResponse useBalance(Long userId, String accountNumber, Long amount) {
+		LedgerEntry entry;
+		try {
+			entry = ledger.use(userId, load(accountNumber), amount);
+		} catch (AccountNotFoundException | UserAccountUnMatchException e) {
+			validUserExists(userId);
+			throw e;
+		}
+		bump(entry);
+		return UseBalanceResponse.builder()
+			.accountNumber(accountNumber)
+			.transactionResult(entry.getTransactionResult())
+			.transactionId(entry.getTransactionId())
+			.amount(amount)
+			.transactedAt(entry.getTransactedAt())
+			.build();
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void saveFailedTransaction(String accountNumber, Long amount, TransactionType transactionType) {
+		ledger.fail(load(accountNumber), amount, transactionType);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CancelBalanceResponse cancelBalance(String transactionId, String accountNumber, Long amount) {
+		LedgerEntry entry = ledger.cancel(transactionId, load(accountNumber), amount);
+		bump(entry);
+		return CancelBalanceResponse.builder()
+			.transactedAt(entry.getTransactedAt())
+			.transactionId(entry.getTransactionId())
+			.transactionResult(entry.getTransactionResult())
+			.accountNumber(accountNumber)
+			.amount(entry.getAmount())
+			.build();
+	}
+
+	@Override
+	public AccountBalanceResponse findBalanceAt(String accountNumber, LocalDateTime at) {
+		throw new BalanceNotRecordedException("원장 모드에서는 시점 잔액을 조회할 수 없습니다.");
+	}
+
+	@Override
+	public TransactionSearchResponse findByTransactionId(String transactionId) {
+		LedgerEntry entry = ledger.find(transactionId)
+			.orElseThrow(() -> new TransactionNotFoundException("해당 거래내역이 존재하지 않습니다."));
+		return TransactionSearchResponse.builder()
+			.accountNumber(entry.getAccountNumber())
+			.transactionType(entry.getTransactionType())
+			.transactionResult(entry.getTransactionResult())
+			.transactionId(entry.getTransactionId())
+			.amount(entry.getAmount())
+			.transactedAt(entry.getTransactedAt())
+			.build();
+	}
+
+	private void bump(LedgerEntry entry) {
+		if (accountVersions != null) {
+			accountVersions.bump(entry.getUserId());
+		}
+	}
+
+	private long load(String accountNumber) {
+		long key = LedgerKeys.accountNumber(accountNumber);
+		if (key == LedgerKeys.INVALID || ledger.contains(key)) {
+			return key;
+		}
+		return accountRepository.findWithAccountUserByAccountNumber(accountNumber)
+			.map(account -> {
+				ledger.open(key, account.getAccountUser().getId(), account.getBalance(), account.isUnRegistered());
+				return key;
+			})
+			.orElse(LedgerKeys.INVALID);
+	}
+
+	private void validUserExists(Long userId) {
+		if (!accountUserRepository.existsById(userId)) {
+			throw new UserNotFoundException("해당 사용자가 존재하지 않습니다.");
+		}
+	}
+}
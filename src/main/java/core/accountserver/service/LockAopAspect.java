@@ -6,7 +6,11 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
 import core.accountserver.aop.AccountLockRequest;
+import core.accountserver.exception.BusinessException;
+import core.accountserver.dto.request.transaction.UseBalanceRequest;
 import core.accountserver.exception.transaction.TransactionFailedException;
+import core.accountserver.hot.HotAccountRegistry;
+import core.accountserver.metrics.RequestMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,17 +20,38 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LockAopAspect {
 
+	private static final TransactionFailedException TRANSACTION_FAILED =
+		new TransactionFailedException("거래를 실패하였습니다.");
+
 	private final LockService lockService;
+	private final RequestMetrics requestMetrics;
+	private final HotAccountRegistry hotAccountRegistry;
 
 	@Around("@annotation(core.accountserver.aop.AccountLock) && args(request)")
-	public Object aroundMethod(ProceedingJoinPoint pjp, AccountLockRequest request) {
-		lockService.lock(request.getAccountNumber());
+	public Object aroundMethod(ProceedingJoinPoint pjp, AccountLockRequest request) throws Throwable {
+		boolean locked = !(request instanceof UseBalanceRequest
+			&& hotAccountRegistry.skipLock(request.getAccountNumber()));
+		if (locked) {
+			requestMetrics.record(RequestMetrics.LOCK_ACQUIRE, () -> lockService.lock(request.getAccountNumber()));
+		}
+		long start = System.nanoTime();
+		String outcome = RequestMetrics.SUCCESS;
 		try {
 			return pjp.proceed();
+		} catch (BusinessException e) {
+			outcome = RequestMetrics.outcome(e);
+			throw TRANSACTION_FAILED;
 		} catch (Throwable e) {
-			throw new TransactionFailedException("거래를 실패하였습니다.");
+			outcome = RequestMetrics.outcome(e);
+			log.error("Unexpected failure for accountNumber: {}", request.getAccountNumber(), e);
+			throw e;
 		} finally {
-			lockService.unlock(request.getAccountNumber());
+			if (locked) {
+				lockService.unlock(request.getAccountNumber());
+			} else {
+				hotAccountRegistry.clearSkippedLock();
+			}
+			requestMetrics.record(RequestMetrics.LOCK_HOLD, outcome, System.nanoTime() - start);
 		}
 	}
 }
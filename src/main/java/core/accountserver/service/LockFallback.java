@@ -0,0 +1,5 @@
+package core.accountserver.service;
+
+public enum LockFallback {
+	SHED, LOCAL
+}
@@ -30,13 +30,21 @@ public class LockService {
 		}
 	}
 
+	public boolean tryLock(String accountNumber) {
+		try {
+			return redissonClient.getLock(getLockKey(accountNumber)).tryLock(0, 5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			throw new RedisClientException(e);
+		}
+	}
+
 	public void unlock(String accountNumber) {
 		log.debug("Trying unlock for accountNumber: {}",accountNumber);
 		redissonClient.getLock(getLockKey(accountNumber)).unlock();
 
 	}
 
-	private String getLockKey(String accountNumber) {
+	protected String getLockKey(String accountNumber) {
 		return "ACLK:" + accountNumber;
 	}
 }
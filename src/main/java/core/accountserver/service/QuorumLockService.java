@@ -0,0 +1,151 @@
+package core.accountserver.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import core.accountserver.exception.RedisClientException;
+import core.accountserver.exception.transaction.TransactionHasLockException;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class QuorumLockService extends LockService {
+
+	private static final String RELEASE_SCRIPT =
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+	private static final long DRIFT_MARGIN_MILLIS = 2;
+
+	private final List<RedissonClient> nodes;
+	private final int quorum;
+	private final long waitMillis;
+	private final long leaseMillis;
+	private final long nodeTimeoutMillis;
+	private final double driftFactor;
+	private final long retryDelayMillis;
+	private final ThreadLocal<Map<String, String>> tokens = ThreadLocal.withInitial(HashMap::new);
+
+	public QuorumLockService(RedissonClient redissonClient, List<RedissonClient> nodes, long waitMillis,
+		long leaseMillis, long nodeTimeoutMillis, double driftFactor, long retryDelayMillis) {
+		super(redissonClient);
+		this.nodes = List.copyOf(nodes);
+		this.quorum = nodes.size() / 2 + 1;
+		this.waitMillis = waitMillis;
+		this.leaseMillis = leaseMillis;
+		this.nodeTimeoutMillis = nodeTimeoutMillis;
+		this.driftFactor = driftFactor;
+		this.retryDelayMillis = retryDelayMillis;
+	}
+
+	@Override
+	public void lock(String accountNumber) {
+		String key = getLockKey(accountNumber);
+		String token = UUID.randomUUID().toString();
+		long deadline = System.currentTimeMillis() + waitMillis;
+		log.debug("Trying quorum lock for accountNumber: {}", accountNumber);
+		do {
+			if (attempt(key, token)) {
+				tokens.get().put(key, token);
+				return;
+			}
+			pause();
+		} while (System.currentTimeMillis() < deadline);
+		throw new TransactionHasLockException("해당 계좌는 사용중입니다.");
+	}
+
+	@Override
+	public boolean tryLock(String accountNumber) {
+		String key = getLockKey(accountNumber);
+		String token = UUID.randomUUID().toString();
+		if (!attempt(key, token)) {
+			return false;
+		}
+		tokens.get().put(key, token);
+		return true;
+	}
+
+	@Override
+	public void unlock(String accountNumber) {
+		log.debug("Trying quorum unlock for accountNumber: {}", accountNumber);
+		String key = getLockKey(accountNumber);
+		String token = tokens.get().remove(key);
+		if (token != null) {
+			release(key, token);
+		}
+	}
+
+	private boolean attempt(String key, String token) {
+		long start = System.currentTimeMillis();
+		int acquired = acquire(key, token);
+		long validity = leaseMillis - (System.currentTimeMillis() - start) - drift();
+		if (acquired >= quorum && validity > 0) {
+			return true;
+		}
+		release(key, token);
+		return false;
+	}
+
+	private int acquire(String key, String token) {
+		List<CompletableFuture<Boolean>> requests = new ArrayList<>(nodes.size());
+		for (RedissonClient node : nodes) {
+			requests.add(node.<String>getBucket(key, StringCodec.INSTANCE)
+				.trySetAsync(token, leaseMillis, TimeUnit.MILLISECONDS)
+				.toCompletableFuture());
+		}
+		long deadline = System.currentTimeMillis() + nodeTimeoutMillis;
+		int acquired = 0;
+		for (CompletableFuture<Boolean> request : requests) {
+			if (Boolean.TRUE.equals(await(request, deadline))) {
+				acquired++;
+			}
+		}
+		return acquired;
+	}
+
+	private void release(String key, String token) {
+		List<CompletableFuture<Object>> requests = new ArrayList<>(nodes.size());
+		for (RedissonClient node : nodes) {
+			requests.add(node.getScript(StringCodec.INSTANCE)
+				.evalAsync(RScript.Mode.READ_WRITE, RELEASE_SCRIPT, RScript.ReturnType.INTEGER, List.<Object>of(key),
+					token)
+				.toCompletableFuture());
+		}
+		long deadline = System.currentTimeMillis() + nodeTimeoutMillis;
+		for (CompletableFuture<Object> request : requests) {
+			await(request, deadline);
+		}
+	}
+
+	private <T> T await(CompletableFuture<T> request, long deadline) {
+		try {
+			return request.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RedisClientException(e);
+		} catch (Exception e) {
+			log.debug("Quorum lock request failed on a node: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private long drift() {
+		return (long)(leaseMillis * driftFactor) + DRIFT_MARGIN_MILLIS;
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(retryDelayMillis / 2, retryDelayMillis + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RedisClientException(e);
+		}
+	}
+}
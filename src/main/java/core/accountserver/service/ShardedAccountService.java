@@ -0,0 +1,77 @@
+package core.accountserver.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.aop.Coalesce;
+import core.accountserver.domain.AccountUser;
+import core.accountserver.dto.response.account.AccountSearchResponse;
+import core.accountserver.dto.response.account.CreateAccountResponse;
+import core.accountserver.dto.response.account.DeleteAccountResponse;
+import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.user.UserNotFoundException;
+import core.accountserver.generator.AccountNumberGenerator;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardTemplate;
+
+public class ShardedAccountService extends AccountService {
+
+	private final AccountRepository accountRepository;
+	private final AccountUserRepository accountUserRepository;
+	private final ShardMap shardMap;
+	private final ShardTemplate shardTemplate;
+
+	public ShardedAccountService(AccountRepository accountRepository, AccountUserRepository accountUserRepository,
+		AccountNumberGenerator accountNumberGenerator, ShardMap shardMap, ShardTemplate shardTemplate) {
+		super(accountRepository, accountUserRepository, accountNumberGenerator);
+		this.accountRepository = accountRepository;
+		this.accountUserRepository = accountUserRepository;
+		this.shardMap = shardMap;
+		this.shardTemplate = shardTemplate;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CreateAccountResponse createAccount(Long userId, Long initialBalance) {
+		return shardTemplate.inBucket(shardMap.bucketOfUser(userId), false,
+			() -> super.createAccount(userId, initialBalance));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public DeleteAccountResponse deleteAccount(Long userId, String accountNumber) {
+		return shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false,
+			() -> super.deleteAccount(userId, accountNumber));
+	}
+
+	@Override
+	@Coalesce
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<AccountSearchResponse> findAccountByUserId(long userId) {
+		AccountUser accountUser = shardTemplate.inBucket(shardMap.bucketOfUser(userId), true,
+			() -> accountUserRepository.findById(userId))
+			.orElseThrow(() -> new UserNotFoundException("해당 사용자가 존재하지 않습니다."));
+
+		List<AccountSearchResponse> accounts = new ArrayList<>();
+		for (int shard = 0; shard < shardMap.getShardCount(); shard++) {
+			accounts.addAll(findOwnedAccounts(shard, accountUser));
+		}
+		if (accounts.isEmpty()) {
+			throw new AccountNotFoundException("해당 계좌가 존재하지 않습니다.");
+		}
+		return accounts;
+	}
+
+	private List<AccountSearchResponse> findOwnedAccounts(int shard, AccountUser accountUser) {
+		return shardTemplate.onShard(shard, true, () -> accountRepository.findByAccountUser(accountUser).stream()
+			.filter(account -> shardMap.shardOf(account.getAccountNumber()) == shard)
+			.map(account -> AccountSearchResponse.create(account.getAccountNumber(), balanceOf(account)))
+			.collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,72 @@
+package core.accountserver.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.dto.response.hold.HoldResponse;
+import core.accountserver.dto.response.transaction.UseBalanceResponse;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardTemplate;
+
+public class ShardedBalanceHoldService extends BalanceHoldService {
+
+	private final ShardMap shardMap;
+	private final ShardTemplate shardTemplate;
+
+	public ShardedBalanceHoldService(BalanceHoldRepository balanceHoldRepository, AccountRepository accountRepository,
+		AccountUserRepository accountUserRepository, TransactionRepository transactionRepository, ShardMap shardMap,
+		ShardTemplate shardTemplate) {
+		super(balanceHoldRepository, accountRepository, accountUserRepository, transactionRepository);
+		this.shardMap = shardMap;
+		this.shardTemplate = shardTemplate;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public HoldResponse hold(Long userId, String accountNumber, Long amount) {
+		return shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false,
+			() -> super.hold(userId, accountNumber, amount));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public UseBalanceResponse capture(String holdId, String accountNumber) {
+		return shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false,
+			() -> super.capture(holdId, accountNumber));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public HoldResponse release(String holdId, String accountNumber) {
+		return shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false,
+			() -> super.release(holdId, accountNumber));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<BalanceHold> findExpired(int limit) {
+		List<BalanceHold> expired = new ArrayList<>();
+		for (int shard = 0; shard < shardMap.getShardCount(); shard++) {
+			for (BalanceHold hold : shardTemplate.onShard(shard, true, () -> super.findExpired(limit))) {
+				if (shardMap.shardOf(hold.getAccount().getAccountNumber()) == shard) {
+					expired.add(hold);
+				}
+			}
+		}
+		return expired;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void expire(String holdId, String accountNumber) {
+		shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false, () -> super.expire(holdId, accountNumber));
+	}
+}
@@ -0,0 +1,84 @@
+package core.accountserver.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.aop.Coalesce;
+import core.accountserver.domain.transaction.TransactionType;
+import core.accountserver.dto.response.account.AccountBalanceResponse;
+import core.accountserver.dto.response.transaction.CancelBalanceResponse;
+import core.accountserver.dto.response.transaction.TransactionSearchResponse;
+import core.accountserver.dto.response.transaction.UseBalanceResponse;
+import core.accountserver.exception.transaction.TransactionNotFoundException;
+import core.accountserver.metrics.RequestMetrics;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.TransactionRepository;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardTemplate;
+
+public class ShardedTransactionService extends TransactionService {
+
+	private final ShardMap shardMap;
+	private final ShardTemplate shardTemplate;
+
+	public ShardedTransactionService(TransactionRepository transactionRepository,
+		AccountUserRepository accountUserRepository, AccountRepository accountRepository, RequestMetrics requestMetrics,
+		ShardMap shardMap, ShardTemplate shardTemplate) {
+		super(transactionRepository, accountUserRepository, accountRepository, requestMetrics);
+		this.shardMap = shardMap;
+		this.shardTemplate = shardTemplate;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public UseBalanceResponse useBalance(Long userId, String accountNumber, Long amount) {
+		return shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false,
+			() -> super.useBalance(userId, accountNumber, amount));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void saveFailedTransaction(String accountNumber, Long amount, TransactionType transactionType) {
+		shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false,
+			() -> super.saveFailedTransaction(accountNumber, amount, transactionType));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CancelBalanceResponse cancelBalance(String transactionId, String accountNumber, Long amount) {
+		return shardTemplate.inBucket(shardMap.bucketOf(accountNumber), false,
+			() -> super.cancelBalance(transactionId, accountNumber, amount));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public AccountBalanceResponse findBalanceAt(String accountNumber, LocalDateTime at) {
+		return shardTemplate.inBucket(shardMap.bucketOf(accountNumber), true,
+			() -> super.findBalanceAt(accountNumber, at));
+	}
+
+	@Override
+	@Coalesce
+	public TransactionSearchResponse findByTransactionId(String transactionId) {
+		for (int shard = 0; shard < shardMap.getShardCount(); shard++) {
+			Optional<TransactionSearchResponse> response = findOnShard(shard, transactionId);
+			if (response.isPresent()) {
+				return response.get();
+			}
+		}
+		throw new TransactionNotFoundException("해당 거래내역이 존재하지 않습니다.");
+	}
+
+	private Optional<TransactionSearchResponse> findOnShard(int shard, String transactionId) {
+		try {
+			return Optional.of(shardTemplate.onShard(shard, true, () -> super.findByTransactionId(transactionId)))
+				.filter(response -> shardMap.shardOf(response.getAccountNumber()) == shard);
+		} catch (TransactionNotFoundException e) {
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package core.accountserver.service;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.generator.AccountNumberGenerator;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+
+public class SplitBalanceAccountService extends AccountService {
+
+	private final SplitBalances splitBalances;
+
+	public SplitBalanceAccountService(AccountRepository accountRepository,
+		AccountUserRepository accountUserRepository, AccountNumberGenerator accountNumberGenerator,
+		SplitBalances splitBalances) {
+		super(accountRepository, accountUserRepository, accountNumberGenerator);
+		this.splitBalances = splitBalances;
+	}
+
+	@Override
+	protected long balanceOf(Account account) {
+		return splitBalances.total(account);
+	}
+}
@@ -0,0 +1,35 @@
+package core.accountserver.service;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+
+public class SplitBalanceHoldService extends BalanceHoldService {
+
+	private final SplitBalances splitBalances;
+
+	public SplitBalanceHoldService(BalanceHoldRepository balanceHoldRepository, AccountRepository accountRepository,
+		AccountUserRepository accountUserRepository, TransactionRepository transactionRepository,
+		SplitBalances splitBalances) {
+		super(balanceHoldRepository, accountRepository, accountUserRepository, transactionRepository);
+		this.splitBalances = splitBalances;
+	}
+
+	@Override
+	protected long balanceOf(Account account) {
+		return splitBalances.total(account);
+	}
+
+	@Override
+	protected long debit(Account account, Long amount) {
+		return splitBalances.debit(account, amount);
+	}
+
+	@Override
+	protected long credit(Account account, Long amount) {
+		return splitBalances.credit(account, amount);
+	}
+}
@@ -0,0 +1,50 @@
+package core.accountserver.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.domain.account.Account;
+import core.accountserver.dto.response.account.AccountBalanceResponse;
+import core.accountserver.exception.account.BalanceNotRecordedException;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.metrics.RequestMetrics;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.TransactionRepository;
+
+public class SplitBalanceTransactionService extends TransactionService {
+
+	private final SplitBalances splitBalances;
+
+	public SplitBalanceTransactionService(TransactionRepository transactionRepository,
+		AccountUserRepository accountUserRepository, AccountRepository accountRepository, RequestMetrics requestMetrics,
+		SplitBalances splitBalances) {
+		super(transactionRepository, accountUserRepository, accountRepository, requestMetrics);
+		this.splitBalances = splitBalances;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public AccountBalanceResponse findBalanceAt(String accountNumber, LocalDateTime at) {
+		if (splitBalances.isSplit(accountNumber)) {
+			throw new BalanceNotRecordedException("분할된 계좌는 시점 잔액을 조회할 수 없습니다.");
+		}
+		return super.findBalanceAt(accountNumber, at);
+	}
+
+	@Override
+	protected long balanceOf(Account account) {
+		return splitBalances.total(account);
+	}
+
+	@Override
+	protected long debit(Account account, Long amount) {
+		return splitBalances.debit(account, amount);
+	}
+
+	@Override
+	protected long credit(Account account, Long amount) {
+		return splitBalances.credit(account, amount);
+	}
+}
@@ -1,31 +1,37 @@
 package core.accountserver.service;
 
 import static core.accountserver.domain.account.AccountStatus.*;
+import static core.accountserver.domain.transaction.TransactionResult.*;
 import static core.accountserver.domain.transaction.TransactionType.*;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import core.accountserver.domain.AccountUser;
+import core.accountserver.aop.Coalesce;
 import core.accountserver.domain.account.Account;
 import core.accountserver.domain.transaction.Transaction;
 import core.accountserver.domain.transaction.TransactionType;
+import core.accountserver.dto.response.account.AccountBalanceResponse;
 import core.accountserver.dto.response.transaction.CancelBalanceResponse;
 import core.accountserver.dto.response.transaction.TransactionSearchResponse;
 import core.accountserver.dto.response.transaction.UseBalanceResponse;
 import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
 import core.accountserver.exception.account.AccountExceedBalanceException;
 import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.BalanceNotRecordedException;
 import core.accountserver.exception.account.UserAccountUnMatchException;
 import core.accountserver.exception.transaction.AccountTransactionUnMatchException;
 import core.accountserver.exception.transaction.CancelMustFullyException;
 import core.accountserver.exception.transaction.TooOldOrderToCancelException;
 import core.accountserver.exception.transaction.TransactionAlreadyCancelException;
+import core.accountserver.exception.transaction.TransactionNotCancelableException;
 import core.accountserver.exception.transaction.TransactionNotFoundException;
 import core.accountserver.exception.transaction.TransactionResultFailedException;
 import core.accountserver.exception.user.UserNotFoundException;
+import core.accountserver.metrics.RequestMetrics;
 import core.accountserver.repository.AccountRepository;
 import core.accountserver.repository.AccountUserRepository;
 import core.accountserver.repository.TransactionRepository;
@@ -38,20 +44,19 @@ public class TransactionService {
 	private final TransactionRepository transactionRepository;
 	private final AccountUserRepository accountUserRepository;
 	private final AccountRepository accountRepository;
+	private final RequestMetrics requestMetrics;
 
 	@Transactional
 	public UseBalanceResponse useBalance(Long userId, String accountNumber, Long amount) {
+		requestMetrics.recordCommit();
+		Account account = accountRepository.findWithAccountUserByAccountNumber(accountNumber)
+			.orElseThrow(() -> accountNotFound(userId));
 
-		AccountUser accountUser = accountUserRepository.findById(userId)
-			.orElseThrow(() -> new UserNotFoundException("해당 사용자가 존재하지 않습니다."));
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-			.orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
-
-		validUseBalance(accountUser, account, amount);
+		requestMetrics.record(RequestMetrics.VALIDATION, () -> validUseBalance(userId, account, amount));
 
-		account.useBalance(amount);
+		long balanceSnapshot = debit(account, amount);
 		Transaction transaction = transactionRepository.save(
-			Transaction.createSuccessTransaction(account, amount, USE));
+			Transaction.createSuccessTransaction(account, amount, USE, balanceSnapshot));
 
 		return UseBalanceResponse.builder()
 			.accountNumber(accountNumber)
@@ -62,39 +67,69 @@ public class TransactionService {
 			.build();
 	}
 
-	private void validUseBalance(AccountUser user, Account account, Long amount) {
+	private void validUseBalance(Long userId, Account account, Long amount) {
 
-		if (!Objects.equals(user.getId(), account.getAccountUser().getId())) {
+		if (!Objects.equals(userId, account.getAccountUser().getId())) {
+			validUserExists(userId);
 			throw new UserAccountUnMatchException("사용자와 계좌의 소유주가 다릅니다.");
 		}
 		if (account.getAccountStatus().equals(UNREGISTERED)) {
 			throw new AccountAlreadyUnregisteredException("이미 해지된 계좌번호 입니다.");
 		}
-		if (account.getBalance() < amount) {
+		if (balanceOf(account) < amount) {
 			throw new AccountExceedBalanceException("거래금액이 계좌 잔액보다 큽니다.");
 		}
 
 	}
 
+	protected long balanceOf(Account account) {
+		return account.getBalance();
+	}
+
+	protected long debit(Account account, Long amount) {
+		account.useBalance(amount);
+		return account.getBalance();
+	}
+
+	protected long credit(Account account, Long amount) {
+		account.cancelBalance(amount);
+		return account.getBalance();
+	}
+
+	private AccountNotFoundException accountNotFound(Long userId) {
+		validUserExists(userId);
+		return new AccountNotFoundException("해당 계좌가 존재하지 않습니다.");
+	}
+
+	private void validUserExists(Long userId) {
+		if (!accountUserRepository.existsById(userId)) {
+			throw new UserNotFoundException("해당 사용자가 존재하지 않습니다.");
+		}
+	}
+
 	@Transactional
 	public void saveFailedTransaction(String accountNumber, Long amount, TransactionType transactionType) {
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-			.orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
+		Account account = findAccount(accountNumber);
 		transactionRepository.save(Transaction.createFailTransaction(account, amount, transactionType));
 	}
 
 	@Transactional
 	public CancelBalanceResponse cancelBalance(String transactionId, String accountNumber, Long amount) {
-		Account account = accountRepository.findByAccountNumber(accountNumber)
-			.orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
-		validAccount(account);
-		Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-			.orElseThrow(() -> new TransactionNotFoundException("해당 거래내역이 존재하지 않습니다."));
-		validCancelBalance(account, transaction, amount);
-
-		account.cancelBalance(amount);
+		requestMetrics.recordCommit();
+		Transaction transaction = transactionRepository.findWithAccountByTransactionId(transactionId)
+			.orElseThrow(() -> transactionNotFound(accountNumber));
+		Account account = transaction.getAccount();
+		requestMetrics.record(RequestMetrics.VALIDATION, () -> {
+			if (!Objects.equals(account.getAccountNumber(), accountNumber)) {
+				throw accountTransactionUnMatch(accountNumber);
+			}
+			validAccount(account);
+			validCancelBalance(transaction, amount);
+		});
+
+		long balanceSnapshot = credit(account, amount);
 		Transaction createTransaction = transactionRepository.save(
-			Transaction.createSuccessTransaction(account, amount, CANCEL));
+			Transaction.createSuccessTransaction(account, amount, CANCEL, balanceSnapshot));
 
 		return CancelBalanceResponse.builder()
 			.transactedAt(createTransaction.getTransactedAt())
@@ -105,13 +140,13 @@ public class TransactionService {
 			.build();
 	}
 
-	private void validCancelBalance(Account account, Transaction transaction, Long amount) {
-		if (!Objects.equals(account.getId(), transaction.getAccount().getId())) {
-			throw new AccountTransactionUnMatchException("해당계좌에서 발생된 거래가 아닙니다.");
-		}
+	private void validCancelBalance(Transaction transaction, Long amount) {
 		if (transaction.isCancel()) {
 			throw new TransactionAlreadyCancelException("이미 취소된 거래입니다.");
 		}
+		if (!transaction.isUse()) {
+			throw new TransactionNotCancelableException("취소할 수 없는 거래입니다.");
+		}
 		if (transaction.isFailed()) {
 			throw new TransactionResultFailedException("해당 거래는 실패한 거래입니다.");
 		}
@@ -123,12 +158,28 @@ public class TransactionService {
 		}
 	}
 
+	private TransactionNotFoundException transactionNotFound(String accountNumber) {
+		validAccount(findAccount(accountNumber));
+		return new TransactionNotFoundException("해당 거래내역이 존재하지 않습니다.");
+	}
+
+	private AccountTransactionUnMatchException accountTransactionUnMatch(String accountNumber) {
+		validAccount(findAccount(accountNumber));
+		return new AccountTransactionUnMatchException("해당계좌에서 발생된 거래가 아닙니다.");
+	}
+
+	private Account findAccount(String accountNumber) {
+		return accountRepository.findByAccountNumber(accountNumber)
+			.orElseThrow(() -> new AccountNotFoundException("해당 계좌가 존재하지 않습니다."));
+	}
+
 	private void validAccount(Account account) {
 		if (account.isUnRegistered()) {
 			throw new AccountAlreadyUnregisteredException("이미 해지된 계좌번호 입니다.");
 		}
 	}
 
+	@Coalesce
 	public TransactionSearchResponse findByTransactionId(String transactionId) {
 		Transaction transaction = transactionRepository.findByTransactionId(transactionId)
 			.orElseThrow(() -> new TransactionNotFoundException("해당 거래내역이 존재하지 않습니다."));
@@ -141,4 +192,26 @@ public class TransactionService {
 			.transactedAt(transaction.getTransactedAt())
 			.build();
 	}
+
+	@Transactional(readOnly = true)
+	public AccountBalanceResponse findBalanceAt(String accountNumber, LocalDateTime at) {
+		Account account = findAccount(accountNumber);
+		if (account.getRegisterAt() != null && account.getRegisterAt().isAfter(at)) {
+			throw new BalanceNotRecordedException("해당 시점에 개설되지 않은 계좌입니다.");
+		}
+		long balance = transactionRepository
+			.findFirstByAccountAndTransactionResultAndTransactedAtLessThanEqualOrderByTransactedAtDescIdDesc(account,
+				SUCCESS, at)
+			.map(Transaction::getBalanceSnapshot)
+			.orElseGet(() -> transactionRepository
+				.findFirstByAccountAndTransactionResultAndTransactedAtAfterOrderByTransactedAtAscIdAsc(account, SUCCESS,
+					at)
+				.map(Transaction::balanceBefore)
+				.orElseGet(() -> balanceOf(account)));
+		return AccountBalanceResponse.builder()
+			.accountNumber(accountNumber)
+			.balance(balance)
+			.at(at)
+			.build();
+	}
 }
@@ -0,0 +1,21 @@
+package core.accountserver.shard;
+
+import core.accountserver.generator.AccountNumberGenerator;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ShardAwareAccountNumberGenerator implements AccountNumberGenerator {
+
+	private final AccountNumberGenerator delegate;
+	private final ShardMap shardMap;
+
+	@Override
+	public String generator(Long userId) {
+		int bucket = shardMap.bucketOfUser(userId);
+		String accountNumber = delegate.generator(userId);
+		while (shardMap.bucketOf(accountNumber) != bucket) {
+			accountNumber = delegate.generator(userId);
+		}
+		return accountNumber;
+	}
+}
@@ -0,0 +1,27 @@
+package core.accountserver.shard;
+
+public class ShardContext {
+
+	private static final int DEFAULT_SHARD = 0;
+
+	private final ThreadLocal<Integer> currentShard = new ThreadLocal<>();
+
+	public Integer bind(int shard) {
+		Integer previous = currentShard.get();
+		currentShard.set(shard);
+		return previous;
+	}
+
+	public void restore(Integer previous) {
+		if (previous == null) {
+			currentShard.remove();
+		} else {
+			currentShard.set(previous);
+		}
+	}
+
+	public int current() {
+		Integer shard = currentShard.get();
+		return shard == null ? DEFAULT_SHARD : shard;
+	}
+}
@@ -0,0 +1,106 @@
+package core.accountserver.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.Getter;
+
+@Getter
+public class ShardMap {
+
+	private final int shardCount;
+	private final int bucketCount;
+	private final AtomicIntegerArray owners;
+	private final AtomicIntegerArray frozen;
+	private final ReentrantReadWriteLock[] locks;
+	private volatile long leaseUntil = Long.MAX_VALUE;
+
+	public ShardMap(int shardCount, int bucketCount) {
+		if (shardCount < 1 || bucketCount < shardCount) {
+			throw new IllegalArgumentException("버킷 수는 샤드 수 이상이어야 합니다.");
+		}
+		this.shardCount = shardCount;
+		this.bucketCount = bucketCount;
+		this.owners = new AtomicIntegerArray(bucketCount);
+		this.frozen = new AtomicIntegerArray(bucketCount);
+		this.locks = new ReentrantReadWriteLock[bucketCount];
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			owners.set(bucket, bucket % shardCount);
+			locks[bucket] = new ReentrantReadWriteLock();
+		}
+	}
+
+	public int bucketOf(String accountNumber) {
+		return Math.floorMod(mix(accountNumber.hashCode()), bucketCount);
+	}
+
+	public int bucketOfUser(long userId) {
+		return Math.floorMod(mix(Long.hashCode(userId)), bucketCount);
+	}
+
+	public int shardOf(String accountNumber) {
+		return ownerOf(bucketOf(accountNumber));
+	}
+
+	public int ownerOf(int bucket) {
+		return owners.get(bucket);
+	}
+
+	public boolean isFrozen(int bucket) {
+		return frozen.get(bucket) == 1;
+	}
+
+	public boolean isFenced() {
+		return System.currentTimeMillis() >= leaseUntil;
+	}
+
+	public boolean contains(int bucket, int shard) {
+		return bucket >= 0 && bucket < bucketCount && shard >= 0 && shard < shardCount;
+	}
+
+	public Map<Integer, List<Integer>> assignments() {
+		Map<Integer, List<Integer>> assignments = new TreeMap<>();
+		for (int shard = 0; shard < shardCount; shard++) {
+			assignments.put(shard, new ArrayList<>());
+		}
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			assignments.get(ownerOf(bucket)).add(bucket);
+		}
+		return assignments;
+	}
+
+	Lock readLock(int bucket) {
+		return locks[bucket].readLock();
+	}
+
+	Lock writeLock(int bucket) {
+		return locks[bucket].writeLock();
+	}
+
+	void fence() {
+		leaseUntil = 0L;
+	}
+
+	void renewLease(long until) {
+		leaseUntil = until;
+	}
+
+	void assign(int bucket, int shard, boolean frozen) {
+		owners.set(bucket, shard);
+		this.frozen.set(bucket, frozen ? 1 : 0);
+	}
+
+	private static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+}
@@ -0,0 +1,489 @@
+package core.accountserver.shard;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ShardRebalancer {
+
+	private static final int CHUNK_SIZE = 500;
+	private static final int SEQUENCE_SHIFT = 40;
+	private static final long ACK_POLL_MILLIS = 50L;
+	private static final String SHARD_BUCKET_TABLE = "shard_bucket";
+	private static final String SHARD_VERSION_TABLE = "shard_version";
+	private static final String SHARD_NODE_TABLE = "shard_node";
+	private static final String SHARD_OWNER_TABLE = "shard_owner";
+	private static final int NO_CLEANUP = -1;
+	private static final long NOT_LOADED = -1L;
+	private static final List<String> ACCOUNT_ID_TABLES = List.of("transaction", "account_balance_slot",
+		"balance_hold", "account_balance_snapshot");
+	private static final List<String> ACCOUNT_NUMBER_TABLES = List.of("outbox_event");
+
+	private final ShardMap shardMap;
+	private final long ownerLeaseMillis;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final List<NamedParameterJdbcTemplate> shards = new ArrayList<>();
+	private final List<TransactionTemplate> transactions = new ArrayList<>();
+	private final Map<Integer, Integer> locations = new HashMap<>();
+	private final Map<Integer, Integer> cleanups = new HashMap<>();
+	private final Set<Integer> frozen = new HashSet<>();
+	private List<String> accountIdTables = List.of();
+	private List<String> accountNumberTables = List.of();
+	private long version = NOT_LOADED;
+	private volatile boolean leader;
+
+	public ShardRebalancer(ShardMap shardMap, List<DataSource> dataSources, long ownerLeaseMillis) {
+		this.shardMap = shardMap;
+		this.ownerLeaseMillis = ownerLeaseMillis;
+		for (DataSource dataSource : dataSources) {
+			shards.add(new NamedParameterJdbcTemplate(dataSource));
+			transactions.add(new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+		}
+		shardMap.fence();
+	}
+
+	public synchronized void initialize(boolean mirrorSchema) {
+		if (mirrorSchema) {
+			mirrorSchema();
+		}
+		createTables();
+		accountIdTables = existingTables(ACCOUNT_ID_TABLES);
+		accountNumberTables = existingTables(ACCOUNT_NUMBER_TABLES);
+		leader = claimLeadership();
+		if (leader) {
+			initializeAssignments();
+		}
+		reload();
+		renewNode();
+		int moved = leader ? recover() : 0;
+		log.info("Shard map ready: {} shards, {} buckets, version {}, leader: {}, {} misplaced buckets moved",
+			shardMap.getShardCount(), shardMap.getBucketCount(), version, leader, moved);
+	}
+
+	@Scheduled(fixedDelayString = "${shard.owner-heartbeat-ms}")
+	public synchronized void heartbeat() {
+		try {
+			reload();
+			renewNode();
+		} catch (RuntimeException e) {
+			log.warn("Failed to refresh the shard map, bucket access is fenced once the lease ends", e);
+			return;
+		}
+		boolean wasLeader = leader;
+		leader = wasLeader ? renewLeadership() : claimLeadership();
+		if (wasLeader && !leader) {
+			log.warn("Lost shard rebalancer leadership to another node");
+		}
+		if (!leader) {
+			return;
+		}
+		if (!wasLeader) {
+			log.info("Took over shard rebalancer leadership");
+		}
+		if (!wasLeader || !frozen.isEmpty() || !cleanups.isEmpty()) {
+			recover();
+		}
+	}
+
+	public boolean isLeader() {
+		return leader;
+	}
+
+	public synchronized void moveBucket(int bucket, int target) {
+		ensureLeader();
+		reload();
+		if (locations.get(bucket) == target && shardMap.ownerOf(bucket) == target && !frozen.contains(bucket)) {
+			return;
+		}
+		moveAll(Map.of(bucket, target));
+	}
+
+	public synchronized int rebalance() {
+		ensureLeader();
+		reload();
+		return recover();
+	}
+
+	private int recover() {
+		Map<Integer, Set<Integer>> leftovers = new TreeMap<>();
+		for (Map.Entry<Integer, Integer> entry : Map.copyOf(cleanups).entrySet()) {
+			if (entry.getValue().equals(locations.get(entry.getKey()))) {
+				finishCleanup(entry.getKey());
+			} else {
+				leftovers.computeIfAbsent(entry.getValue(), shard -> new TreeSet<>()).add(entry.getKey());
+			}
+		}
+		for (Map.Entry<Integer, Set<Integer>> entry : leftovers.entrySet()) {
+			cleanUp(entry.getKey(), entry.getValue());
+		}
+		if (!frozen.isEmpty()) {
+			Set<Integer> stuck = new TreeSet<>(frozen);
+			publish(origin -> stuck.forEach(bucket -> origin.update("update " + SHARD_BUCKET_TABLE
+				+ " set frozen = false where bucket = ?", bucket)));
+			log.info("Unfroze {} buckets left frozen by an interrupted move", stuck.size());
+		}
+		Map<Integer, Integer> misplaced = new TreeMap<>();
+		for (int bucket = 0; bucket < shardMap.getBucketCount(); bucket++) {
+			if (locations.get(bucket) != shardMap.ownerOf(bucket)) {
+				misplaced.put(bucket, shardMap.ownerOf(bucket));
+			}
+		}
+		return moveAll(misplaced);
+	}
+
+	private int moveAll(Map<Integer, Integer> targets) {
+		if (targets.isEmpty()) {
+			return 0;
+		}
+		publish(origin -> targets.forEach((bucket, target) -> origin.update("update " + SHARD_BUCKET_TABLE
+			+ " set frozen = true, cleanup = ? where bucket = ?", target, bucket)));
+		awaitNodes();
+		Map<Integer, Set<Integer>> bySource = new TreeMap<>();
+		targets.keySet().forEach(bucket ->
+			bySource.computeIfAbsent(locations.get(bucket), shard -> new TreeSet<>()).add(bucket));
+		for (Map.Entry<Integer, Set<Integer>> entry : bySource.entrySet()) {
+			int source = entry.getKey();
+			Map<Integer, BucketRows> rowsByBucket = rowsOf(source, entry.getValue());
+			for (int bucket : entry.getValue()) {
+				move(bucket, targets.get(bucket), rowsByBucket.get(bucket));
+			}
+		}
+		return targets.size();
+	}
+
+	private void move(int bucket, int target, BucketRows rows) {
+		if (target != rows.shard) {
+			copy(target, rows);
+		}
+		publish(origin -> origin.update("update " + SHARD_BUCKET_TABLE + " set shard = ?, located = ?, "
+			+ "frozen = false, cleanup = ? where bucket = ?", target, target, rows.shard, bucket));
+		if (target != rows.shard) {
+			delete(rows.shard, rows);
+		}
+		finishCleanup(bucket);
+		log.info("Moved bucket {} from shard {} to shard {}: {} users, {} accounts", bucket, rows.shard, target,
+			rows.users.size(), rows.accounts.size());
+	}
+
+	private void cleanUp(int shard, Set<Integer> buckets) {
+		Map<Integer, BucketRows> rowsByBucket = rowsOf(shard, buckets);
+		for (int bucket : buckets) {
+			delete(shard, rowsByBucket.get(bucket));
+			finishCleanup(bucket);
+			log.info("Removed leftover rows of bucket {} from shard {}", bucket, shard);
+		}
+	}
+
+	private Map<Integer, BucketRows> rowsOf(int shard, Set<Integer> buckets) {
+		JdbcTemplate jdbcTemplate = shards.get(shard).getJdbcTemplate();
+		Map<Integer, BucketRows> rowsByBucket = new HashMap<>();
+		for (int bucket : buckets) {
+			rowsByBucket.put(bucket, new BucketRows(shard));
+		}
+		jdbcTemplate.query("select id from account_user", rs -> {
+			BucketRows rows = rowsByBucket.get(shardMap.bucketOfUser(rs.getLong(1)));
+			if (rows != null) {
+				rows.users.add(rs.getLong(1));
+			}
+		});
+		jdbcTemplate.query("select id, account_number from account", rs -> {
+			BucketRows rows = rowsByBucket.get(shardMap.bucketOf(rs.getString(2)));
+			if (rows != null) {
+				rows.accounts.add(rs.getLong(1));
+				rows.accountNumbers.add(rs.getString(2));
+			}
+		});
+		for (BucketRows rows : rowsByBucket.values()) {
+			for (String table : accountIdTables) {
+				rows.children.put(table, idsOf(shard, table, "account_id", rows.accounts));
+			}
+			for (String table : accountNumberTables) {
+				rows.children.put(table, idsOf(shard, table, "account_number", rows.accountNumbers));
+			}
+		}
+		return rowsByBucket;
+	}
+
+	private List<Long> idsOf(int shard, String table, String column, List<?> keys) {
+		List<Long> ids = new ArrayList<>();
+		for (List<?> chunk : chunks(keys)) {
+			ids.addAll(shards.get(shard).queryForList(
+				"select id from " + table + " where " + column + " in (:keys)", Map.of("keys", chunk), Long.class));
+		}
+		return ids;
+	}
+
+	private void copy(int target, BucketRows rows) {
+		transactions.get(target).executeWithoutResult(status -> {
+			rows.children.forEach((table, ids) -> deleteRows(target, table, ids));
+			deleteRows(target, "account", rows.accounts);
+			deleteRows(target, "account_user", rows.users);
+			copyRows(rows.shard, target, "account_user", rows.users);
+			copyRows(rows.shard, target, "account", rows.accounts);
+			rows.children.forEach((table, ids) -> copyRows(rows.shard, target, table, ids));
+		});
+	}
+
+	private void delete(int source, BucketRows rows) {
+		transactions.get(source).executeWithoutResult(status -> {
+			rows.children.forEach((table, ids) -> deleteRows(source, table, ids));
+			deleteRows(source, "account", rows.accounts);
+			deleteRows(source, "account_user", rows.users);
+		});
+	}
+
+	private void copyRows(int source, int target, String table, List<Long> ids) {
+		for (List<Long> chunk : chunks(ids)) {
+			List<Map<String, Object>> rows = shards.get(source).queryForList(
+				"select * from " + table + " where id in (:ids)", Map.of("ids", chunk));
+			if (rows.isEmpty()) {
+				continue;
+			}
+			List<String> columns = new ArrayList<>(rows.get(0).keySet());
+			String sql = "insert into " + table + "(" + String.join(", ", columns) + ") values ("
+				+ columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+			List<Object[]> values = rows.stream()
+				.map(row -> columns.stream().map(row::get).toArray())
+				.collect(Collectors.toList());
+			shards.get(target).getJdbcTemplate().batchUpdate(sql, values);
+		}
+	}
+
+	private void deleteRows(int shard, String table, List<Long> ids) {
+		for (List<Long> chunk : chunks(ids)) {
+			shards.get(shard).update("delete from " + table + " where id in (:ids)", Map.of("ids", chunk));
+		}
+	}
+
+	private void mirrorSchema() {
+		List<String> statements = origin().queryForList("script nodata", String.class).stream()
+			.filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+			.collect(Collectors.toList());
+		for (int shard = 1; shard < shards.size(); shard++) {
+			JdbcTemplate jdbcTemplate = shards.get(shard).getJdbcTemplate();
+			if (hasTable(jdbcTemplate, "ACCOUNT")) {
+				continue;
+			}
+			statements.forEach(jdbcTemplate::execute);
+			long start = ((long)shard << SEQUENCE_SHIFT) + 1;
+			jdbcTemplate.execute("alter sequence hibernate_sequence restart with " + start);
+		}
+	}
+
+	private void createTables() {
+		JdbcTemplate origin = origin();
+		origin.execute("create table if not exists " + SHARD_OWNER_TABLE
+			+ "(id int primary key, node_id varchar(64) not null, expires_at timestamp not null)");
+		origin.execute("create table if not exists " + SHARD_BUCKET_TABLE
+			+ "(bucket int primary key, shard int not null, located int not null, cleanup int not null, "
+			+ "frozen boolean default false not null)");
+		origin.execute("alter table " + SHARD_BUCKET_TABLE
+			+ " add column if not exists frozen boolean default false not null");
+		origin.execute("create table if not exists " + SHARD_VERSION_TABLE
+			+ "(id int primary key, version bigint not null)");
+		origin.execute("create table if not exists " + SHARD_NODE_TABLE
+			+ "(node_id varchar(64) primary key, version bigint not null, expires_at timestamp not null)");
+	}
+
+	private void initializeAssignments() {
+		transactions.get(0).executeWithoutResult(status -> {
+			JdbcTemplate origin = origin();
+			if (origin.queryForObject("select count(*) from " + SHARD_VERSION_TABLE, Integer.class) > 0) {
+				return;
+			}
+			if (origin.queryForObject("select count(*) from " + SHARD_BUCKET_TABLE, Integer.class) == 0) {
+				List<Object[]> assignments = new ArrayList<>();
+				for (int bucket = 0; bucket < shardMap.getBucketCount(); bucket++) {
+					assignments.add(new Object[] {bucket, shardMap.ownerOf(bucket), 0, NO_CLEANUP});
+				}
+				origin.batchUpdate("insert into " + SHARD_BUCKET_TABLE + "(bucket, shard, located, cleanup) "
+					+ "values (?, ?, ?, ?)", assignments);
+			}
+			origin.update("insert into " + SHARD_VERSION_TABLE + "(id, version) values (1, 1)");
+		});
+	}
+
+	private void reload() {
+		JdbcTemplate origin = origin();
+		List<Long> versions = origin.queryForList("select version from " + SHARD_VERSION_TABLE + " where id = 1",
+			Long.class);
+		if (versions.isEmpty() || versions.get(0) == version) {
+			return;
+		}
+		for (int bucket = 0; bucket < shardMap.getBucketCount(); bucket++) {
+			locations.putIfAbsent(bucket, 0);
+		}
+		for (Map<String, Object> row : origin.queryForList(
+			"select bucket, shard, located, cleanup, frozen from " + SHARD_BUCKET_TABLE)) {
+			int bucket = ((Number)row.get("bucket")).intValue();
+			int shard = ((Number)row.get("shard")).intValue();
+			int located = ((Number)row.get("located")).intValue();
+			int cleanup = ((Number)row.get("cleanup")).intValue();
+			if (shardMap.contains(bucket, shard) && shardMap.contains(bucket, located)) {
+				boolean moving = Boolean.TRUE.equals(row.get("frozen"));
+				apply(bucket, shard, moving || located != shard);
+				locations.put(bucket, located);
+				if (moving) {
+					frozen.add(bucket);
+				} else {
+					frozen.remove(bucket);
+				}
+			}
+			if (shardMap.contains(bucket, cleanup)) {
+				cleanups.put(bucket, cleanup);
+			} else {
+				cleanups.remove(bucket);
+			}
+		}
+		version = versions.get(0);
+	}
+
+	private void apply(int bucket, int shard, boolean unavailable) {
+		if (shardMap.ownerOf(bucket) == shard && shardMap.isFrozen(bucket) == unavailable) {
+			return;
+		}
+		Lock lock = shardMap.writeLock(bucket);
+		lock.lock();
+		try {
+			shardMap.assign(bucket, shard, unavailable);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void publish(Consumer<JdbcTemplate> change) {
+		transactions.get(0).executeWithoutResult(status -> {
+			ensureLeader();
+			change.accept(origin());
+			origin().update("update " + SHARD_VERSION_TABLE + " set version = version + 1 where id = 1");
+		});
+		reload();
+		renewNode();
+	}
+
+	private void awaitNodes() {
+		while (true) {
+			Integer behind = origin().queryForObject("select count(*) from " + SHARD_NODE_TABLE
+				+ " where version < ? and expires_at > ?", Integer.class, version,
+				new Timestamp(System.currentTimeMillis()));
+			if (behind == null || behind == 0) {
+				return;
+			}
+			ensureLeader();
+			renewNode();
+			try {
+				TimeUnit.MILLISECONDS.sleep(ACK_POLL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("샤드 맵 전파를 기다리는 중 중단되었습니다.");
+			}
+		}
+	}
+
+	private void renewNode() {
+		if (version == NOT_LOADED) {
+			return;
+		}
+		long expiresAt = System.currentTimeMillis() + ownerLeaseMillis;
+		origin().update("merge into " + SHARD_NODE_TABLE + "(node_id, version, expires_at) key(node_id) "
+			+ "values (?, ?, ?)", nodeId, version, new Timestamp(expiresAt));
+		shardMap.renewLease(expiresAt);
+	}
+
+	private boolean claimLeadership() {
+		JdbcTemplate origin = origin();
+		long now = System.currentTimeMillis();
+		int claimed = origin.update("update " + SHARD_OWNER_TABLE + " set node_id = ?, expires_at = ? "
+			+ "where id = 1 and (node_id = ? or expires_at < ?)", nodeId, new Timestamp(now + ownerLeaseMillis),
+			nodeId, new Timestamp(now));
+		if (claimed == 1) {
+			return true;
+		}
+		try {
+			origin.update("insert into " + SHARD_OWNER_TABLE + "(id, node_id, expires_at) values (1, ?, ?)", nodeId,
+				new Timestamp(now + ownerLeaseMillis));
+			return true;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	private boolean renewLeadership() {
+		Timestamp expiresAt = new Timestamp(System.currentTimeMillis() + ownerLeaseMillis);
+		return origin().update("update " + SHARD_OWNER_TABLE + " set expires_at = ? where id = 1 and node_id = ?",
+			expiresAt, nodeId) == 1;
+	}
+
+	private void ensureLeader() {
+		if (!leader || !renewLeadership()) {
+			leader = false;
+			throw new IllegalStateException("샤드 재배치 리더가 아니어서 버킷을 이동할 수 없습니다.");
+		}
+	}
+
+	private void finishCleanup(int bucket) {
+		origin().update("update " + SHARD_BUCKET_TABLE + " set cleanup = ? where bucket = ?", NO_CLEANUP, bucket);
+		cleanups.remove(bucket);
+	}
+
+	private JdbcTemplate origin() {
+		return shards.get(0).getJdbcTemplate();
+	}
+
+	private List<String> existingTables(List<String> tables) {
+		return tables.stream()
+			.filter(table -> hasTable(origin(), table.toUpperCase()))
+			.collect(Collectors.toList());
+	}
+
+	private static boolean hasTable(JdbcTemplate jdbcTemplate, String table) {
+		Integer count = jdbcTemplate.queryForObject(
+			"select count(*) from information_schema.tables where upper(table_name) = ?", Integer.class, table);
+		return count != null && count > 0;
+	}
+
+	private static <T> List<List<T>> chunks(Collection<T> ids) {
+		List<T> values = new ArrayList<>(ids);
+		List<List<T>> chunks = new ArrayList<>();
+		for (int from = 0; from < values.size(); from += CHUNK_SIZE) {
+			chunks.add(values.subList(from, Math.min(from + CHUNK_SIZE, values.size())));
+		}
+		return chunks;
+	}
+
+	private static class BucketRows {
+		private final int shard;
+		private final List<Long> users = new ArrayList<>();
+		private final List<Long> accounts = new ArrayList<>();
+		private final List<String> accountNumbers = new ArrayList<>();
+		private final Map<String, List<Long>> children = new TreeMap<>();
+
+		private BucketRows(int shard) {
+			this.shard = shard;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package core.accountserver.shard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+	@Getter
+	private final List<DataSource> shards;
+	private final ShardContext shardContext;
+
+	public ShardRoutingDataSource(List<DataSource> shards, ShardContext shardContext) {
+		this.shards = List.copyOf(shards);
+		this.shardContext = shardContext;
+		Map<Object, Object> targets = new HashMap<>();
+		for (int shard = 0; shard < shards.size(); shard++) {
+			targets.put(shard, shards.get(shard));
+		}
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(shards.get(0));
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return shardContext.current();
+	}
+
+	public void close() {
+		for (DataSource shard : shards) {
+			if (shard instanceof AutoCloseable) {
+				try {
+					((AutoCloseable)shard).close();
+				} catch (Exception e) {
+					log.warn("Failed to close shard datasource", e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package core.accountserver.shard;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import core.accountserver.exception.shard.ShardFencedException;
+
+public class ShardTemplate {
+
+	private final ShardMap shardMap;
+	private final ShardContext shardContext;
+	private final TransactionTemplate readWrite;
+	private final TransactionTemplate readOnly;
+
+	public ShardTemplate(ShardMap shardMap, ShardContext shardContext, PlatformTransactionManager transactionManager) {
+		this.shardMap = shardMap;
+		this.shardContext = shardContext;
+		this.readWrite = new TransactionTemplate(transactionManager);
+		this.readOnly = new TransactionTemplate(transactionManager);
+		this.readOnly.setReadOnly(true);
+	}
+
+	public <T> T inBucket(int bucket, boolean readOnly, Supplier<T> action) {
+		Lock lock = shardMap.readLock(bucket);
+		lock.lock();
+		try {
+			if (shardMap.isFrozen(bucket)) {
+				throw new ShardFencedException("이동 중인 버킷이라 요청을 처리할 수 없습니다.");
+			}
+			return onShard(shardMap.ownerOf(bucket), readOnly, action);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void inBucket(int bucket, boolean readOnly, Runnable action) {
+		inBucket(bucket, readOnly, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	public <T> T onShard(int shard, boolean readOnly, Supplier<T> action) {
+		if (shardMap.isFenced()) {
+			throw new ShardFencedException("샤드 맵을 갱신하지 못해 요청을 처리할 수 없습니다.");
+		}
+		Integer previous = shardContext.bind(shard);
+		try {
+			return (readOnly ? this.readOnly : readWrite).execute(status -> action.get());
+		} finally {
+			shardContext.restore(previous);
+		}
+	}
+}
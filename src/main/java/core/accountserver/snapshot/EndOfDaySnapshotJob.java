@@ -0,0 +1,44 @@
+package core.accountserver.snapshot;
+
+import java.time.LocalDate;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import core.accountserver.service.BalanceSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "balance-snapshot", name = "enabled", havingValue = "true")
+public class EndOfDaySnapshotJob {
+
+	private static final String LOCK_KEY_PREFIX = "balance-snapshot:";
+
+	private final BalanceSnapshotService balanceSnapshotService;
+	private final RedissonClient redissonClient;
+
+	@Scheduled(cron = "${balance-snapshot.cron}")
+	public void run() {
+		LocalDate snapshotDate = LocalDate.now().minusDays(1);
+		RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + snapshotDate);
+		if (!lock.tryLock()) {
+			log.info("Snapshot for {} is already running on another node", snapshotDate);
+			return;
+		}
+		try {
+			if (balanceSnapshotService.isTaken(snapshotDate)) {
+				log.info("Snapshot for {} is already taken", snapshotDate);
+				return;
+			}
+			balanceSnapshotService.snapshot(snapshotDate);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package core.accountserver.stream;
+
+import java.time.LocalDateTime;
+
+import core.accountserver.domain.transaction.Transaction;
+import core.accountserver.domain.transaction.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BalanceChangeEvent {
+	private Long userId;
+	private String accountNumber;
+	private String transactionId;
+	private TransactionType transactionType;
+	private Long amount;
+	private Long balance;
+	private LocalDateTime transactedAt;
+
+	public static BalanceChangeEvent from(Transaction transaction) {
+		return BalanceChangeEvent.builder()
+			.userId(transaction.getAccount().getAccountUser().getId())
+			.accountNumber(transaction.getAccount().getAccountNumber())
+			.transactionId(transaction.getTransactionId())
+			.transactionType(transaction.getTransactionType())
+			.amount(transaction.getAmount())
+			.balance(transaction.getBalanceSnapshot())
+			.transactedAt(transaction.getTransactedAt())
+			.build();
+	}
+}
@@ -0,0 +1,23 @@
+package core.accountserver.stream;
+
+import javax.persistence.PostPersist;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import core.accountserver.domain.transaction.Transaction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BalanceEventListener {
+
+	private final ObjectProvider<BalanceEventRelay> balanceEventRelay;
+
+	@PostPersist
+	public void persisted(Transaction transaction) {
+		BalanceEventRelay relay = balanceEventRelay.getIfAvailable();
+		if (relay == null || transaction.isFailed()) {
+			return;
+		}
+		relay.publishAfterCommit(BalanceChangeEvent.from(transaction));
+	}
+}
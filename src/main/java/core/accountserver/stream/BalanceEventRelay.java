@@ -0,0 +1,65 @@
+package core.accountserver.stream;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class BalanceEventRelay {
+
+	private final RTopic topic;
+	private final ObjectMapper objectMapper;
+	private final BalanceStreamHub balanceStreamHub;
+	private int listenerId;
+
+	public BalanceEventRelay(RedissonClient redissonClient, String topicName, ObjectMapper objectMapper,
+		BalanceStreamHub balanceStreamHub) {
+		this.topic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+		this.objectMapper = objectMapper;
+		this.balanceStreamHub = balanceStreamHub;
+	}
+
+	public void start() {
+		listenerId = topic.addListener(String.class, (channel, message) -> received(message));
+	}
+
+	public void publish(BalanceChangeEvent event) {
+		try {
+			topic.publishAsync(objectMapper.writeValueAsString(event));
+		} catch (JsonProcessingException e) {
+			log.warn("Failed to serialize balance event of transactionId: {}", event.getTransactionId(), e);
+		}
+	}
+
+	public void publishAfterCommit(BalanceChangeEvent event) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(event);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(event);
+			}
+		});
+	}
+
+	public void close() {
+		topic.removeListener(listenerId);
+	}
+
+	private void received(String message) {
+		try {
+			balanceStreamHub.dispatch(objectMapper.readValue(message, BalanceChangeEvent.class));
+		} catch (JsonProcessingException e) {
+			log.warn("Dropping malformed balance event: {}", message, e);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package core.accountserver.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import core.accountserver.exception.stream.StreamConnectionLimitException;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class BalanceStreamHub {
+
+	private final Map<Long, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final int maxConnections;
+	private final int queueCapacity;
+	private final long timeoutMillis;
+	private final long writeTimeoutNanos;
+	private final ExecutorService sender;
+
+	public BalanceStreamHub(int maxConnections, int queueCapacity, long timeoutMillis, long writeTimeoutMillis,
+		ExecutorService sender) {
+		this.maxConnections = maxConnections;
+		this.queueCapacity = queueCapacity;
+		this.timeoutMillis = timeoutMillis;
+		this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+		this.sender = sender;
+	}
+
+	public SseEmitter connect(Long userId) {
+		if (connectionCount.incrementAndGet() > maxConnections) {
+			connectionCount.decrementAndGet();
+			throw new StreamConnectionLimitException("동시 연결 가능한 수를 초과하였습니다.");
+		}
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		SseConnection connection = new SseConnection(userId, emitter, queueCapacity, sender);
+		connections.compute(userId, (id, userConnections) -> {
+			Set<SseConnection> added = userConnections == null ? ConcurrentHashMap.newKeySet() : userConnections;
+			added.add(connection);
+			return added;
+		});
+		emitter.onCompletion(() -> remove(connection));
+		emitter.onTimeout(() -> remove(connection));
+		emitter.onError(e -> remove(connection));
+		return emitter;
+	}
+
+	public void dispatch(BalanceChangeEvent event) {
+		Set<SseConnection> userConnections = connections.get(event.getUserId());
+		if (userConnections == null) {
+			return;
+		}
+		for (SseConnection connection : userConnections) {
+			if (!connection.offer(event)) {
+				log.debug("Closing lagging balance stream of userId: {}", event.getUserId());
+				remove(connection);
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${balance-stream.heartbeat-ms}")
+	public void heartbeat() {
+		for (Set<SseConnection> userConnections : connections.values()) {
+			for (SseConnection connection : userConnections) {
+				if (!connection.heartbeat()) {
+					remove(connection);
+				}
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${balance-stream.write-timeout-ms}")
+	public void closeStuck() {
+		for (Set<SseConnection> userConnections : connections.values()) {
+			for (SseConnection connection : userConnections) {
+				if (connection.isStuck(writeTimeoutNanos)) {
+					log.debug("Closing stuck balance stream of userId: {}", connection.getUserId());
+					remove(connection);
+				}
+			}
+		}
+	}
+
+	public int connections() {
+		return connectionCount.get();
+	}
+
+	public void close() {
+		List<SseConnection> all = new ArrayList<>();
+		connections.values().forEach(all::addAll);
+		all.forEach(this::remove);
+		sender.shutdown();
+	}
+
+	private void remove(SseConnection connection) {
+		AtomicBoolean removed = new AtomicBoolean();
+		connections.computeIfPresent(connection.getUserId(), (id, userConnections) -> {
+			removed.set(userConnections.remove(connection));
+			return userConnections.isEmpty() ? null : userConnections;
+		});
+		if (removed.get()) {
+			connectionCount.decrementAndGet();
+		}
+		connection.close();
+	}
+}
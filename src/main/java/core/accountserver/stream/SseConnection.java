@@ -0,0 +1,119 @@
+package core.accountserver.stream;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+class SseConnection {
+
+	@Getter
+	private final Long userId;
+	@Getter
+	private final SseEmitter emitter;
+	private final ArrayBlockingQueue<SseEmitter.SseEventBuilder> queue;
+	private final Executor sender;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private volatile long sendStartedAt;
+	private Thread sendingThread;
+	private boolean completeAfterSend;
+
+	SseConnection(Long userId, SseEmitter emitter, int queueCapacity, Executor sender) {
+		this.userId = userId;
+		this.emitter = emitter;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.sender = sender;
+	}
+
+	boolean offer(BalanceChangeEvent event) {
+		return enqueue(SseEmitter.event()
+			.name("balance")
+			.id(event.getTransactionId())
+			.data(event));
+	}
+
+	boolean heartbeat() {
+		if (!queue.isEmpty()) {
+			return !closed.get();
+		}
+		return enqueue(SseEmitter.event().comment("heartbeat"));
+	}
+
+	boolean close() {
+		if (!closed.compareAndSet(false, true)) {
+			return false;
+		}
+		queue.clear();
+		if (!handOffCompletion()) {
+			emitter.complete();
+		}
+		return true;
+	}
+
+	boolean isClosed() {
+		return closed.get();
+	}
+
+	boolean isStuck(long timeoutNanos) {
+		long startedAt = sendStartedAt;
+		return startedAt != 0L && System.nanoTime() - startedAt > timeoutNanos;
+	}
+
+	private boolean enqueue(SseEmitter.SseEventBuilder event) {
+		if (closed.get() || !queue.offer(event)) {
+			return false;
+		}
+		if (draining.compareAndSet(false, true)) {
+			sender.execute(this::drain);
+		}
+		return true;
+	}
+
+	private void drain() {
+		boolean complete = false;
+		try {
+			SseEmitter.SseEventBuilder event;
+			while (!closed.get() && (event = queue.poll()) != null) {
+				sending(Thread.currentThread());
+				try {
+					emitter.send(event);
+				} finally {
+					complete = sending(null);
+				}
+			}
+		} catch (IOException | IllegalStateException e) {
+			close();
+		} finally {
+			Thread.interrupted();
+			draining.set(false);
+		}
+		if (complete) {
+			emitter.complete();
+		}
+		if (!queue.isEmpty() && !closed.get() && draining.compareAndSet(false, true)) {
+			sender.execute(this::drain);
+		}
+	}
+
+	private synchronized boolean handOffCompletion() {
+		if (sendingThread == null) {
+			return false;
+		}
+		completeAfterSend = true;
+		sendingThread.interrupt();
+		return true;
+	}
+
+	private synchronized boolean sending(Thread thread) {
+		sendingThread = thread;
+		sendStartedAt = thread == null ? 0L : System.nanoTime();
+		boolean complete = completeAfterSend;
+		completeAfterSend = false;
+		return complete;
+	}
+}
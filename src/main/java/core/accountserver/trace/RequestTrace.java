@@ -0,0 +1,74 @@
+package core.accountserver.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RequestTrace {
+
+	private static final int MAX_SPANS = 64;
+	private static final ThreadLocal<RequestTrace> TRACES = ThreadLocal.withInitial(RequestTrace::new);
+
+	private final String[] names = new String[MAX_SPANS];
+	private final String[] details = new String[MAX_SPANS];
+	private final long[] offsets = new long[MAX_SPANS];
+	private final long[] durations = new long[MAX_SPANS];
+	private boolean active;
+	private long startNanos;
+	private long startMillis;
+	private int count;
+	private int dropped;
+
+	private RequestTrace() {
+	}
+
+	public static RequestTrace begin() {
+		RequestTrace trace = TRACES.get();
+		trace.active = true;
+		trace.startNanos = System.nanoTime();
+		trace.startMillis = System.currentTimeMillis();
+		trace.count = 0;
+		trace.dropped = 0;
+		return trace;
+	}
+
+	public static void span(String name, long nanos) {
+		span(name, null, nanos);
+	}
+
+	public static void span(String name, String detail, long nanos) {
+		RequestTrace trace = TRACES.get();
+		if (!trace.active) {
+			return;
+		}
+		if (trace.count == MAX_SPANS) {
+			trace.dropped++;
+			return;
+		}
+		int index = trace.count++;
+		trace.names[index] = name;
+		trace.details[index] = detail;
+		trace.offsets[index] = System.nanoTime() - nanos - trace.startNanos;
+		trace.durations[index] = nanos;
+	}
+
+	public long end() {
+		active = false;
+		return System.nanoTime() - startNanos;
+	}
+
+	long getStartMillis() {
+		return startMillis;
+	}
+
+	int getDropped() {
+		return dropped;
+	}
+
+	List<TraceSpan> spans() {
+		List<TraceSpan> spans = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			spans.add(new TraceSpan(names[i], details[i], offsets[i] / 1_000, durations[i] / 1_000));
+		}
+		return spans;
+	}
+}
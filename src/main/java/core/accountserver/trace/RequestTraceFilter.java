@@ -0,0 +1,37 @@
+package core.accountserver.trace;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+	private final SlowRequestRecorder slowRequestRecorder;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		RequestTrace trace = RequestTrace.begin();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			long totalNanos = trace.end();
+			slowRequestRecorder.offer(request.getMethod(), request.getRequestURI(), response.getStatus(), totalNanos,
+				trace);
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String uri = request.getRequestURI();
+		return uri.startsWith("/admin/") || uri.startsWith("/actuator");
+	}
+}
@@ -0,0 +1,34 @@
+package core.accountserver.trace;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Getter;
+
+@Getter
+public class SlowRequest {
+	private final String method;
+	private final String uri;
+	private final int status;
+	private final LocalDateTime startedAt;
+	private final long totalMicros;
+	private final int droppedSpans;
+	private final List<TraceSpan> spans;
+	@JsonIgnore
+	private final long totalNanos;
+
+	public SlowRequest(String method, String uri, int status, long totalNanos, RequestTrace trace) {
+		this.method = method;
+		this.uri = uri;
+		this.status = status;
+		this.startedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(trace.getStartMillis()), ZoneId.systemDefault());
+		this.totalMicros = totalNanos / 1_000;
+		this.droppedSpans = trace.getDropped();
+		this.spans = trace.spans();
+		this.totalNanos = totalNanos;
+	}
+}
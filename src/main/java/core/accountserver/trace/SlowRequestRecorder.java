@@ -0,0 +1,49 @@
+package core.accountserver.trace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class SlowRequestRecorder {
+
+	private static final Comparator<SlowRequest> BY_TOTAL = Comparator.comparingLong(SlowRequest::getTotalNanos);
+
+	private final int capacity;
+	private final PriorityQueue<SlowRequest> slowest;
+	private volatile long threshold;
+
+	public SlowRequestRecorder(int capacity) {
+		this.capacity = capacity;
+		this.slowest = new PriorityQueue<>(capacity + 1, BY_TOTAL);
+	}
+
+	public void offer(String method, String uri, int status, long totalNanos, RequestTrace trace) {
+		if (totalNanos <= threshold) {
+			return;
+		}
+		synchronized (this) {
+			if (slowest.size() == capacity && totalNanos <= slowest.peek().getTotalNanos()) {
+				return;
+			}
+			slowest.add(new SlowRequest(method, uri, status, totalNanos, trace));
+			if (slowest.size() > capacity) {
+				slowest.poll();
+			}
+			if (slowest.size() == capacity) {
+				threshold = slowest.peek().getTotalNanos();
+			}
+		}
+	}
+
+	public synchronized List<SlowRequest> slowest() {
+		List<SlowRequest> requests = new ArrayList<>(slowest);
+		requests.sort(BY_TOTAL.reversed());
+		return requests;
+	}
+
+	public synchronized void clear() {
+		slowest.clear();
+		threshold = 0;
+	}
+}
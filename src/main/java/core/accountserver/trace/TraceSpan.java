@@ -0,0 +1,13 @@
+package core.accountserver.trace;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TraceSpan {
+	private final String name;
+	private final String detail;
+	private final long offsetMicros;
+	private final long durationMicros;
+}
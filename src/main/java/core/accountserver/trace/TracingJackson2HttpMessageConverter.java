@@ -0,0 +1,28 @@
+package core.accountserver.trace;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	public static final String SERIALIZATION = "response.serialization";
+
+	public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+		long start = System.nanoTime();
+		try {
+			super.writeInternal(object, type, outputMessage);
+		} finally {
+			RequestTrace.span(SERIALIZATION, System.nanoTime() - start);
+		}
+	}
+}
@@ -1,4 +1,3 @@
-
-insert into account_user(id, name, create_at, update_at) values (1,'proro',now(),now());
-insert into account_user(id, name, create_at, update_at) values (2,'lupi',now(),now());
-insert into account_user(id, name, create_at, update_at) values (3,'eddie',now(),now());
\ No newline at end of file
+insert into account_user(id, name, account_count, create_at, update_at) values (1,'proro',0,now(),now());
+insert into account_user(id, name, account_count, create_at, update_at) values (2,'lupi',0,now(),now());
+insert into account_user(id, name, account_count, create_at, update_at) values (3,'eddie',0,now(),now());
\ No newline at end of file
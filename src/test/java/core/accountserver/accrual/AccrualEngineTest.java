@@ -0,0 +1,222 @@
+package core.accountserver.accrual;
+
+import static core.accountserver.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import core.accountserver.exception.accrual.AccrualRunConflictException;
+import core.accountserver.exception.transaction.TransactionHasLockException;
+import core.accountserver.hot.HotAccountRegistry;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.repository.AccountBalanceSlotRepository;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.service.LockService;
+import core.accountserver.stream.BalanceEventRelay;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccrualEngineTest {
+
+	private static final long USER_ID = 900_000L;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	@Autowired
+	AccountRepository accountRepository;
+	@Autowired
+	AccountBalanceSlotRepository slotRepository;
+
+	LockService lockService = mock(LockService.class);
+	RedissonClient redissonClient = mock(RedissonClient.class);
+	RLock runLock = mock(RLock.class);
+	BalanceEventRelay balanceEventRelay = mock(BalanceEventRelay.class);
+	AccrualEngine accrualEngine;
+
+	@BeforeEach
+	void setUp() {
+		given(lockService.tryLock(anyString())).willReturn(true);
+		given(redissonClient.getLock(anyString())).willReturn(runLock);
+		given(runLock.tryLock()).willReturn(true);
+		accrualEngine = engine(null);
+		jdbcTemplate.update("insert into account_user(id, name, account_count) values (?, ?, ?)", USER_ID, "accrual",
+			10);
+		for (long i = 1; i <= 10; i++) {
+			jdbcTemplate.update("insert into account(id, account_user_id, account_number, account_status, balance) "
+				+ "values (?, ?, ?, ?, ?)", USER_ID + i, USER_ID, String.format("9%09d", i),
+				i == 10 ? "UNREGISTERED" : "IN_USE", i * 10_000);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from account_balance_slot where account_id between ? and ?", USER_ID, USER_ID + 10);
+		jdbcTemplate.update("delete from transaction where account_id between ? and ?", USER_ID, USER_ID + 10);
+		jdbcTemplate.update("delete from account where account_user_id = ?", USER_ID);
+		jdbcTemplate.update("delete from account_user where id = ?", USER_ID);
+		jdbcTemplate.update("delete from accrual_checkpoint");
+	}
+
+	@Test
+	@DisplayName("사용중인 계좌에만 이자가 적용되고 계좌마다 INTEREST 거래가 기록되어야한다.")
+	void interest() {
+		//given
+		jdbcTemplate.update("insert into account_balance_slot(id, account_id, slot_index, balance) values (?, ?, ?, ?)",
+			USER_ID, USER_ID + 1, 0, 0);
+
+		//when
+		AccrualResult result = accrualEngine.run("interest-1", INTEREST);
+
+		//then
+		assertThat(balance(2)).isEqualTo(20_200L);
+		assertThat(balance(9)).isEqualTo(90_900L);
+		assertThat(balance(1)).isEqualTo(10_000L);
+		assertThat(balance(10)).isEqualTo(100_000L);
+		assertThat(count("select count(*) from transaction where account_id between ? and ? "
+			+ "and transaction_type = 'INTEREST'", USER_ID, USER_ID + 10)).isEqualTo(8);
+		assertThat(result.getAccountsPerSecond()).isPositive();
+		then(lockService).should(never()).tryLock("9000000001");
+		then(lockService).should(times(1)).tryLock("9000000002");
+		then(balanceEventRelay).should(times(8)).publish(any());
+	}
+
+	@Test
+	@DisplayName("같은 실행 아이디로 다시 실행하면 완료된 파티션은 다시 적용되지 않아야한다.")
+	void resume() {
+		//given
+		accrualEngine.run("fee-1", FEE);
+
+		//when
+		AccrualResult result = accrualEngine.run("fee-1", FEE);
+
+		//then
+		assertThat(result.getTransactions()).isZero();
+		assertThat(balance(1)).isEqualTo(9_000L);
+		assertThat(count("select count(*) from transaction where account_id between ? and ? "
+			+ "and transaction_type = 'FEE'", USER_ID, USER_ID + 10)).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("같은 실행 아이디를 다른 유형으로 실행하면 AccrualRunConflictException 이 발생해야한다.")
+	void run_otherType() {
+		//given
+		accrualEngine.run("fee-2", FEE);
+
+		//expect
+		assertThatThrownBy(() -> accrualEngine.run("fee-2", INTEREST))
+			.isInstanceOf(AccrualRunConflictException.class);
+		assertThatThrownBy(() -> accrualEngine.start("fee-2", INTEREST))
+			.isInstanceOf(AccrualRunConflictException.class);
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 실행중인 아이디는 실행할 수 없어야한다.")
+	void run_alreadyRunning() {
+		//given
+		given(runLock.tryLock()).willReturn(false);
+
+		//expect
+		assertThatThrownBy(() -> accrualEngine.run("interest-2", INTEREST))
+			.isInstanceOf(AccrualRunConflictException.class);
+		assertThat(balance(2)).isEqualTo(20_000L);
+	}
+
+	@Test
+	@DisplayName("다른 실행이 체크포인트를 먼저 갱신하면 해당 청크는 롤백되어야한다.")
+	void run_checkpointMoved() {
+		//given
+		given(lockService.tryLock("9000000004")).willAnswer(invocation -> {
+			jdbcTemplate.update("update accrual_checkpoint set last_account_id = last_account_id + 1");
+			return true;
+		});
+
+		//expect
+		assertThatThrownBy(() -> accrualEngine.run("interest-3", INTEREST))
+			.isInstanceOf(AccrualRunConflictException.class);
+		assertThat(balance(2)).isEqualTo(20_200L);
+		assertThat(balance(4)).isEqualTo(40_000L);
+		then(balanceEventRelay).should(never())
+			.publish(argThat(event -> "9000000004".equals(event.getAccountNumber())));
+	}
+
+	@Test
+	@DisplayName("사용중인 계좌가 있으면 잡고 있던 락을 모두 풀고 재시도 후 실패해야한다.")
+	void run_busyAccount() {
+		//given
+		given(lockService.tryLock("9000000002")).willReturn(false);
+
+		//expect
+		assertThatThrownBy(() -> accrualEngine.run("interest-4", INTEREST))
+			.isInstanceOf(TransactionHasLockException.class);
+		then(lockService).should(times(3)).unlock("9000000001");
+		assertThat(balance(1)).isEqualTo(10_000L);
+	}
+
+	@Test
+	@DisplayName("실행 진행 상황은 완료된 파티션 수를 반환해야한다.")
+	void progress() {
+		//given
+		accrualEngine.run("interest-5", INTEREST);
+
+		//when
+		AccrualProgress progress = accrualEngine.progress("interest-5");
+
+		//then
+		assertThat(progress.getPartitions()).isEqualTo(progress.getCompletedPartitions()).isPositive();
+	}
+
+	@Test
+	@DisplayName("분할된 계좌는 계좌 락 대신 슬롯 락으로 전체 잔액 기준의 이자가 적용되어야한다.")
+	void interest_splitAccount() {
+		//given
+		jdbcTemplate.update("update account set balance = 0 where id = ?", USER_ID + 1);
+		jdbcTemplate.update("insert into account_balance_slot(id, account_id, slot_index, balance) values (?, ?, ?, ?)",
+			USER_ID, USER_ID + 1, 0, 10_000);
+		accrualEngine = engine(new SplitBalances(accountRepository, slotRepository, lockService,
+			new HotAccountRegistry(), transactionManager, 1, 0.25));
+
+		//when
+		accrualEngine.run("interest-6", INTEREST);
+
+		//then
+		assertThat(count("select balance from account_balance_slot where id = ?", USER_ID)).isEqualTo(10_100L);
+		assertThat(count("select balance_snapshot from transaction where account_id = ? "
+			+ "and transaction_type = 'INTEREST'", USER_ID + 1)).isEqualTo(10_100L);
+		then(lockService).should(never()).tryLock("9000000001");
+		then(lockService).should().lock("9000000001#0");
+	}
+
+	private AccrualEngine engine(SplitBalances splitBalances) {
+		return new AccrualEngine(jdbcTemplate, transactionManager, lockService, redissonClient, null,
+			balanceEventRelay, splitBalances, AccrualOptions.builder()
+				.interestBasisPoints(100)
+				.fee(1000)
+				.partitionSize(100_000)
+				.chunkSize(3)
+				.parallelism(4)
+				.lockRetries(3)
+				.build());
+	}
+
+	private long balance(long index) {
+		return jdbcTemplate.queryForObject("select balance from account where id = ?", Long.class, USER_ID + index);
+	}
+
+	private long count(String sql, Object... args) {
+		return jdbcTemplate.queryForObject(sql, Long.class, args);
+	}
+}
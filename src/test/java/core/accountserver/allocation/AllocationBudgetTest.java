@@ -0,0 +1,152 @@
+package core.accountserver.allocation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sun.management.ThreadMXBean;
+
+import core.accountserver.service.AccountService;
+import core.accountserver.service.TransactionService;
+
+@Tag("allocation")
+@SpringBootTest
+@TestPropertySource(locations = "classpath:allocation-budget.properties")
+class AllocationBudgetTest {
+
+	private static final long USER_ID = 1L;
+	private static final long AMOUNT = 10L;
+
+	private static final Path MEASURED = Paths.get("build", "allocation", "measured.properties");
+
+	@Autowired
+	AccountService accountService;
+	@Autowired
+	TransactionService transactionService;
+
+	@Value("${allocation.warmup-operations}")
+	int warmupOperations;
+	@Value("${allocation.measured-operations}")
+	int measuredOperations;
+	@Value("${allocation.tolerance-percent}")
+	long tolerancePercent;
+	@Value("${allocation.budget.use-balance:0}")
+	long useBalanceBudget;
+	@Value("${allocation.budget.cancel-balance:0}")
+	long cancelBalanceBudget;
+	@Value("${allocation.budget.find-by-transaction-id:0}")
+	long findByTransactionIdBudget;
+
+	ThreadMXBean threadMXBean;
+	String accountNumber;
+
+	@BeforeEach
+	void setUp() {
+		threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		accountNumber = accountService.createAccount(USER_ID, Long.MAX_VALUE / 2).getAccountNumber();
+	}
+
+	@Test
+	@DisplayName("useBalance 한 건당 할당량이 예산을 넘지 않아야한다.")
+	void useBalance() {
+		//given
+		repeat(warmupOperations, i -> transactionService.useBalance(USER_ID, accountNumber, AMOUNT));
+
+		//when
+		long allocated = allocatedPerOperation(
+			i -> transactionService.useBalance(USER_ID, accountNumber, AMOUNT));
+
+		//then
+		assertWithinBudget("use-balance", allocated, useBalanceBudget);
+	}
+
+	@Test
+	@DisplayName("cancelBalance 한 건당 할당량이 예산을 넘지 않아야한다.")
+	void cancelBalance() {
+		//given
+		List<String> warmup = useTransactions(warmupOperations);
+		repeat(warmupOperations, i -> transactionService.cancelBalance(warmup.get(i), accountNumber, AMOUNT));
+		List<String> transactionIds = useTransactions(measuredOperations);
+
+		//when
+		long allocated = allocatedPerOperation(
+			i -> transactionService.cancelBalance(transactionIds.get(i), accountNumber, AMOUNT));
+
+		//then
+		assertWithinBudget("cancel-balance", allocated, cancelBalanceBudget);
+	}
+
+	@Test
+	@DisplayName("findByTransactionId 한 건당 할당량이 예산을 넘지 않아야한다.")
+	void findByTransactionId() {
+		//given
+		String transactionId = transactionService.useBalance(USER_ID, accountNumber, AMOUNT).getTransactionId();
+		repeat(warmupOperations, i -> transactionService.findByTransactionId(transactionId));
+
+		//when
+		long allocated = allocatedPerOperation(i -> transactionService.findByTransactionId(transactionId));
+
+		//then
+		assertWithinBudget("find-by-transaction-id", allocated, findByTransactionIdBudget);
+	}
+
+	private List<String> useTransactions(int count) {
+		List<String> transactionIds = new ArrayList<>(count);
+		repeat(count, i -> transactionIds.add(
+			transactionService.useBalance(USER_ID, accountNumber, AMOUNT).getTransactionId()));
+		return transactionIds;
+	}
+
+	private long allocatedPerOperation(IntConsumer operation) {
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		repeat(measuredOperations, operation);
+		return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / measuredOperations;
+	}
+
+	private void assertWithinBudget(String operation, long allocated, long budget) {
+		record(operation, allocated);
+		assumeTrue(budget > 0, String.format("%s 한 건당 %d 바이트를 할당했습니다. (예산 미설정)", operation, allocated));
+		assertThat(allocated)
+			.as("%s 한 건당 %d 바이트를 할당했습니다. (예산 %d 바이트, 허용 오차 %d%%)", operation, allocated, budget,
+				tolerancePercent)
+			.isLessThanOrEqualTo(budget + budget * tolerancePercent / 100);
+	}
+
+	private static void record(String operation, long allocated) {
+		try {
+			Files.createDirectories(MEASURED.getParent());
+			Files.writeString(MEASURED, "allocation.budget." + operation + "=" + allocated + System.lineSeparator(),
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void repeat(int count, IntConsumer operation) {
+		for (int i = 0; i < count; i++) {
+			operation.accept(i);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package core.accountserver.aop;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import core.accountserver.datasource.ReadYourWrites;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoalesceAspectTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ReadYourWrites readYourWrites = new ReadYourWrites(60000L);
+	private SlowLookup target;
+	private SlowLookup lookup;
+
+	@BeforeEach
+	void setUp() {
+		target = new SlowLookup();
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new CoalesceAspect(meterRegistry, readYourWrites));
+		lookup = factory.getProxy();
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 같은 파라미터의 조회는 한번만 실행되고 결과를 공유해야한다.")
+	void coalesce() throws Exception {
+		//given
+		int callers = 8;
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		ExecutorService executorService = Executors.newFixedThreadPool(callers, runnable -> {
+			Thread thread = new Thread(runnable);
+			threads.add(thread);
+			return thread;
+		});
+		List<Future<String>> results = new ArrayList<>();
+
+		//when
+		results.add(executorService.submit(() -> lookup.find("tx-1")));
+		assertThat(target.started.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i < callers; i++) {
+			results.add(executorService.submit(() -> lookup.find("tx-1")));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (waiting(threads) < callers && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		target.release.countDown();
+
+		//then
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result-tx-1");
+		}
+		executorService.shutdown();
+		assertThat(target.invocations.get()).isEqualTo(1);
+		assertThat(meterRegistry.get(CoalesceAspect.COALESCED).tag("result", "shared").counter().count())
+			.isEqualTo(callers - 1);
+	}
+
+	@Test
+	@DisplayName("다른 파라미터의 조회는 합쳐지지 않아야한다.")
+	void differentKey() {
+		//given
+		target.release.countDown();
+
+		//when
+		String first = lookup.find("tx-1");
+		String second = lookup.find("tx-2");
+
+		//then
+		assertThat(first).isEqualTo("result-tx-1");
+		assertThat(second).isEqualTo("result-tx-2");
+		assertThat(target.invocations.get()).isEqualTo(2);
+		assertThat(meterRegistry.find(CoalesceAspect.COALESCED).counter()).isNull();
+	}
+
+	@Test
+	@DisplayName("최근에 쓰기를 한 사용자의 조회는 진행중인 조회에 합쳐지지 않아야한다.")
+	void stickyCaller() throws Exception {
+		//given
+		readYourWrites.written(1L);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		Future<String> leader = executorService.submit(() -> lookup.find("tx-1"));
+		assertThat(target.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		//when
+		Future<String> sticky = executorService.submit(() -> {
+			Long previous = readYourWrites.bind(1L);
+			try {
+				return lookup.find("tx-1");
+			} finally {
+				readYourWrites.restore(previous);
+			}
+		});
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (target.invocations.get() < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		target.release.countDown();
+
+		//then
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result-tx-1");
+		assertThat(sticky.get(5, TimeUnit.SECONDS)).isEqualTo("result-tx-1");
+		executorService.shutdown();
+		assertThat(target.invocations.get()).isEqualTo(2);
+		assertThat(meterRegistry.find(CoalesceAspect.COALESCED).counter()).isNull();
+	}
+
+	private static long waiting(List<Thread> threads) {
+		return threads.stream()
+			.filter(thread -> thread.getState() == Thread.State.TIMED_WAITING)
+			.count();
+	}
+
+	static class SlowLookup {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Coalesce(timeoutMillis = 5000)
+		public String find(String transactionId) {
+			invocations.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "result-" + transactionId;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package core.accountserver.circuit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+	AtomicLong now = new AtomicLong();
+	CircuitBreaker circuitBreaker = new CircuitBreaker("test", CircuitBreakerOptions.builder()
+		.windowSize(10)
+		.minimumCalls(4)
+		.failureRateThreshold(0.5)
+		.slowCallRateThreshold(0.5)
+		.slowCallMillis(100)
+		.openMillis(1000)
+		.halfOpenCalls(2)
+		.build(), now::get);
+
+	@Test
+	@DisplayName("실패율이 임계치를 넘으면 회로가 열리고 요청을 거절해야한다.")
+	void open_failureRate() {
+		//when
+		circuitBreaker.onSuccess(FAST);
+		circuitBreaker.onSuccess(FAST);
+		circuitBreaker.onError(FAST);
+		circuitBreaker.onError(FAST);
+
+		//then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+	}
+
+	@Test
+	@DisplayName("느린 호출 비율이 임계치를 넘으면 성공한 호출이어도 회로가 열려야한다.")
+	void open_slowCallRate() {
+		//when
+		circuitBreaker.onSuccess(SLOW);
+		circuitBreaker.onSuccess(SLOW);
+		circuitBreaker.onSuccess(FAST);
+		circuitBreaker.onSuccess(SLOW);
+
+		//then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	@DisplayName("대기시간이 지나면 제한된 수의 탐색 요청만 허용하고 모두 성공하면 회로가 닫혀야한다.")
+	void halfOpen_recover() {
+		//given
+		for (int i = 0; i < 4; i++) {
+			circuitBreaker.onError(FAST);
+		}
+		now.addAndGet(1000);
+
+		//when
+		boolean first = circuitBreaker.tryAcquirePermission();
+		boolean second = circuitBreaker.tryAcquirePermission();
+		boolean third = circuitBreaker.tryAcquirePermission();
+		circuitBreaker.onSuccess(FAST);
+		circuitBreaker.onSuccess(FAST);
+
+		//then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		assertThat(third).isFalse();
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	@DisplayName("탐색 요청이 실패하면 회로가 다시 열려야한다.")
+	void halfOpen_reopen() {
+		//given
+		for (int i = 0; i < 4; i++) {
+			circuitBreaker.onError(FAST);
+		}
+		now.addAndGet(1000);
+		circuitBreaker.tryAcquirePermission();
+
+		//when
+		circuitBreaker.onError(FAST);
+
+		//then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+	}
+}
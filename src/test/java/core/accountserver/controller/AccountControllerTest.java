@@ -5,6 +5,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.stream.Stream;
@@ -30,12 +31,14 @@ import core.accountserver.dto.response.account.DeleteAccountResponse;
 import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
 import core.accountserver.exception.account.AccountHasBalanceException;
 import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.BalanceSnapshotNotFoundException;
 import core.accountserver.exception.account.UserAccountUnMatchException;
 import core.accountserver.exception.user.MaxAccountPerUserException;
 import core.accountserver.exception.user.UserNotFoundException;
 import core.accountserver.repository.AccountRepository;
 import core.accountserver.repository.AccountUserRepository;
 import core.accountserver.service.AccountService;
+import core.accountserver.service.BalanceSnapshotService;
 
 @WebMvcTest(AccountController.class)
 class AccountControllerTest {
@@ -48,6 +51,8 @@ class AccountControllerTest {
 	@MockBean
 	AccountService accountService;
 	@MockBean
+	BalanceSnapshotService balanceSnapshotService;
+	@MockBean
 	AccountRepository accountRepository;
 	@MockBean
 	AccountUserRepository accountUserRepository;
@@ -297,5 +302,31 @@ class AccountControllerTest {
 		then(accountService).should(times(1)).findAccountByUserId(anyLong());
 	}
 
+	@Test
+	@DisplayName("as_of 날짜를 함께 보내면 해당 날짜의 스냅샷 잔액이 응답되어야한다.")
+	void find_asOf() throws Exception {
+		//given
+		ArrayList<AccountSearchResponse> responses = new ArrayList<>();
+		responses.add(new AccountSearchResponse("1111111111", 5000L));
+		given(balanceSnapshotService.findAccountByUserId(1L, LocalDate.of(2022, 6, 30))).willReturn(responses);
+
+		//expect
+		mockMvc.perform(get("/account?user_id=1&as_of=2022-06-30"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.entity[0].accountNumber").value("1111111111"))
+			.andExpect(jsonPath("$.entity[0].balance").value(5000L));
+		then(accountService).should(never()).findAccountByUserId(anyLong());
+	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("해당 날짜의 스냅샷이 없으면 응답코드 400과 함깨 실패이유를 응답 받아야한다.")
+	void find_asOf_notFoundSnapshot() throws Exception {
+		//given
+		given(balanceSnapshotService.findAccountByUserId(anyLong(), any()))
+			.willThrow(new BalanceSnapshotNotFoundException("해당 날짜의 잔액 스냅샷이 존재하지 않습니다."));
+		//expect
+		mockMvc.perform(get("/account?user_id=1&as_of=2022-06-30"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.reasons.account").value("해당 날짜의 잔액 스냅샷이 존재하지 않습니다."));
+	}
+}
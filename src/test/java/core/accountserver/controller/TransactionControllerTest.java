@@ -2,6 +2,7 @@ package core.accountserver.controller;
 
 import static core.accountserver.domain.transaction.TransactionResult.*;
 import static core.accountserver.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -26,17 +27,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import core.accountserver.domain.transaction.TransactionType;
 import core.accountserver.dto.request.transaction.CancelBalanceRequest;
 import core.accountserver.dto.request.transaction.UseBalanceRequest;
+import core.accountserver.dto.response.account.AccountBalanceResponse;
 import core.accountserver.dto.response.transaction.CancelBalanceResponse;
 import core.accountserver.dto.response.transaction.TransactionSearchResponse;
 import core.accountserver.dto.response.transaction.UseBalanceResponse;
 import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
 import core.accountserver.exception.account.AccountExceedBalanceException;
 import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.BalanceNotRecordedException;
 import core.accountserver.exception.account.UserAccountUnMatchException;
 import core.accountserver.exception.transaction.AccountTransactionUnMatchException;
 import core.accountserver.exception.transaction.CancelMustFullyException;
 import core.accountserver.exception.transaction.TooOldOrderToCancelException;
 import core.accountserver.exception.transaction.TransactionAlreadyCancelException;
+import core.accountserver.exception.transaction.TransactionHasLockException;
 import core.accountserver.exception.transaction.TransactionNotFoundException;
 import core.accountserver.exception.transaction.TransactionResultFailedException;
 import core.accountserver.exception.user.UserNotFoundException;
@@ -98,6 +102,23 @@ class TransactionControllerTest {
 			.saveFailedTransaction(anyString(), anyLong(), any(TransactionType.class));
 	}
 
+	@Test
+	@DisplayName("거래 거절이 아닌 예외는 실패 거래로 기록하지 않고 원인을 유지한채 전달되어야한다.")
+	void useBalance_unexpectedException() throws Exception {
+		//given
+		IllegalStateException failure = new IllegalStateException("connection reset");
+		given(transactionService.useBalance(anyLong(), anyString(), anyLong())).willThrow(failure);
+		UseBalanceRequest request = new UseBalanceRequest(1L, "2000000000", 3000L);
+
+		//expect
+		assertThatThrownBy(() -> mockMvc.perform(post("/transaction/use")
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(mapper.writeValueAsString(request))))
+			.hasCause(failure);
+		then(transactionService).should(never())
+			.saveFailedTransaction(anyString(), anyLong(), any(TransactionType.class));
+	}
+
 	public static Stream<Arguments> invalidUseBalanceRequestProvider() {
 		return Stream.of(
 			Arguments.of(new UseBalanceRequest(-1L, "1111111111", 100L), "userId"),
@@ -263,6 +284,50 @@ class TransactionControllerTest {
 			.andExpect(jsonPath("$.reasons.transactionId").value("해당 거래내역이 존재하지 않습니다."));
 
 	}
+
+	@Test
+	@DisplayName("계좌에 락이 걸려있을 시 응답코드 400과 함께 lock 사유를 응답받아야한다.")
+	void transactionHasLock() throws Exception {
+		//given
+		given(transactionService.findByTransactionId(anyString())).willThrow(
+			new TransactionHasLockException("해당 계좌는 사용중입니다."));
+
+		//expect
+		mockMvc.perform(get("/transaction/transactionId"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("잘못된 요청입니다."))
+			.andExpect(jsonPath("$.reasons.lock").value("해당 계좌는 사용중입니다."));
+	}
+
+	@Test
+	@DisplayName("/account/{accountNumber}/balance 로 시점을 보내면 응답코드 200과 함깨 해당 시점의 잔액이 응답되어야한다.")
+	void findBalanceAt() throws Exception {
+		//given
+		LocalDateTime at = LocalDateTime.of(2022, 6, 30, 12, 0);
+		given(transactionService.findBalanceAt("1000000000", at))
+			.willReturn(new AccountBalanceResponse("1000000000", 700L, at));
+
+		//expect
+		mockMvc.perform(get("/account/1000000000/balance?at=2022-06-30T12:00:00"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.message").value("성공적으로 잔액이 조회되었습니다."))
+			.andExpect(jsonPath("$.entity.accountNumber").value("1000000000"))
+			.andExpect(jsonPath("$.entity.balance").value(700L));
+	}
+
+	@Test
+	@DisplayName("계좌 개설 이전 시점의 잔액을 조회하면 응답코드 400과 함께 실패이유를 응답받아야한다.")
+	void findBalanceAt_beforeRegistered() throws Exception {
+		//given
+		given(transactionService.findBalanceAt(anyString(), any()))
+			.willThrow(new BalanceNotRecordedException("해당 시점에 개설되지 않은 계좌입니다."));
+
+		//expect
+		mockMvc.perform(get("/account/1000000000/balance?at=2022-06-30T12:00:00"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.reasons.account").value("해당 시점에 개설되지 않은 계좌입니다."));
+	}
+
 	public static Stream<Arguments> invalidCancelTransactionProvider() {
 		return Stream.of(
 			Arguments.of(new AccountNotFoundException("해당 계좌가 존재하지 않습니다.")),
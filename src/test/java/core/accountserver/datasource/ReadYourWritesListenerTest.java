@@ -0,0 +1,67 @@
+package core.accountserver.datasource;
+
+import static core.accountserver.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountStatus;
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.domain.transaction.Transaction;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesListenerTest {
+
+	@Mock
+	ObjectProvider<ReadYourWrites> readYourWritesProvider;
+
+	ReadYourWrites readYourWrites = new ReadYourWrites(60_000L);
+
+	@Test
+	@DisplayName("계좌번호로 처리된 거래도 계좌 소유주의 읽기를 프라이머리에 고정해야한다.")
+	void written_transaction() {
+		//given
+		given(readYourWritesProvider.getIfAvailable()).willReturn(readYourWrites);
+		ReadYourWritesListener listener = new ReadYourWritesListener(readYourWritesProvider);
+		Account account = Account.create(new AccountUser(10L, "kim", 1), "1000000001", 900L, AccountStatus.IN_USE);
+
+		//when
+		listener.written(Transaction.createSuccessTransaction(account, 100L, CANCEL));
+
+		//then
+		assertThat(isSticky(10L)).isTrue();
+		assertThat(isSticky(11L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("홀드가 저장되면 계좌 소유주의 읽기를 프라이머리에 고정해야한다.")
+	void written_hold() {
+		//given
+		given(readYourWritesProvider.getIfAvailable()).willReturn(readYourWrites);
+		ReadYourWritesListener listener = new ReadYourWritesListener(readYourWritesProvider);
+		Account account = Account.create(new AccountUser(10L, "kim", 1), "1000000001", 900L, AccountStatus.IN_USE);
+
+		//when
+		listener.written(BalanceHold.create(account, 100L));
+
+		//then
+		assertThat(isSticky(10L)).isTrue();
+	}
+
+	private boolean isSticky(Long userId) {
+		Long previous = readYourWrites.bind(userId);
+		try {
+			return readYourWrites.isSticky();
+		} finally {
+			readYourWrites.restore(previous);
+		}
+	}
+}
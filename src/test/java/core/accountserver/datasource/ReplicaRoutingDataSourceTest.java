@@ -0,0 +1,111 @@
+package core.accountserver.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+	private static final String LAG_QUERY = "select lag from replica_lag";
+
+	JdbcTemplate primary;
+	JdbcTemplate replica;
+	ReplicaHealth replicaHealth;
+	ReadYourWrites readYourWrites;
+	JdbcTemplate routed;
+	TransactionTemplate readOnly;
+	TransactionTemplate readWrite;
+
+	@BeforeEach
+	void setUp() {
+		primary = database("primary");
+		replica = database("replica");
+		replica.execute("create table replica_lag(lag bigint)");
+		replica.update("insert into replica_lag values (0)");
+
+		replicaHealth = new ReplicaHealth(replica.getDataSource(), LAG_QUERY, 1000L);
+		replicaHealth.check();
+		readYourWrites = new ReadYourWrites(60_000L);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+			primary.getDataSource(), replica.getDataSource(), replicaHealth, readYourWrites, ReplicaFallback.PRIMARY));
+
+		routed = new JdbcTemplate(dataSource);
+		readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		readOnly.setReadOnly(true);
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 레플리카로, 그 외 트랜잭션은 프라이머리로 라우팅되어야한다.")
+	void route() {
+		//when
+		String read = readOnly.execute(status -> source());
+		String write = readWrite.execute(status -> source());
+
+		//then
+		assertThat(read).isEqualTo("replica");
+		assertThat(write).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("쓰기 직후 같은 사용자의 읽기는 프라이머리로 라우팅되어야한다.")
+	void route_readYourWrites() {
+		//given
+		readYourWrites.written(1L);
+
+		//when
+		String writer = readAs(1L);
+		String other = readAs(2L);
+
+		//then
+		assertThat(writer).isEqualTo("primary");
+		assertThat(other).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("레플리카 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 프라이머리로 라우팅되어야한다.")
+	void route_staleReplica() {
+		//given
+		replica.update("update replica_lag set lag = 5000");
+
+		//when
+		replicaHealth.check();
+
+		//then
+		assertThat(replicaHealth.isUsable()).isFalse();
+		assertThat(readOnly.execute(status -> source())).isEqualTo("primary");
+	}
+
+	private String readAs(Long userId) {
+		Long previous = readYourWrites.bind(userId);
+		try {
+			return readOnly.execute(status -> source());
+		} finally {
+			readYourWrites.restore(previous);
+		}
+	}
+
+	private String source() {
+		return routed.queryForObject("select name from source", String.class);
+	}
+
+	private static JdbcTemplate database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("drop table if exists source");
+		jdbcTemplate.execute("drop table if exists replica_lag");
+		jdbcTemplate.execute("create table source(name varchar(16))");
+		jdbcTemplate.update("insert into source values (?)", name);
+		return jdbcTemplate;
+	}
+}
@@ -0,0 +1,124 @@
+package core.accountserver.etag;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.client.RedisTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetInterceptorTest {
+
+	@Mock
+	AccountVersions accountVersions;
+
+	@Test
+	@DisplayName("계좌 버전이 같으면 If-None-Match 요청은 조회 없이 304 로 응답해야한다.")
+	void account_notModified() {
+		//given
+		ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(accountVersions);
+		given(accountVersions.current(1L)).willReturn(7L);
+		MockHttpServletRequest request = accountRequest("1");
+		request.addHeader("If-None-Match", "\"a-1-7\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		boolean proceed = interceptor.preHandle(request, response, new Object());
+
+		//then
+		assertThat(proceed).isFalse();
+		assertThat(response.getStatus()).isEqualTo(304);
+	}
+
+	@Test
+	@DisplayName("계좌 버전이 바뀌었으면 새 ETag 와 함께 조회가 진행되어야한다.")
+	void account_modified() {
+		//given
+		ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(accountVersions);
+		given(accountVersions.current(1L)).willReturn(8L);
+		MockHttpServletRequest request = accountRequest("1");
+		request.addHeader("If-None-Match", "\"a-1-7\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		boolean proceed = interceptor.preHandle(request, response, new Object());
+
+		//then
+		assertThat(proceed).isTrue();
+		assertThat(response.getHeader("ETag")).isEqualTo("\"a-1-8\"");
+	}
+
+	@Test
+	@DisplayName("계좌 버전을 조회할 수 없으면 ETag 없이 조회가 진행되어야한다.")
+	void account_versionUnavailable() {
+		//given
+		ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(accountVersions);
+		given(accountVersions.current(1L)).willThrow(new RedisTimeoutException("timeout"));
+		MockHttpServletRequest request = accountRequest("1");
+		request.addHeader("If-None-Match", "\"a-1-7\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		boolean proceed = interceptor.preHandle(request, response, new Object());
+
+		//then
+		assertThat(proceed).isTrue();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("ETag")).isNull();
+	}
+
+	@Test
+	@DisplayName("as_of 날짜로 스냅샷을 조회하면 ETag 없이 조회가 진행되어야한다.")
+	void account_asOf() {
+		//given
+		ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(accountVersions);
+		MockHttpServletRequest request = accountRequest("1");
+		request.setParameter("as_of", "2022-06-30");
+		request.addHeader("If-None-Match", "\"a-1-7\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		boolean proceed = interceptor.preHandle(request, response, new Object());
+
+		//then
+		assertThat(proceed).isTrue();
+		assertThat(response.getHeader("ETag")).isNull();
+		then(accountVersions).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("거래내역은 거래 아이디로 만든 ETag 가 일치하면 304 로 응답해야한다.")
+	void transaction_notModified() {
+		//given
+		ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(accountVersions);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/transaction/abc");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/transaction/{transactionId}");
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("transactionId", "abc"));
+		request.addHeader("If-None-Match", "\"t-abc\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		boolean proceed = interceptor.preHandle(request, response, new Object());
+
+		//then
+		assertThat(proceed).isFalse();
+		assertThat(response.getStatus()).isEqualTo(304);
+		then(accountVersions).shouldHaveNoInteractions();
+	}
+
+	private static MockHttpServletRequest accountRequest(String userId) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/account");
+		request.setParameter("user_id", userId);
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/account");
+		return request;
+	}
+}
@@ -0,0 +1,194 @@
+package core.accountserver.hot;
+
+import static core.accountserver.domain.account.AccountStatus.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountBalanceSlot;
+import core.accountserver.exception.account.AccountExceedBalanceException;
+import core.accountserver.repository.AccountBalanceSlotRepository;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.service.LockService;
+
+@ExtendWith(MockitoExtension.class)
+class SplitBalancesTest {
+
+	@Mock
+	AccountRepository accountRepository;
+	@Mock
+	AccountBalanceSlotRepository slotRepository;
+	@Mock
+	LockService lockService;
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	HotAccountRegistry hotAccountRegistry = new HotAccountRegistry();
+	SplitBalances splitBalances;
+	Account account;
+
+	@BeforeEach
+	void setUp() {
+		TransactionSynchronizationManager.initSynchronization();
+		splitBalances = new SplitBalances(accountRepository, slotRepository, lockService, hotAccountRegistry,
+			transactionManager, 2, 0.25);
+		account = Account.create(AccountUser.builder().id(1L).name("kim").build(), "1231111111", 0L, IN_USE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+		hotAccountRegistry.clearSkippedLock();
+	}
+
+	@Test
+	@DisplayName("잔액이 부족한 슬롯은 건너뛰고 거래금액을 감당할 수 있는 슬롯에서 출금해야한다.")
+	void debit() {
+		//given
+		AccountBalanceSlot empty = slot(10L, 0, 100L);
+		AccountBalanceSlot funded = slot(11L, 1, 5000L);
+		given(slotRepository.findByAccountOrderBySlotIndex(account)).willReturn(List.of(empty, funded));
+		given(lockService.tryLock("1231111111#1")).willReturn(true);
+		given(slotRepository.debit(11L, 1000L)).willReturn(1);
+		given(slotRepository.sumBalance(account)).willReturn(4100L);
+
+		//when
+		long balance = splitBalances.debit(account, 1000L);
+
+		//then
+		assertThat(balance).isEqualTo(4100L);
+		then(slotRepository).should(never()).debit(eq(10L), anyLong());
+		then(lockService).should(never()).tryLock("1231111111#0");
+	}
+
+	@Test
+	@DisplayName("모든 슬롯 잔액의 합이 거래금액보다 작으면 AccountExceedBalanceException 이 발생해야한다.")
+	void debit_exceedBalance() {
+		//given
+		given(slotRepository.findByAccountOrderBySlotIndex(account)).willReturn(
+			List.of(slot(10L, 0, 300L), slot(11L, 1, 300L)));
+		given(slotRepository.findBalanceById(10L)).willReturn(300L);
+		given(slotRepository.findBalanceById(11L)).willReturn(300L);
+
+		//expect
+		assertThatThrownBy(() -> splitBalances.debit(account, 1000L))
+			.isInstanceOf(AccountExceedBalanceException.class);
+		then(slotRepository).should(never()).debit(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("한 슬롯으로 감당할 수 없는 금액은 모든 슬롯을 잠그고 여러 슬롯에서 나누어 출금해야한다.")
+	void debit_acrossSlots() {
+		//given
+		given(slotRepository.findByAccountOrderBySlotIndex(account)).willReturn(
+			List.of(slot(10L, 0, 600L), slot(11L, 1, 600L)));
+		given(slotRepository.findBalanceById(10L)).willReturn(600L);
+		given(slotRepository.findBalanceById(11L)).willReturn(700L);
+
+		//when
+		long balance = splitBalances.debit(account, 1000L);
+
+		//then
+		assertThat(balance).isEqualTo(300L);
+		then(lockService).should().lock("1231111111#0");
+		then(lockService).should().lock("1231111111#1");
+		then(slotRepository).should().debit(10L, 600L);
+		then(slotRepository).should().debit(11L, 400L);
+	}
+
+	@Test
+	@DisplayName("슬롯 차감에 실패하면 잡은 슬롯 락을 먼저 풀고 모든 슬롯을 인덱스 순서대로 잠가야한다.")
+	void debit_releaseBeforeAcrossSlots() {
+		//given
+		given(slotRepository.findByAccountOrderBySlotIndex(account)).willReturn(
+			List.of(slot(10L, 0, 600L), slot(11L, 1, 600L)));
+		given(lockService.tryLock(anyString())).willReturn(true);
+		given(slotRepository.debit(anyLong(), anyLong())).willReturn(0);
+		given(slotRepository.findBalanceById(10L)).willReturn(300L);
+		given(slotRepository.findBalanceById(11L)).willReturn(300L);
+
+		//when
+		long balance = splitBalances.debit(account, 500L);
+
+		//then
+		assertThat(balance).isEqualTo(100L);
+		InOrder inOrder = inOrder(lockService);
+		inOrder.verify(lockService, times(2)).unlock(anyString());
+		inOrder.verify(lockService).lock("1231111111#0");
+		inOrder.verify(lockService).lock("1231111111#1");
+		then(slotRepository).should().debit(10L, 300L);
+		then(slotRepository).should().debit(11L, 200L);
+	}
+
+	@Test
+	@DisplayName("계좌 락 없이 들어온 출금이 병합된 계좌를 만나면 계좌 락을 잡고 조건부로 차감해야한다.")
+	void debit_mergedAccount() {
+		//given
+		hotAccountRegistry.register("1231111111");
+		hotAccountRegistry.skipLock("1231111111");
+		given(slotRepository.findByAccountOrderBySlotIndex(account)).willReturn(List.of());
+		given(accountRepository.reserveBalance(account.getId(), 1000L)).willReturn(1);
+		given(accountRepository.findBalanceById(account.getId())).willReturn(4000L);
+
+		//when
+		long balance = splitBalances.debit(account, 1000L);
+
+		//then
+		assertThat(balance).isEqualTo(4000L);
+		assertThat(account.getBalance()).isZero();
+		then(lockService).should().lock("1231111111");
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 분할된 계좌도 슬롯 테이블을 다시 읽으면 분할 계좌로 인식되어야한다.")
+	void refresh() {
+		//given
+		hotAccountRegistry.register("9999999999");
+		given(slotRepository.findHotAccountNumbers()).willReturn(List.of("1231111111"));
+
+		//when
+		splitBalances.refresh();
+
+		//then
+		assertThat(hotAccountRegistry.accountNumbers()).containsExactly("1231111111");
+	}
+
+	@Test
+	@DisplayName("입금은 잔액이 가장 적은 슬롯에 반영되어야한다.")
+	void credit() {
+		//given
+		given(slotRepository.findByAccountOrderBySlotIndex(account)).willReturn(
+			List.of(slot(10L, 0, 800L), slot(11L, 1, 200L)));
+
+		//when
+		long balance = splitBalances.credit(account, 500L);
+
+		//then
+		assertThat(balance).isEqualTo(1500L);
+		then(lockService).should().lock("1231111111#1");
+		then(slotRepository).should().credit(11L, 500L);
+	}
+
+	private AccountBalanceSlot slot(Long id, int slotIndex, Long balance) {
+		return AccountBalanceSlot.builder()
+			.id(id)
+			.account(account)
+			.slotIndex(slotIndex)
+			.balance(balance)
+			.build();
+	}
+}
@@ -0,0 +1,253 @@
+package core.accountserver.ledger;
+
+import static core.accountserver.domain.transaction.TransactionResult.*;
+import static core.accountserver.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
+import core.accountserver.exception.account.AccountExceedBalanceException;
+import core.accountserver.exception.account.AccountHasBalanceException;
+import core.accountserver.exception.account.UserAccountUnMatchException;
+import core.accountserver.exception.transaction.TransactionAlreadyCancelException;
+
+class InMemoryLedgerTest {
+
+	private static final int SEGMENT_SIZE = WriteAheadLog.RECORD_SIZE * 4;
+
+	private final TransactionIdCodec transactionIdCodec = new TransactionIdCodec("000102030405060708090a0b0c0d0e0f");
+
+	@TempDir
+	Path walDirectory;
+
+	@Test
+	@DisplayName("계좌 사용 후 잔액이 차감되고 거래내역이 조회되어야한다.")
+	void use() {
+		//given
+		InMemoryLedger ledger = createLedger();
+		ledger.open(1000000001L, 1L, 1000L, false);
+
+		//when
+		LedgerEntry entry = ledger.use(1L, 1000000001L, 300L);
+
+		//then
+		assertThat(entry.getBalance()).isEqualTo(700L);
+		assertThat(entry.getTransactionResult()).isEqualTo(SUCCESS);
+		assertThat(ledger.find(entry.getTransactionId())).hasValueSatisfying(found -> {
+			assertThat(found.getAccountNumber()).isEqualTo("1000000001");
+			assertThat(found.getUserId()).isEqualTo(1L);
+			assertThat(found.getTransactionType()).isEqualTo(USE);
+			assertThat(found.getAmount()).isEqualTo(300L);
+		});
+	}
+
+	@Test
+	@DisplayName("검증에 실패하면 기존 거래와 같은 예외를 던져야한다.")
+	void use_exception() {
+		//given
+		InMemoryLedger ledger = createLedger();
+		ledger.open(1000000001L, 1L, 1000L, false);
+
+		//expect
+		assertThatThrownBy(() -> ledger.use(2L, 1000000001L, 100L))
+			.isInstanceOf(UserAccountUnMatchException.class);
+		assertThatThrownBy(() -> ledger.use(1L, 1000000001L, 1001L))
+			.isInstanceOf(AccountExceedBalanceException.class);
+	}
+
+	@Test
+	@DisplayName("이미 취소된 거래를 다시 취소하면 TransactionAlreadyCancelException 을 던져야한다.")
+	void cancel_twice() {
+		//given
+		InMemoryLedger ledger = createLedger();
+		ledger.open(1000000001L, 1L, 1000L, false);
+		LedgerEntry use = ledger.use(1L, 1000000001L, 300L);
+
+		//when
+		LedgerEntry cancel = ledger.cancel(use.getTransactionId(), 1000000001L, 300L);
+
+		//then
+		assertThat(cancel.getBalance()).isEqualTo(1000L);
+		assertThat(cancel.getUserId()).isEqualTo(1L);
+		assertThatThrownBy(() -> ledger.cancel(use.getTransactionId(), 1000000001L, 300L))
+			.isInstanceOf(TransactionAlreadyCancelException.class);
+	}
+
+	@Test
+	@DisplayName("재시작 시 세그먼트를 넘어가는 로그를 재생하여 잔액과 거래내역을 복구해야한다.")
+	void recover() {
+		//given
+		WriteAheadLog writeAheadLog = new WriteAheadLog(walDirectory, SEGMENT_SIZE, 1);
+		InMemoryLedger ledger = new InMemoryLedger(writeAheadLog, snapshotStore(), transactionIdCodec, 16, 16);
+		ledger.recover();
+		ledger.open(1000000001L, 1L, 10000L, false);
+		String transactionId = null;
+		for (int i = 0; i < 10; i++) {
+			transactionId = ledger.use(1L, 1000000001L, 100L).getTransactionId();
+		}
+		writeAheadLog.close();
+
+		//when
+		InMemoryLedger recovered = createLedger();
+		LedgerEntry next = recovered.use(1L, 1000000001L, 100L);
+
+		//then
+		assertThat(next.getBalance()).isEqualTo(8900L);
+		assertThat(recovered.find(transactionId)).isPresent();
+		assertThat(transactionIdCodec.decode(next.getTransactionId())).isEqualTo(12L);
+	}
+
+	@Test
+	@DisplayName("스냅샷 이후의 로그만 재생하여 복구하고 스냅샷 이전 세그먼트는 삭제되어야한다.")
+	void recover_fromSnapshot() throws IOException {
+		//given
+		WriteAheadLog writeAheadLog = new WriteAheadLog(walDirectory, SEGMENT_SIZE, 1);
+		InMemoryLedger ledger = new InMemoryLedger(writeAheadLog, snapshotStore(), transactionIdCodec, 16, 16);
+		ledger.recover();
+		ledger.open(1000000001L, 1L, 10000L, false);
+		String transactionId = null;
+		for (int i = 0; i < 10; i++) {
+			transactionId = ledger.use(1L, 1000000001L, 100L).getTransactionId();
+		}
+		ledger.snapshot();
+		ledger.use(1L, 1000000001L, 100L);
+		writeAheadLog.close();
+
+		//when
+		InMemoryLedger recovered = createLedger();
+		LedgerEntry next = recovered.use(1L, 1000000001L, 100L);
+
+		//then
+		assertThat(walSegmentCount()).isEqualTo(2L);
+		assertThat(next.getBalance()).isEqualTo(8800L);
+		assertThat(recovered.find(transactionId)).isPresent();
+		assertThat(transactionIdCodec.decode(next.getTransactionId())).isEqualTo(13L);
+	}
+
+	@Test
+	@DisplayName("스냅샷은 이전 스냅샷 이후 로그를 반영하여 작성되어야한다.")
+	void snapshot_appliesLogSincePrevious() throws IOException {
+		//given
+		WriteAheadLog writeAheadLog = new WriteAheadLog(walDirectory, SEGMENT_SIZE, 1);
+		InMemoryLedger ledger = new InMemoryLedger(writeAheadLog, snapshotStore(), transactionIdCodec, 16, 16);
+		ledger.recover();
+		ledger.open(1000000001L, 1L, 10000L, false);
+		ledger.use(1L, 1000000001L, 100L);
+		ledger.snapshot();
+		String transactionId = ledger.use(1L, 1000000001L, 300L).getTransactionId();
+		ledger.cancel(transactionId, 1000000001L, 300L);
+		ledger.use(1L, 1000000001L, 200L);
+
+		//when
+		ledger.snapshot();
+		writeAheadLog.close();
+		deleteWalSegments();
+
+		//then
+		InMemoryLedger recovered = createLedger();
+		assertThat(recovered.balance(1000000001L)).hasValue(9700L);
+		assertThat(recovered.find(transactionId)).isPresent();
+		assertThatThrownBy(() -> recovered.cancel(transactionId, 1000000001L, 300L))
+			.isInstanceOf(TransactionAlreadyCancelException.class);
+	}
+
+	@Test
+	@DisplayName("거래 ID 는 순번으로 추측할 수 없어야한다.")
+	void find_guessedTransactionId() {
+		//given
+		InMemoryLedger ledger = createLedger();
+		ledger.open(1000000001L, 1L, 1000L, false);
+		LedgerEntry entry = ledger.use(1L, 1000000001L, 100L);
+
+		//expect
+		assertThat(entry.getTransactionId()).hasSize(32).isNotEqualTo(String.format("%032x", 2L));
+		assertThat(ledger.find(String.format("%032x", 2L))).isEmpty();
+		assertThat(ledger.find(entry.getTransactionId())).isPresent();
+	}
+
+	@Test
+	@DisplayName("잔액이 남은 계좌는 해지할 수 없고 해지된 계좌는 재시작 후에도 사용할 수 없어야한다.")
+	void unregister() {
+		//given
+		WriteAheadLog writeAheadLog = new WriteAheadLog(walDirectory, SEGMENT_SIZE, 1);
+		InMemoryLedger ledger = new InMemoryLedger(writeAheadLog, snapshotStore(), transactionIdCodec, 16, 16);
+		ledger.recover();
+		ledger.open(1000000001L, 1L, 100L, false);
+		assertThatThrownBy(() -> ledger.unregister(1000000001L))
+			.isInstanceOf(AccountHasBalanceException.class);
+		ledger.use(1L, 1000000001L, 100L);
+
+		//when
+		ledger.unregister(1000000001L);
+		writeAheadLog.close();
+
+		//then
+		InMemoryLedger recovered = createLedger();
+		assertThat(recovered.balance(1000000001L)).hasValue(0L);
+		assertThatThrownBy(() -> recovered.use(1L, 1000000001L, 0L))
+			.isInstanceOf(AccountAlreadyUnregisteredException.class);
+	}
+
+	@Test
+	@DisplayName("취소 가능 기간이 지난 거래는 스냅샷 여부와 관계없이 메모리에서 제거되어야한다.")
+	void expire() {
+		//given
+		long old = System.currentTimeMillis() - Duration.ofDays(400).toMillis();
+		WriteAheadLog writeAheadLog = new WriteAheadLog(walDirectory, SEGMENT_SIZE, 1);
+		writeAheadLog.replay(record -> {
+		});
+		writeAheadLog.append(new LedgerRecord(1L, LedgerRecord.OPEN, 1000000001L, 1L, 0L, 1000L, 0L, old));
+		for (long sequence = 2; sequence <= 6; sequence++) {
+			writeAheadLog.append(new LedgerRecord(sequence, LedgerRecord.USE, 1000000001L, 1L, 100L,
+				1000L - (sequence - 1) * 100L, 0L, old));
+		}
+		writeAheadLog.close();
+
+		//when
+		InMemoryLedger ledger = createLedger();
+		LedgerEntry recent = ledger.use(1L, 1000000001L, 100L);
+
+		//then
+		for (long sequence = 2; sequence <= 6; sequence++) {
+			assertThat(ledger.find(transactionIdCodec.encode(sequence))).isEmpty();
+		}
+		assertThat(ledger.find(recent.getTransactionId())).isPresent();
+		assertThat(recent.getBalance()).isEqualTo(400L);
+	}
+
+	private InMemoryLedger createLedger() {
+		InMemoryLedger ledger = new InMemoryLedger(new WriteAheadLog(walDirectory, SEGMENT_SIZE, 0), snapshotStore(),
+			transactionIdCodec, 16, 16);
+		ledger.recover();
+		return ledger;
+	}
+
+	private LedgerSnapshotStore snapshotStore() {
+		return new LedgerSnapshotStore(walDirectory.resolve("snapshot"), 2);
+	}
+
+	private void deleteWalSegments() throws IOException {
+		try (Stream<Path> files = Files.list(walDirectory)) {
+			for (Path path : files.filter(path -> path.getFileName().toString().startsWith("wal-"))
+				.collect(Collectors.toList())) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	private long walSegmentCount() throws IOException {
+		try (Stream<Path> files = Files.list(walDirectory)) {
+			return files.filter(path -> path.getFileName().toString().startsWith("wal-")).count();
+		}
+	}
+}
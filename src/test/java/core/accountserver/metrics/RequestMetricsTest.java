@@ -0,0 +1,60 @@
+package core.accountserver.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestMetricsTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RequestMetrics requestMetrics = new RequestMetrics(meterRegistry);
+
+	@Test
+	@DisplayName("감싸진 예외는 원래 예외 이름으로 결과 태그가 기록되어야한다.")
+	void record_originalException() {
+		//when
+		Throwable thrown = catchThrowable(() -> requestMetrics.record(RequestMetrics.LOCK_ACQUIRE, () -> {
+			throw new UndeclaredThrowableException(new IOException("closed"));
+		}));
+
+		//then
+		assertThat(thrown).isInstanceOf(UndeclaredThrowableException.class);
+		assertThat(meterRegistry.get(RequestMetrics.LOCK_ACQUIRE).tag("outcome", "IOException").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Error 가 발생해도 성공으로 기록되지 않아야한다.")
+	void record_error() {
+		//when
+		Throwable thrown = catchThrowable(() -> requestMetrics.record(RequestMetrics.VALIDATION, () -> {
+			throw new StackOverflowError();
+		}));
+
+		//then
+		assertThat(thrown).isInstanceOf(StackOverflowError.class);
+		assertThat(meterRegistry.find(RequestMetrics.VALIDATION).tag("outcome", RequestMetrics.SUCCESS).timer())
+			.isNull();
+		assertThat(meterRegistry.get(RequestMetrics.VALIDATION).tag("outcome", "StackOverflowError").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 태그의 기록은 하나의 타이머에 누적되어야한다.")
+	void recordRepository_sameTimer() {
+		//when
+		requestMetrics.recordRepository("AccountRepository", "findById", RequestMetrics.SUCCESS, 1_000L);
+		requestMetrics.recordRepository("AccountRepository", "findById", RequestMetrics.SUCCESS, 3_000L);
+
+		//then
+		assertThat(meterRegistry.get(RequestMetrics.REPOSITORY).timers()).hasSize(1);
+		assertThat(meterRegistry.get(RequestMetrics.REPOSITORY).timer().count()).isEqualTo(2);
+	}
+}
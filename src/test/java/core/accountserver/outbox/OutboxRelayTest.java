@@ -0,0 +1,79 @@
+package core.accountserver.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RLock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+import core.accountserver.repository.OutboxEventRepository;
+
+class OutboxRelayTest {
+
+	private final OutboxSink sink = mock(OutboxSink.class);
+	private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+	private final RLock recoveryLock = mock(RLock.class);
+	private final OutboxRelay outboxRelay = new OutboxRelay(new OutboxRingBuffer(16), List.of(sink),
+		outboxEventRepository, mock(PlatformTransactionManager.class), recoveryLock, 16, 200, 0);
+
+	@Test
+	@DisplayName("계좌에 더 오래된 미발행 이벤트가 남아있으면 최신 이벤트는 발행되지 않아야한다.")
+	void publish_holdBackNewer() {
+		//given
+		given(outboxEventRepository.findOldestUnpublished(anyCollection()))
+			.willReturn(List.of(new Object[] {"1000000001", 3L}, new Object[] {"1000000002", 7L}));
+
+		//when
+		outboxRelay.publish(List.of(event("1000000001", 5L), event("1000000002", 7L), event("1000000002", 8L)));
+
+		//then
+		ArgumentCaptor<List<OutboxEvent>> published = ArgumentCaptor.forClass(List.class);
+		then(sink).should().publish(published.capture());
+		assertThat(published.getValue()).extracting(OutboxEvent::getId).containsExactly(7L, 8L);
+		then(outboxEventRepository).should().markPublished(List.of(7L, 8L));
+	}
+
+	@Test
+	@DisplayName("다른 노드가 복구 중이면 미발행 이벤트를 조회하지 않아야한다.")
+	void recover_lockedByOtherNode() {
+		//given
+		given(recoveryLock.tryLock()).willReturn(false);
+
+		//when
+		outboxRelay.recover();
+
+		//then
+		then(outboxEventRepository).should(never()).findUnpublished(any(), any());
+		then(recoveryLock).should(never()).unlock();
+	}
+
+	@Test
+	@DisplayName("복구 락을 얻으면 미발행 이벤트를 다시 적재하고 락을 해제해야한다.")
+	void recover() {
+		//given
+		given(recoveryLock.tryLock()).willReturn(true);
+		given(outboxEventRepository.findUnpublished(any(), any())).willReturn(Collections.emptyList());
+
+		//when
+		outboxRelay.recover();
+
+		//then
+		then(outboxEventRepository).should().findUnpublished(any(), any());
+		then(recoveryLock).should().unlock();
+	}
+
+	private static OutboxEvent event(String accountNumber, long id) {
+		return OutboxEvent.builder()
+			.id(id)
+			.accountNumber(accountNumber)
+			.build();
+	}
+}
@@ -0,0 +1,91 @@
+package core.accountserver.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.accountserver.domain.outbox.OutboxEvent;
+
+class OutboxRingBufferTest {
+
+	@Test
+	@DisplayName("버퍼가 가득 차면 offer 가 실패하고 소비한 만큼 다시 적재할 수 있어야한다.")
+	void offer_full() {
+		//given
+		OutboxRingBuffer ringBuffer = new OutboxRingBuffer(4);
+		for (long i = 0; i < 4; i++) {
+			assertThat(ringBuffer.offer(event("1000000001", i))).isTrue();
+		}
+
+		//when
+		boolean rejected = ringBuffer.offer(event("1000000001", 4));
+		List<OutboxEvent> batch = new ArrayList<>();
+		int drained = ringBuffer.drain(batch, 2);
+
+		//then
+		assertThat(rejected).isFalse();
+		assertThat(drained).isEqualTo(2);
+		assertThat(batch).extracting(OutboxEvent::getId).containsExactly(0L, 1L);
+		assertThat(ringBuffer.offer(event("1000000001", 4))).isTrue();
+		assertThat(ringBuffer.size()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 적재해도 유실 없이 계좌별 적재 순서대로 소비되어야한다.")
+	void offer_concurrent() throws Exception {
+		//given
+		OutboxRingBuffer ringBuffer = new OutboxRingBuffer(64);
+		int producers = 4;
+		int perProducer = 10_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+		for (int p = 0; p < producers; p++) {
+			String accountNumber = String.format("%010d", p);
+			executorService.submit(() -> {
+				start.await();
+				for (long i = 0; i < perProducer; i++) {
+					while (!ringBuffer.offer(event(accountNumber, i))) {
+						Thread.onSpinWait();
+					}
+				}
+				return null;
+			});
+		}
+
+		//when
+		start.countDown();
+		List<OutboxEvent> consumed = new ArrayList<>();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+			ringBuffer.drain(consumed, 32);
+		}
+		executorService.shutdown();
+
+		//then
+		assertThat(consumed).hasSize(producers * perProducer);
+		Map<String, Long> lastIds = new HashMap<>();
+		for (OutboxEvent event : consumed) {
+			long expected = lastIds.getOrDefault(event.getAccountNumber(), -1L) + 1;
+			assertThat(event.getId()).isEqualTo(expected);
+			lastIds.put(event.getAccountNumber(), event.getId());
+		}
+		assertThat(ringBuffer.isEmpty()).isTrue();
+	}
+
+	private static OutboxEvent event(String accountNumber, long id) {
+		return OutboxEvent.builder()
+			.id(id)
+			.accountNumber(accountNumber)
+			.build();
+	}
+}
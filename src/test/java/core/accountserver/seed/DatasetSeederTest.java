@@ -0,0 +1,85 @@
+package core.accountserver.seed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.repository.AccountUserRepository;
+
+@DataJpaTest
+class DatasetSeederTest {
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	@Autowired
+	AccountUserRepository accountUserRepository;
+
+	@Test
+	@DisplayName("시드 데이터 적재 후 건수와 계좌수가 일치하고 이후 생성되는 id 는 시드 범위와 겹치지 않아야한다.")
+	void seed() {
+		//given
+		DatasetSeeder datasetSeeder = new DatasetSeeder(jdbcTemplate, options(7L));
+
+		//when
+		SeedResult result = datasetSeeder.seed();
+
+		//then
+		assertThat(count("select count(*) from account_user where id between ? and ?", result.getFirstId(),
+			result.getLastId())).isEqualTo(result.getUsers());
+		assertThat(count("select count(*) from account where id between ? and ?", result.getFirstId(),
+			result.getLastId())).isEqualTo(result.getAccounts());
+		assertThat(count("select count(*) from transaction where id between ? and ?", result.getFirstId(),
+			result.getLastId())).isEqualTo(result.getTransactions());
+		assertThat(count("select count(distinct account_number) from account")).isEqualTo(
+			count("select count(*) from account"));
+		assertThat(count("select coalesce(sum(account_count), 0) from account_user where id between ? and ?",
+			result.getFirstId(), result.getLastId()))
+			.isEqualTo(count("select count(*) from account where account_status = 'IN_USE' and id between ? and ?",
+				result.getFirstId(), result.getLastId()));
+		assertThat(count("select count(*) from account a where a.id between ? and ? and a.balance <> "
+			+ "(select t.balance_snapshot from transaction t where t.id = "
+			+ "(select max(id) from transaction where account_id = a.id))", result.getFirstId(), result.getLastId()))
+			.isZero();
+		assertThat(count("select count(*) from account where account_status = 'UNREGISTERED' and balance <> 0 "
+			+ "and id between ? and ?", result.getFirstId(), result.getLastId())).isZero();
+
+		AccountUser saved = accountUserRepository.save(AccountUser.builder().name("new").build());
+		assertThat(saved.getId()).isGreaterThan(result.getLastId());
+	}
+
+	@Test
+	@DisplayName("같은 시드로 적재하면 같은 분포의 데이터가 생성되어야한다.")
+	void seed_deterministic() {
+		//given
+		SeedResult first = new DatasetSeeder(jdbcTemplate, options(11L)).seed();
+
+		//when
+		SeedResult second = new DatasetSeeder(jdbcTemplate, options(11L)).seed();
+
+		//then
+		assertThat(second.getAccounts()).isEqualTo(first.getAccounts());
+		assertThat(second.getTransactions()).isEqualTo(first.getTransactions());
+	}
+
+	private long count(String sql, Object... args) {
+		return jdbcTemplate.queryForObject(sql, Long.class, args);
+	}
+
+	private SeedOptions options(long seed) {
+		return SeedOptions.builder()
+			.users(50)
+			.maxAccountsPerUser(10)
+			.transactionsPerAccount(5)
+			.medianBalance(100_000L)
+			.medianAmount(5_000L)
+			.historyDays(730)
+			.batchSize(100)
+			.seed(seed)
+			.build();
+	}
+}
@@ -59,6 +59,7 @@ class AccountServiceTest {
 			AccountStatus.IN_USE);
 
 		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(accountUser));
+		given(accountUserRepository.increaseAccountCount(anyLong(), anyInt())).willReturn(1);
 		given(accountRepository.existsByAccountNumber(anyString())).willReturn(false);
 		given(accountRepository.save(any(Account.class))).willReturn(account);
 
@@ -69,6 +70,7 @@ class AccountServiceTest {
 		assertThat(actual.getUserId()).isEqualTo(userId);
 
 		then(accountUserRepository).should(times(1)).findById(anyLong());
+		then(accountUserRepository).should(times(1)).increaseAccountCount(anyLong(), anyInt());
 		then(accountRepository).should(times(1)).existsByAccountNumber(anyString());
 		then(accountRepository).should(times(1)).save(any(Account.class));
 
@@ -92,12 +94,13 @@ class AccountServiceTest {
 		//given
 		long userId = 1L;
 		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(createAccountUser(userId, "user")));
-		given(accountRepository.countByAccountUser(any(AccountUser.class))).willReturn(10);
+		given(accountUserRepository.increaseAccountCount(anyLong(), anyInt())).willReturn(0);
 
 		//expect
 		assertThatThrownBy(() -> accountService.createAccount(userId, 1000L))
 			.isInstanceOf(MaxAccountPerUserException.class)
 			.hasMessage("계좌가 이미 최대 갯수만큼 존재합니다.");
+		then(accountRepository).should(times(0)).save(any(Account.class));
 
 	}
 
@@ -123,6 +126,7 @@ class AccountServiceTest {
 
 		then(accountRepository).should(times(0)).findById(anyLong());
 		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
+		then(accountUserRepository).should(times(1)).decreaseAccountCount(anyLong());
 
 	}
 
@@ -254,7 +258,7 @@ class AccountServiceTest {
 	}
 
 	private AccountUser createAccountUser(long userId, String name) {
-		return new AccountUser(userId, name);
+		return new AccountUser(userId, name, 0);
 	}
 
 	static class FixedAccountNumberGenerator implements AccountNumberGenerator {
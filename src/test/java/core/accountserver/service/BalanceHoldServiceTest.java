@@ -0,0 +1,226 @@
+package core.accountserver.service;
+
+import static core.accountserver.domain.hold.HoldStatus.*;
+import static core.accountserver.domain.transaction.TransactionResult.*;
+import static core.accountserver.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountStatus;
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.domain.transaction.Transaction;
+import core.accountserver.dto.response.hold.HoldResponse;
+import core.accountserver.dto.response.transaction.UseBalanceResponse;
+import core.accountserver.exception.account.AccountExceedBalanceException;
+import core.accountserver.exception.hold.HoldAccountUnMatchException;
+import core.accountserver.exception.hold.HoldAlreadyFinishedException;
+import core.accountserver.exception.hold.HoldExpiredException;
+import core.accountserver.exception.hold.HoldNotSupportedException;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceHoldServiceTest {
+
+	@Mock
+	private BalanceHoldRepository balanceHoldRepository;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private AccountUserRepository accountUserRepository;
+
+	@Mock
+	private TransactionRepository transactionRepository;
+
+	private BalanceHoldService balanceHoldService;
+
+	private Account account;
+
+	@BeforeEach
+	void setUp() {
+		balanceHoldService = new BalanceHoldService(balanceHoldRepository, accountRepository, accountUserRepository,
+			transactionRepository);
+		account = Account.create(new AccountUser(10L, "kim", 1), "1000000001", 900L, AccountStatus.IN_USE);
+	}
+
+	@Test
+	@DisplayName("홀드 요청시 잔액이 차감되고 차감된 잔액으로 홀드 거래가 기록되어야한다.")
+	void hold() {
+		//given
+		given(accountRepository.findWithAccountUserByAccountNumber("1000000001")).willReturn(Optional.of(account));
+		given(balanceHoldRepository.save(any(BalanceHold.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		//when
+		HoldResponse response = balanceHoldService.hold(10L, "1000000001", 100L);
+
+		//then
+		ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+		then(transactionRepository).should().save(captor.capture());
+		assertThat(captor.getValue().getTransactionType()).isEqualTo(HOLD);
+		assertThat(captor.getValue().getTransactionResult()).isEqualTo(SUCCESS);
+		assertThat(captor.getValue().getBalanceSnapshot()).isEqualTo(800L);
+		assertThat(account.getBalance()).isEqualTo(800L);
+		assertThat(response.getHoldId()).isNotBlank();
+		assertThat(response.getHoldStatus()).isEqualTo(HELD);
+		assertThat(response.getAmount()).isEqualTo(100L);
+		assertThat(response.getExpiresAt()).isAfter(LocalDateTime.now());
+	}
+
+	@Test
+	@DisplayName("잔액이 부족하면 AccountExceedBalanceException 이 발생하고 홀드가 저장되지 않아야한다.")
+	void hold_exceedBalance() {
+		//given
+		given(accountRepository.findWithAccountUserByAccountNumber("1000000001")).willReturn(Optional.of(account));
+
+		//expect
+		assertThatThrownBy(() -> balanceHoldService.hold(10L, "1000000001", 10_000L))
+			.isInstanceOf(AccountExceedBalanceException.class);
+		then(balanceHoldRepository).should(never()).save(any());
+		then(transactionRepository).shouldHaveNoInteractions();
+		assertThat(account.getBalance()).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("분할된 계좌의 홀드는 슬롯 잔액에서 차감되고 슬롯 합계로 홀드 거래가 기록되어야한다.")
+	void hold_splitAccount() {
+		//given
+		SplitBalances splitBalances = mock(SplitBalances.class);
+		BalanceHoldService splitBalanceHoldService = new SplitBalanceHoldService(balanceHoldRepository,
+			accountRepository, accountUserRepository, transactionRepository, splitBalances);
+		account.detachBalance();
+		given(accountRepository.findWithAccountUserByAccountNumber("1000000001")).willReturn(Optional.of(account));
+		given(splitBalances.total(account)).willReturn(900L);
+		given(splitBalances.debit(account, 100L)).willReturn(800L);
+		given(balanceHoldRepository.save(any(BalanceHold.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		//when
+		splitBalanceHoldService.hold(10L, "1000000001", 100L);
+
+		//then
+		ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+		then(transactionRepository).should().save(captor.capture());
+		assertThat(captor.getValue().getTransactionType()).isEqualTo(HOLD);
+		assertThat(captor.getValue().getBalanceSnapshot()).isEqualTo(800L);
+	}
+
+	@Test
+	@DisplayName("원장 모드에서 홀드를 요청하면 HoldNotSupportedException 이 발생하고 홀드가 저장되지 않아야한다.")
+	void hold_ledger() {
+		//given
+		BalanceHoldService ledgerBalanceHoldService = new LedgerBalanceHoldService(balanceHoldRepository,
+			accountRepository, accountUserRepository, transactionRepository);
+		given(accountRepository.findWithAccountUserByAccountNumber("1000000001")).willReturn(Optional.of(account));
+
+		//expect
+		assertThatThrownBy(() -> ledgerBalanceHoldService.hold(10L, "1000000001", 100L))
+			.isInstanceOf(HoldNotSupportedException.class);
+		then(balanceHoldRepository).should(never()).save(any());
+		then(transactionRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("캡처시 잔액 재검증 없이 홀드 금액으로 사용 거래가 저장되어야한다.")
+	void capture() {
+		//given
+		BalanceHold hold = BalanceHold.create(account, 100L);
+		given(balanceHoldRepository.findWithAccountByHoldId(hold.getHoldId())).willReturn(Optional.of(hold));
+		given(balanceHoldRepository.finish(any(), eq(CAPTURED), anyString())).willReturn(1);
+
+		//when
+		UseBalanceResponse response = balanceHoldService.capture(hold.getHoldId(), "1000000001");
+
+		//then
+		ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+		then(transactionRepository).should().save(captor.capture());
+		assertThat(captor.getValue().getTransactionType()).isEqualTo(USE);
+		assertThat(captor.getValue().getBalanceSnapshot()).isEqualTo(900L);
+		assertThat(response.getTransactionResult()).isEqualTo(SUCCESS);
+		assertThat(response.getTransactionId()).isEqualTo(captor.getValue().getTransactionId());
+		then(accountRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("만료된 홀드를 캡처하면 HoldExpiredException 이 발생해야한다.")
+	void capture_expired() {
+		//given
+		BalanceHold hold = BalanceHold.builder()
+			.account(account)
+			.holdId("holdId")
+			.amount(100L)
+			.holdStatus(HELD)
+			.expiresAt(LocalDateTime.now().minusSeconds(1))
+			.build();
+		given(balanceHoldRepository.findWithAccountByHoldId("holdId")).willReturn(Optional.of(hold));
+
+		//expect
+		assertThatThrownBy(() -> balanceHoldService.capture("holdId", "1000000001"))
+			.isInstanceOf(HoldExpiredException.class);
+		then(transactionRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("해제시 홀드 금액이 복구되고 복구된 잔액으로 해제 거래가 기록되어야한다.")
+	void release() {
+		//given
+		BalanceHold hold = BalanceHold.create(account, 100L);
+		given(balanceHoldRepository.findWithAccountByHoldId(hold.getHoldId())).willReturn(Optional.of(hold));
+		given(balanceHoldRepository.finish(any(), eq(RELEASED), anyString())).willReturn(1);
+
+		//when
+		HoldResponse response = balanceHoldService.release(hold.getHoldId(), "1000000001");
+
+		//then
+		ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+		then(transactionRepository).should().save(captor.capture());
+		assertThat(captor.getValue().getTransactionType()).isEqualTo(RELEASE);
+		assertThat(captor.getValue().getTransactionResult()).isEqualTo(SUCCESS);
+		assertThat(captor.getValue().getBalanceSnapshot()).isEqualTo(1000L);
+		assertThat(account.getBalance()).isEqualTo(1000L);
+		assertThat(response.getHoldStatus()).isEqualTo(RELEASED);
+	}
+
+	@Test
+	@DisplayName("다른 계좌의 홀드를 해제하면 HoldAccountUnMatchException 이 발생해야한다.")
+	void release_accountUnMatch() {
+		//given
+		BalanceHold hold = BalanceHold.create(account, 100L);
+		given(balanceHoldRepository.findWithAccountByHoldId(hold.getHoldId())).willReturn(Optional.of(hold));
+
+		//expect
+		assertThatThrownBy(() -> balanceHoldService.release(hold.getHoldId(), "1000000002"))
+			.isInstanceOf(HoldAccountUnMatchException.class);
+		then(transactionRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("이미 처리된 홀드를 해제하면 HoldAlreadyFinishedException 이 발생하고 해제 거래가 저장되지 않아야한다.")
+	void release_alreadyFinished() {
+		//given
+		BalanceHold hold = BalanceHold.create(account, 100L);
+		given(balanceHoldRepository.findWithAccountByHoldId(hold.getHoldId())).willReturn(Optional.of(hold));
+		given(balanceHoldRepository.finish(any(), eq(RELEASED), anyString())).willReturn(0);
+
+		//expect
+		assertThatThrownBy(() -> balanceHoldService.release(hold.getHoldId(), "1000000001"))
+			.isInstanceOf(HoldAlreadyFinishedException.class);
+		then(transactionRepository).should(never()).save(any());
+	}
+}
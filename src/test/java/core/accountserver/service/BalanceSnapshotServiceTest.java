@@ -0,0 +1,111 @@
+package core.accountserver.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import core.accountserver.dto.response.account.AccountSearchResponse;
+import core.accountserver.exception.account.BalanceSnapshotNotFoundException;
+import core.accountserver.repository.AccountBalanceSnapshotRepository;
+import core.accountserver.repository.AccountUserRepository;
+
+@DataJpaTest
+class BalanceSnapshotServiceTest {
+
+	private static final long USER_ID = 800_000L;
+	private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2022, 6, 30);
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	@Autowired
+	AccountBalanceSnapshotRepository accountBalanceSnapshotRepository;
+	@Autowired
+	AccountUserRepository accountUserRepository;
+
+	BalanceSnapshotService balanceSnapshotService;
+
+	@BeforeEach
+	void setUp() {
+		balanceSnapshotService = new BalanceSnapshotService(accountBalanceSnapshotRepository, accountUserRepository);
+		jdbcTemplate.update("insert into account_user(id, name, account_count) values (?, ?, ?)", USER_ID, "snapshot",
+			2);
+		insertAccount(1, "IN_USE", 10_000L);
+		insertAccount(2, "IN_USE", 1_000L);
+		insertAccount(3, "UNREGISTERED", 0L);
+		jdbcTemplate.update("insert into account_balance_slot(id, account_id, slot_index, balance) values (?, ?, ?, ?)",
+			USER_ID + 11, USER_ID + 2, 0, 2_000L);
+		jdbcTemplate.update("insert into account_balance_slot(id, account_id, slot_index, balance) values (?, ?, ?, ?)",
+			USER_ID + 12, USER_ID + 2, 1, 3_000L);
+	}
+
+	@Test
+	@DisplayName("스냅샷은 사용중인 계좌의 잔액과 분할 잔액 합계를 날짜별로 기록하고 같은 날짜로 다시 실행하면 덮어써야한다.")
+	void snapshot() {
+		//given
+		balanceSnapshotService.snapshot(SNAPSHOT_DATE);
+		jdbcTemplate.update("update account set balance = ? where id = ?", 7_000L, USER_ID + 1);
+
+		//when
+		balanceSnapshotService.snapshot(SNAPSHOT_DATE);
+		jdbcTemplate.update("update account set balance = ? where id = ?", 0L, USER_ID + 1);
+		List<AccountSearchResponse> responses = balanceSnapshotService.findAccountByUserId(USER_ID, SNAPSHOT_DATE);
+
+		//then
+		assertThat(responses).extracting(AccountSearchResponse::getAccountNumber, AccountSearchResponse::getBalance)
+			.containsExactly(tuple("8000000001", 7_000L), tuple("8000000002", 6_000L));
+	}
+
+	@Test
+	@DisplayName("스냅샷은 다음날 0시 이후의 거래를 제외한 마감 잔액으로 기록되어야한다.")
+	void snapshot_excludeAfterClose() {
+		//given
+		insertTransaction(1, "USE", 3_000L, 7_000L, SNAPSHOT_DATE.plusDays(1).atTime(0, 0, 5));
+		insertTransaction(2, "CANCEL", 500L, 6_500L, SNAPSHOT_DATE.atTime(23, 59, 59));
+		jdbcTemplate.update("update account set balance = ? where id = ?", 7_000L, USER_ID + 1);
+
+		//when
+		balanceSnapshotService.snapshot(SNAPSHOT_DATE);
+		List<AccountSearchResponse> responses = balanceSnapshotService.findAccountByUserId(USER_ID, SNAPSHOT_DATE);
+
+		//then
+		assertThat(responses).extracting(AccountSearchResponse::getAccountNumber, AccountSearchResponse::getBalance)
+			.containsExactly(tuple("8000000001", 10_000L), tuple("8000000002", 6_500L));
+		assertThat(balanceSnapshotService.isTaken(SNAPSHOT_DATE)).isTrue();
+		assertThat(balanceSnapshotService.isTaken(SNAPSHOT_DATE.plusDays(1))).isFalse();
+	}
+
+	@Test
+	@DisplayName("해당 날짜의 스냅샷이 없으면 BalanceSnapshotNotFoundException 이 발생해야한다.")
+	void findAccountByUserId_notFoundSnapshot() {
+		//given
+		balanceSnapshotService.snapshot(SNAPSHOT_DATE);
+
+		//expect
+		assertThatThrownBy(() -> balanceSnapshotService.findAccountByUserId(USER_ID, SNAPSHOT_DATE.minusDays(1)))
+			.isInstanceOf(BalanceSnapshotNotFoundException.class)
+			.hasMessage("해당 날짜의 잔액 스냅샷이 존재하지 않습니다.");
+	}
+
+	private void insertTransaction(long index, String transactionType, long amount, long balanceSnapshot,
+		LocalDateTime transactedAt) {
+		jdbcTemplate.update("insert into transaction(id, account_id, transaction_type, transaction_result, amount, "
+			+ "balance_snapshot, transaction_id, transacted_at) values (?, ?, ?, 'SUCCESS', ?, ?, ?, ?)",
+			USER_ID + 20 + index, USER_ID + index, transactionType, amount, balanceSnapshot,
+			transactionType + "-" + index, Timestamp.valueOf(transactedAt));
+	}
+
+	private void insertAccount(long index, String status, long balance) {
+		jdbcTemplate.update("insert into account(id, account_user_id, account_number, account_status, balance) "
+			+ "values (?, ?, ?, ?, ?)", USER_ID + index, USER_ID, String.format("8%09d", index), status, balance);
+	}
+}
@@ -0,0 +1,135 @@
+package core.accountserver.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import core.accountserver.circuit.CircuitBreaker;
+import core.accountserver.circuit.CircuitBreakerOptions;
+import core.accountserver.circuit.CircuitState;
+import core.accountserver.exception.transaction.LockUnavailableException;
+import core.accountserver.exception.transaction.TransactionHasLockException;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerLockServiceTest {
+
+	@Mock
+	RedissonClient redissonClient;
+
+	@Test
+	@DisplayName("회로가 열린 상태에서 SHED 모드면 Redis 호출 없이 즉시 LockUnavailableException 이 발생해야한다.")
+	void shed() {
+		//given
+		CircuitBreakerLockService lockService = new CircuitBreakerLockService(redissonClient, openCircuit(),
+			LockFallback.SHED, 100L, 1024);
+
+		//expect
+		assertThatThrownBy(() -> lockService.lock("1231111111"))
+			.isInstanceOf(LockUnavailableException.class);
+		then(redissonClient).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("회로가 열린 상태에서 LOCAL 모드면 로컬 락으로 계좌를 잠궈야한다.")
+	void local() throws Exception {
+		//given
+		CircuitBreakerLockService lockService = new CircuitBreakerLockService(redissonClient, openCircuit(),
+			LockFallback.LOCAL, 100L, 1024);
+		lockService.lock("1231111111");
+
+		//when
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+		Thread other = new Thread(() -> thrown.set(catchThrowable(() -> lockService.lock("1231111111"))));
+		other.start();
+		other.join();
+		lockService.unlock("1231111111");
+
+		//then
+		assertThat(thrown.get()).isInstanceOf(TransactionHasLockException.class);
+		assertThatCode(() -> {
+			lockService.lock("1231111111");
+			lockService.unlock("1231111111");
+		}).doesNotThrowAnyException();
+		then(redissonClient).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("다른 요청이 잡고 있어 락을 기다린 시간은 회로에 기록되지 않고 Redis 조회 시간만 기록되어야한다.")
+	void lock_recordRoundTrip() throws Exception {
+		//given
+		CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+		RLock lock = mock(RLock.class);
+		given(circuitBreaker.tryAcquirePermission()).willReturn(true);
+		given(redissonClient.getLock(anyString())).willReturn(lock);
+		given(lock.tryLock(0, 5, TimeUnit.SECONDS)).willReturn(false);
+		given(lock.tryLock(1, 5, TimeUnit.SECONDS)).willAnswer(invocation -> {
+			Thread.sleep(20);
+			return false;
+		});
+		CircuitBreakerLockService lockService = new CircuitBreakerLockService(redissonClient, circuitBreaker,
+			LockFallback.SHED, 100L, 1024);
+
+		//expect
+		assertThatThrownBy(() -> lockService.lock("1231111111"))
+			.isInstanceOf(TransactionHasLockException.class);
+		then(circuitBreaker).should().onSuccess(longThat(nanos -> nanos < TimeUnit.MILLISECONDS.toNanos(20)));
+		then(circuitBreaker).should(never()).onError(anyLong());
+	}
+
+	@Test
+	@DisplayName("락 경합만으로는 회로가 열리지 않아야한다.")
+	void lock_contentionKeepsCircuitClosed() throws Exception {
+		//given
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", CircuitBreakerOptions.builder()
+			.windowSize(4)
+			.minimumCalls(1)
+			.failureRateThreshold(0.5)
+			.slowCallRateThreshold(0.5)
+			.slowCallMillis(10)
+			.openMillis(60_000)
+			.halfOpenCalls(1)
+			.build());
+		RLock lock = mock(RLock.class);
+		given(redissonClient.getLock(anyString())).willReturn(lock);
+		given(lock.tryLock(0, 5, TimeUnit.SECONDS)).willReturn(false);
+		given(lock.tryLock(1, 5, TimeUnit.SECONDS)).willAnswer(invocation -> {
+			Thread.sleep(20);
+			return false;
+		});
+		CircuitBreakerLockService lockService = new CircuitBreakerLockService(redissonClient, circuitBreaker,
+			LockFallback.SHED, 100L, 1024);
+
+		//when
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> lockService.lock("1231111111"))
+				.isInstanceOf(TransactionHasLockException.class);
+		}
+
+		//then
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	private static CircuitBreaker openCircuit() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", CircuitBreakerOptions.builder()
+			.windowSize(2)
+			.minimumCalls(1)
+			.failureRateThreshold(0.5)
+			.slowCallRateThreshold(1.0)
+			.slowCallMillis(1000)
+			.openMillis(60_000)
+			.halfOpenCalls(1)
+			.build());
+		circuitBreaker.onError(0);
+		return circuitBreaker;
+	}
+}
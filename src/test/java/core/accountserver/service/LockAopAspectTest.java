@@ -10,11 +10,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import core.accountserver.aop.AccountLockRequest;
 import core.accountserver.dto.request.transaction.UseBalanceRequest;
+import core.accountserver.exception.account.AccountExceedBalanceException;
 import core.accountserver.exception.transaction.TransactionFailedException;
+import core.accountserver.hot.HotAccountRegistry;
+import core.accountserver.metrics.RequestMetrics;
 
 @ExtendWith(MockitoExtension.class)
 class LockAopAspectTest {
@@ -23,12 +29,17 @@ class LockAopAspectTest {
 	LockService lockService;
 	@Mock
 	ProceedingJoinPoint proceedingJoinPoint;
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	@Spy
+	RequestMetrics requestMetrics = new RequestMetrics(meterRegistry);
+	@Spy
+	HotAccountRegistry hotAccountRegistry = new HotAccountRegistry();
 	@InjectMocks
 	LockAopAspect lockAopAspect;
 
 	@Test
 	@DisplayName("계좌번호를 받아 락과 언락 서비스가 진행되어야야 한다.")
-	void lockAndUnlock() {
+	void lockAndUnlock() throws Throwable {
 		//given
 		String accountNumber = "1231111111";
 		ArgumentCaptor<String> lockArgumentCaptor = ArgumentCaptor.forClass(String.class);
@@ -65,4 +76,74 @@ class LockAopAspectTest {
 		assertThat(accountNumber).isEqualTo(lockArgumentCaptor.getValue());
 		assertThat(accountNumber).isEqualTo(unlockArgumentCaptor.getValue());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("예상 가능한 거래 거절은 스택 트레이스 없이 TransactionFailedException 으로 전달되어야한다.")
+	void businessException_stackless() throws Throwable {
+		//given
+		AccountLockRequest request = new UseBalanceRequest(1L, "1231111111", 100L);
+		given(proceedingJoinPoint.proceed())
+			.willThrow(new AccountExceedBalanceException("거래금액이 계좌 잔액보다 큽니다."));
+
+		//expect
+		assertThatThrownBy(() -> lockAopAspect.aroundMethod(proceedingJoinPoint, request))
+			.isInstanceOf(TransactionFailedException.class)
+			.satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+		then(lockService).should(times(1)).unlock("1231111111");
+	}
+
+	@Test
+	@DisplayName("컨트롤러가 감싼 거래 거절은 락 유지 시간 지표에 원래 예외 이름으로 기록되어야한다.")
+	void lockHold_originalOutcome() throws Throwable {
+		//given
+		AccountLockRequest request = new UseBalanceRequest(1L, "1231111111", 100L);
+		given(proceedingJoinPoint.proceed()).willThrow(new TransactionFailedException("거래금액이 계좌 잔액보다 큽니다.",
+			new AccountExceedBalanceException("거래금액이 계좌 잔액보다 큽니다.")));
+
+		//when
+		assertThatThrownBy(() -> lockAopAspect.aroundMethod(proceedingJoinPoint, request))
+			.isInstanceOf(TransactionFailedException.class);
+
+		//then
+		assertThat(meterRegistry.find(RequestMetrics.LOCK_HOLD)
+			.tag("outcome", "AccountExceedBalanceException")
+			.timer()).isNotNull();
+		assertThat(meterRegistry.find(RequestMetrics.LOCK_HOLD)
+			.tag("outcome", "TransactionFailedException")
+			.timer()).isNull();
+	}
+
+	@Test
+	@DisplayName("예상하지 못한 예외는 감싸지 않고 원래 예외 그대로 전달되어야한다.")
+	void unexpectedException_propagate() throws Throwable {
+		//given
+		AccountLockRequest request = new UseBalanceRequest(1L, "1231111111", 100L);
+		IllegalStateException failure = new IllegalStateException("connection reset");
+		given(proceedingJoinPoint.proceed()).willThrow(failure);
+
+		//expect
+		assertThatThrownBy(() -> lockAopAspect.aroundMethod(proceedingJoinPoint, request))
+			.isSameAs(failure);
+		then(lockService).should(times(1)).unlock("1231111111");
+	}
+
+	@Test
+	@DisplayName("분할 잔액 계좌의 출금 요청은 계좌 단위 락 없이 진행되어야한다.")
+	void hotAccount_skipAccountLock() throws Throwable {
+		//given
+		hotAccountRegistry.register("1231111111");
+		AccountLockRequest request = new UseBalanceRequest(1L, "1231111111", 100L);
+		given(proceedingJoinPoint.proceed()).willAnswer(invocation -> {
+			assertThat(hotAccountRegistry.isLockSkipped("1231111111")).isTrue();
+			return null;
+		});
+
+		//when
+		lockAopAspect.aroundMethod(proceedingJoinPoint, request);
+
+		//then
+		then(lockService).shouldHaveNoInteractions();
+		then(proceedingJoinPoint).should(times(1)).proceed();
+		assertThat(hotAccountRegistry.isLockSkipped("1231111111")).isFalse();
+	}
+}
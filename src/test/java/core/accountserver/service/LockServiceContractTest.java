@@ -0,0 +1,194 @@
+package core.accountserver.service;
+
+import static core.accountserver.domain.account.AccountStatus.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.accountserver.circuit.CircuitBreaker;
+import core.accountserver.circuit.CircuitBreakerOptions;
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountBalanceSlot;
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.hold.HoldExpirer;
+import core.accountserver.hot.HotAccountRegistry;
+import core.accountserver.hot.SplitBalances;
+import core.accountserver.repository.AccountBalanceSlotRepository;
+import core.accountserver.repository.AccountRepository;
+import redis.embedded.RedisServer;
+
+class LockServiceContractTest {
+
+	private static final int PORT = 6394;
+	private static final String ACCOUNT_NUMBER = "1231111111";
+
+	static RedisServer redisServer;
+	static RedissonClient redissonClient;
+
+	ExecutorService holder = Executors.newSingleThreadExecutor();
+	ExecutorService other = Executors.newSingleThreadExecutor();
+	Account account = Account.create(AccountUser.builder().id(1L).name("kim").build(), ACCOUNT_NUMBER, 0L, IN_USE);
+
+	enum Implementation {
+		REDIS, CIRCUIT_LOCAL, CIRCUIT_LOCAL_OPEN, CIRCUIT_SHED, QUORUM
+	}
+
+	@BeforeAll
+	static void startRedis() {
+		redisServer = new RedisServer(PORT);
+		redisServer.start();
+		Config config = new Config();
+		config.useSingleServer()
+			.setAddress("redis://127.0.0.1:" + PORT)
+			.setTimeout(200)
+			.setRetryAttempts(0);
+		redissonClient = Redisson.create(config);
+	}
+
+	@AfterAll
+	static void stopRedis() {
+		redissonClient.shutdown();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+		holder.shutdownNow();
+		other.shutdownNow();
+	}
+
+	@ParameterizedTest
+	@EnumSource(Implementation.class)
+	@DisplayName("만료 처리는 tryLock 으로 얻은 계좌 락을 풀어 다른 스레드가 다시 락을 얻을 수 있어야한다.")
+	void holdExpirer_releasesLock(Implementation implementation) throws Exception {
+		//given
+		LockService lockService = lockService(implementation);
+		BalanceHoldService balanceHoldService = mock(BalanceHoldService.class);
+		given(balanceHoldService.findExpired(anyInt())).willReturn(List.of(hold()));
+
+		//when
+		new HoldExpirer(balanceHoldService, lockService).expire();
+
+		//then
+		then(balanceHoldService).should().expire("holdId", ACCOUNT_NUMBER);
+		assertThat(tryLockOn(other, lockService, ACCOUNT_NUMBER)).isTrue();
+	}
+
+	@ParameterizedTest
+	@EnumSource(Implementation.class)
+	@DisplayName("다른 스레드가 계좌 락을 가지고 있으면 만료 처리를 건너뛰고 그 락을 풀지 않아야한다.")
+	void holdExpirer_skipsLockedAccount(Implementation implementation) throws Exception {
+		//given
+		LockService lockService = lockService(implementation);
+		BalanceHoldService balanceHoldService = mock(BalanceHoldService.class);
+		given(balanceHoldService.findExpired(anyInt())).willReturn(List.of(hold()));
+		holder.submit(() -> lockService.lock(ACCOUNT_NUMBER)).get();
+
+		//when
+		new HoldExpirer(balanceHoldService, lockService).expire();
+
+		//then
+		then(balanceHoldService).should(never()).expire(anyString(), anyString());
+		assertThat(tryLockOn(other, lockService, ACCOUNT_NUMBER)).isFalse();
+		holder.submit(() -> lockService.unlock(ACCOUNT_NUMBER)).get();
+		assertThat(tryLockOn(other, lockService, ACCOUNT_NUMBER)).isTrue();
+	}
+
+	@ParameterizedTest
+	@EnumSource(Implementation.class)
+	@DisplayName("슬롯 출금은 트랜잭션이 끝날때까지 슬롯 락을 유지하고 끝나면 풀어야한다.")
+	void splitBalances_debit(Implementation implementation) throws Exception {
+		//given
+		LockService lockService = lockService(implementation);
+		AccountBalanceSlotRepository slotRepository = mock(AccountBalanceSlotRepository.class);
+		SplitBalances splitBalances = new SplitBalances(mock(AccountRepository.class), slotRepository, lockService,
+			new HotAccountRegistry(), mock(PlatformTransactionManager.class), 1, 0.25);
+		AccountBalanceSlot slot = AccountBalanceSlot.builder().id(10L).account(account).slotIndex(0).balance(5000L)
+			.build();
+		given(slotRepository.findByAccountOrderBySlotIndex(account)).willReturn(List.of(slot));
+		given(slotRepository.debit(10L, 1000L)).willReturn(1);
+
+		//when
+		long balance = splitBalances.debit(account, 1000L);
+
+		//then
+		assertThat(balance).isEqualTo(4000L);
+		assertThat(tryLockOn(other, lockService, ACCOUNT_NUMBER + "#0")).isFalse();
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+		assertThat(tryLockOn(other, lockService, ACCOUNT_NUMBER + "#0")).isTrue();
+	}
+
+	private LockService lockService(Implementation implementation) {
+		switch (implementation) {
+			case CIRCUIT_LOCAL:
+				return new CircuitBreakerLockService(redissonClient, circuitBreaker(false), LockFallback.LOCAL, 100L,
+					1024);
+			case CIRCUIT_LOCAL_OPEN:
+				return new CircuitBreakerLockService(redissonClient, circuitBreaker(true), LockFallback.LOCAL, 100L,
+					1024);
+			case CIRCUIT_SHED:
+				return new CircuitBreakerLockService(redissonClient, circuitBreaker(false), LockFallback.SHED, 100L,
+					1024);
+			case QUORUM:
+				return new QuorumLockService(redissonClient, List.of(redissonClient), 200L, 5000L, 100L, 0.01, 20L);
+			default:
+				return new LockService(redissonClient);
+		}
+	}
+
+	private BalanceHold hold() {
+		return BalanceHold.builder().holdId("holdId").account(account).build();
+	}
+
+	private static boolean tryLockOn(ExecutorService executor, LockService lockService, String key) throws Exception {
+		return executor.submit(() -> {
+			boolean acquired = lockService.tryLock(key);
+			if (acquired) {
+				lockService.unlock(key);
+			}
+			return acquired;
+		}).get();
+	}
+
+	private static CircuitBreaker circuitBreaker(boolean open) {
+		CircuitBreaker circuitBreaker = new CircuitBreaker("test", CircuitBreakerOptions.builder()
+			.windowSize(2)
+			.minimumCalls(1)
+			.failureRateThreshold(0.5)
+			.slowCallRateThreshold(1.0)
+			.slowCallMillis(1000)
+			.openMillis(60_000)
+			.halfOpenCalls(1)
+			.build());
+		if (open) {
+			circuitBreaker.onError(0);
+		}
+		return circuitBreaker;
+	}
+}
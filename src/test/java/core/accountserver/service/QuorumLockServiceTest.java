@@ -0,0 +1,106 @@
+package core.accountserver.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+import core.accountserver.exception.transaction.TransactionHasLockException;
+import redis.embedded.RedisServer;
+
+class QuorumLockServiceTest {
+
+	private static final int[] PORTS = {6391, 6392, 6393};
+	private static final String ACCOUNT_NUMBER = "1231111111";
+
+	List<RedisServer> redisServers = new ArrayList<>();
+	List<RedissonClient> clients = new ArrayList<>();
+	QuorumLockService quorumLockService;
+
+	@BeforeEach
+	void setUp() {
+		for (int port : PORTS) {
+			RedisServer redisServer = new RedisServer(port);
+			redisServer.start();
+			redisServers.add(redisServer);
+
+			Config config = new Config();
+			config.useSingleServer()
+				.setAddress("redis://127.0.0.1:" + port)
+				.setTimeout(50)
+				.setConnectTimeout(50)
+				.setRetryAttempts(0);
+			clients.add(Redisson.create(config));
+		}
+		quorumLockService = new QuorumLockService(clients.get(0), clients, 200L, 5000L, 50L, 0.01, 20L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		clients.forEach(RedissonClient::shutdown);
+		redisServers.forEach(RedisServer::stop);
+	}
+
+	@Test
+	@DisplayName("이미 락인 계좌는 언락 전까지 다시 락을 얻을 수 없어야한다.")
+	void lock_exclusive() {
+		//given
+		quorumLockService.lock(ACCOUNT_NUMBER);
+
+		//expect
+		assertThatThrownBy(() -> quorumLockService.lock(ACCOUNT_NUMBER))
+			.isInstanceOf(TransactionHasLockException.class);
+		quorumLockService.unlock(ACCOUNT_NUMBER);
+		assertThatCode(() -> quorumLockService.lock(ACCOUNT_NUMBER)).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("임대 시간이 지난 락을 언락해도 다른 스레드가 새로 얻은 락은 해제되지 않아야한다.")
+	void unlock_expiredLease() throws Exception {
+		//given
+		QuorumLockService shortLease = new QuorumLockService(clients.get(0), clients, 200L, 100L, 50L, 0.01, 20L);
+		ExecutorService other = Executors.newSingleThreadExecutor();
+		shortLease.lock(ACCOUNT_NUMBER);
+		Thread.sleep(150L);
+		other.submit(() -> shortLease.lock(ACCOUNT_NUMBER)).get();
+
+		//when
+		shortLease.unlock(ACCOUNT_NUMBER);
+
+		//then
+		assertThat(shortLease.tryLock(ACCOUNT_NUMBER)).isFalse();
+		other.shutdown();
+	}
+
+	@Test
+	@DisplayName("과반수의 노드가 살아있으면 락을 얻을 수 있어야한다.")
+	void lock_majority() {
+		//given
+		redisServers.get(2).stop();
+
+		//expect
+		assertThatCode(() -> quorumLockService.lock(ACCOUNT_NUMBER)).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("과반수의 노드가 응답하지 않으면 TransactionHasLockException 이 발생해야한다.")
+	void lock_noQuorum() {
+		//given
+		redisServers.get(1).stop();
+		redisServers.get(2).stop();
+
+		//expect
+		assertThatThrownBy(() -> quorumLockService.lock(ACCOUNT_NUMBER))
+			.isInstanceOf(TransactionHasLockException.class);
+	}
+}
@@ -0,0 +1,120 @@
+package core.accountserver.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountStatus;
+import core.accountserver.dto.response.account.AccountSearchResponse;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.shard.ShardContext;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedAccountServiceTest {
+
+	@Mock
+	AccountRepository accountRepository;
+	@Mock
+	AccountUserRepository accountUserRepository;
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	ShardMap shardMap = new ShardMap(2, 16);
+	ShardContext shardContext = new ShardContext();
+	List<Integer> visited = new ArrayList<>();
+	ShardedAccountService accountService;
+
+	@BeforeEach
+	void setUp() {
+		accountService = new ShardedAccountService(accountRepository, accountUserRepository,
+			userId -> accountNumberOn(1), shardMap, new ShardTemplate(shardMap, shardContext, transactionManager));
+	}
+
+	@Test
+	@DisplayName("계좌 생성은 사용자 버킷을 소유한 샤드에서 실행되어야한다.")
+	void createAccount() {
+		//given
+		long userId = userOn(1);
+		AccountUser accountUser = new AccountUser(userId, "user", 0);
+		given(accountUserRepository.findById(userId)).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return Optional.of(accountUser);
+		});
+		given(accountUserRepository.increaseAccountCount(anyLong(), anyInt())).willReturn(1);
+		given(accountRepository.existsByAccountNumber(anyString())).willReturn(false);
+		given(accountRepository.save(any(Account.class))).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return invocation.getArgument(0);
+		});
+
+		//when
+		accountService.createAccount(userId, 1000L);
+
+		//then
+		assertThat(visited).containsExactly(1, 1);
+		assertThat(shardContext.current()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("사용자 계좌 조회는 모든 샤드를 조회하고 버킷을 소유한 샤드의 계좌만 반환해야한다.")
+	void findAccountByUserId() {
+		//given
+		long userId = userOn(0);
+		AccountUser accountUser = new AccountUser(userId, "user", 2);
+		String ownedByFirst = accountNumberOn(0);
+		String ownedBySecond = accountNumberOn(1);
+		given(accountUserRepository.findById(userId)).willReturn(Optional.of(accountUser));
+		given(accountRepository.findByAccountUser(accountUser)).willAnswer(invocation -> {
+			if (shardContext.current() == 0) {
+				return List.of(account(accountUser, ownedByFirst, 100L), account(accountUser, ownedBySecond, 0L));
+			}
+			return List.of(account(accountUser, ownedBySecond, 200L));
+		});
+
+		//when
+		List<AccountSearchResponse> actual = accountService.findAccountByUserId(userId);
+
+		//then
+		assertThat(actual.stream().map(AccountSearchResponse::getAccountNumber).collect(Collectors.toList()))
+			.containsExactly(ownedByFirst, ownedBySecond);
+		assertThat(actual.stream().map(AccountSearchResponse::getBalance).collect(Collectors.toList()))
+			.containsExactly(100L, 200L);
+	}
+
+	private Account account(AccountUser accountUser, String accountNumber, long balance) {
+		return Account.create(accountUser, accountNumber, balance, AccountStatus.IN_USE);
+	}
+
+	private long userOn(int shard) {
+		long userId = 1L;
+		while (shardMap.ownerOf(shardMap.bucketOfUser(userId)) != shard) {
+			userId++;
+		}
+		return userId;
+	}
+
+	private String accountNumberOn(int shard) {
+		int candidate = 0;
+		while (shardMap.shardOf(String.format("%010d", candidate)) != shard) {
+			candidate++;
+		}
+		return String.format("%010d", candidate);
+	}
+}
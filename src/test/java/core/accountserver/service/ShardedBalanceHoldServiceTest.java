@@ -0,0 +1,112 @@
+package core.accountserver.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountStatus;
+import core.accountserver.domain.hold.BalanceHold;
+import core.accountserver.domain.transaction.Transaction;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.BalanceHoldRepository;
+import core.accountserver.repository.TransactionRepository;
+import core.accountserver.shard.ShardContext;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedBalanceHoldServiceTest {
+
+	@Mock
+	BalanceHoldRepository balanceHoldRepository;
+	@Mock
+	TransactionRepository transactionRepository;
+	@Mock
+	AccountRepository accountRepository;
+	@Mock
+	AccountUserRepository accountUserRepository;
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	ShardMap shardMap = new ShardMap(2, 16);
+	ShardContext shardContext = new ShardContext();
+	List<Integer> visited = new ArrayList<>();
+	ShardedBalanceHoldService balanceHoldService;
+
+	@BeforeEach
+	void setUp() {
+		balanceHoldService = new ShardedBalanceHoldService(balanceHoldRepository, accountRepository,
+			accountUserRepository, transactionRepository, shardMap,
+			new ShardTemplate(shardMap, shardContext, transactionManager));
+	}
+
+	@Test
+	@DisplayName("홀드는 계좌 버킷을 소유한 샤드에서 실행되어야한다.")
+	void hold() {
+		//given
+		String accountNumber = accountNumberOn(1);
+		Account account = Account.create(new AccountUser(1L, "user", 1), accountNumber, 1000L, AccountStatus.IN_USE);
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return Optional.of(account);
+		});
+		given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return invocation.getArgument(0);
+		});
+		given(balanceHoldRepository.save(any(BalanceHold.class))).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return invocation.getArgument(0);
+		});
+
+		//when
+		balanceHoldService.hold(1L, accountNumber, 100L);
+
+		//then
+		assertThat(visited).containsExactly(1, 1, 1);
+		assertThat(account.getBalance()).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("만료된 홀드는 모든 샤드에서 조회하되 계좌를 소유한 샤드의 홀드만 반환되어야한다.")
+	void findExpired() {
+		//given
+		BalanceHold onFirst = hold(accountNumberOn(0));
+		BalanceHold onSecond = hold(accountNumberOn(1));
+		given(balanceHoldRepository.findExpired(any(), any())).willAnswer(
+			invocation -> List.of(onFirst, onSecond));
+
+		//when
+		List<BalanceHold> expired = balanceHoldService.findExpired(10);
+
+		//then
+		assertThat(expired).containsExactly(onFirst, onSecond);
+	}
+
+	private BalanceHold hold(String accountNumber) {
+		Account account = Account.create(new AccountUser(1L, "user", 1), accountNumber, 0L, AccountStatus.IN_USE);
+		return BalanceHold.create(account, 100L);
+	}
+
+	private String accountNumberOn(int shard) {
+		int candidate = 0;
+		while (shardMap.shardOf(String.format("%010d", candidate)) != shard) {
+			candidate++;
+		}
+		return String.format("%010d", candidate);
+	}
+}
@@ -0,0 +1,124 @@
+package core.accountserver.service;
+
+import static core.accountserver.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import core.accountserver.domain.AccountUser;
+import core.accountserver.domain.account.Account;
+import core.accountserver.domain.account.AccountStatus;
+import core.accountserver.domain.transaction.Transaction;
+import core.accountserver.dto.response.transaction.TransactionSearchResponse;
+import core.accountserver.exception.transaction.TransactionNotFoundException;
+import core.accountserver.metrics.RequestMetrics;
+import core.accountserver.repository.AccountRepository;
+import core.accountserver.repository.AccountUserRepository;
+import core.accountserver.repository.TransactionRepository;
+import core.accountserver.shard.ShardContext;
+import core.accountserver.shard.ShardMap;
+import core.accountserver.shard.ShardTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedTransactionServiceTest {
+
+	@Mock
+	TransactionRepository transactionRepository;
+	@Mock
+	AccountRepository accountRepository;
+	@Mock
+	AccountUserRepository accountUserRepository;
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	ShardMap shardMap = new ShardMap(2, 16);
+	ShardContext shardContext = new ShardContext();
+	List<Integer> visited = new ArrayList<>();
+	ShardedTransactionService transactionService;
+
+	@BeforeEach
+	void setUp() {
+		transactionService = new ShardedTransactionService(transactionRepository, accountUserRepository,
+			accountRepository, new RequestMetrics(new SimpleMeterRegistry()), shardMap,
+			new ShardTemplate(shardMap, shardContext, transactionManager));
+	}
+
+	@Test
+	@DisplayName("잔액 사용은 계좌 버킷을 소유한 샤드에서 실행되어야한다.")
+	void useBalance() {
+		//given
+		String accountNumber = accountNumberOn(1);
+		Account account = Account.create(new AccountUser(1L, "user", 1), accountNumber, 1000L, AccountStatus.IN_USE);
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return Optional.of(account);
+		});
+		given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return invocation.getArgument(0);
+		});
+
+		//when
+		transactionService.useBalance(1L, accountNumber, 100L);
+
+		//then
+		assertThat(visited).containsExactly(1, 1);
+		assertThat(account.getBalance()).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("거래 조회는 샤드를 순회하며 버킷을 소유한 샤드의 거래만 반환해야한다.")
+	void findByTransactionId() {
+		//given
+		Account account = Account.create(new AccountUser(1L, "user", 1), accountNumberOn(1), 1000L,
+			AccountStatus.IN_USE);
+		Transaction transaction = Transaction.createSuccessTransaction(account, 100L, USE);
+		given(transactionRepository.findByTransactionId(transaction.getTransactionId())).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return Optional.of(transaction);
+		});
+
+		//when
+		TransactionSearchResponse actual = transactionService.findByTransactionId(transaction.getTransactionId());
+
+		//then
+		assertThat(actual.getAccountNumber()).isEqualTo(account.getAccountNumber());
+		assertThat(visited).containsExactly(0, 1);
+	}
+
+	@Test
+	@DisplayName("어느 샤드에도 거래가 없으면 TransactionNotFoundException 이 발생해야한다.")
+	void findByTransactionId_notFound() {
+		//given
+		given(transactionRepository.findByTransactionId(anyString())).willAnswer(invocation -> {
+			visited.add(shardContext.current());
+			return Optional.empty();
+		});
+
+		//expect
+		assertThatThrownBy(() -> transactionService.findByTransactionId("missing"))
+			.isInstanceOf(TransactionNotFoundException.class);
+		assertThat(visited).containsExactly(0, 1);
+	}
+
+	private String accountNumberOn(int shard) {
+		int candidate = 0;
+		while (shardMap.shardOf(String.format("%010d", candidate)) != shard) {
+			candidate++;
+		}
+		return String.format("%010d", candidate);
+	}
+}
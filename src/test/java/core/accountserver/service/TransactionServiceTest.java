@@ -15,16 +15,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import core.accountserver.domain.AccountUser;
 import core.accountserver.domain.account.Account;
 import core.accountserver.domain.account.AccountStatus;
 import core.accountserver.domain.transaction.Transaction;
+import core.accountserver.dto.response.account.AccountBalanceResponse;
 import core.accountserver.dto.response.transaction.CancelBalanceResponse;
 import core.accountserver.dto.response.transaction.TransactionSearchResponse;
 import core.accountserver.dto.response.transaction.UseBalanceResponse;
 import core.accountserver.exception.account.AccountAlreadyUnregisteredException;
 import core.accountserver.exception.account.AccountExceedBalanceException;
 import core.accountserver.exception.account.AccountNotFoundException;
+import core.accountserver.exception.account.BalanceNotRecordedException;
 import core.accountserver.exception.account.UserAccountUnMatchException;
 import core.accountserver.exception.transaction.AccountTransactionUnMatchException;
 import core.accountserver.exception.transaction.CancelMustFullyException;
@@ -33,6 +38,7 @@ import core.accountserver.exception.transaction.TransactionAlreadyCancelExceptio
 import core.accountserver.exception.transaction.TransactionNotFoundException;
 import core.accountserver.exception.transaction.TransactionResultFailedException;
 import core.accountserver.exception.user.UserNotFoundException;
+import core.accountserver.metrics.RequestMetrics;
 import core.accountserver.policy.TransactionConstant;
 import core.accountserver.repository.AccountRepository;
 import core.accountserver.repository.AccountUserRepository;
@@ -50,11 +56,14 @@ class TransactionServiceTest {
 	@Mock
 	private AccountUserRepository accountUserRepository;
 
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
 	private TransactionService transactionService;
 
 	@BeforeEach
 	void setUp() {
-		transactionService = new TransactionService(transactionRepository, accountUserRepository, accountRepository);
+		transactionService = new TransactionService(transactionRepository, accountUserRepository, accountRepository,
+			new RequestMetrics(meterRegistry));
 	}
 
 	@Test
@@ -70,8 +79,7 @@ class TransactionServiceTest {
 		Account account = createAccount(user, accountNumber, balance, AccountStatus.IN_USE);
 		Transaction successTransaction = Transaction.createSuccessTransaction(account, amount, USE);
 
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.of(account));
 		given(transactionRepository.save(any(Transaction.class))).willReturn(successTransaction);
 
 		//when
@@ -84,8 +92,8 @@ class TransactionServiceTest {
 		assertThat(actual.getAmount()).isEqualTo(amount);
 		assertThat(account.getBalance()).isEqualTo(balance - amount);
 
-		then(accountUserRepository).should(times(1)).findById(anyLong());
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
+		then(accountUserRepository).should(times(0)).existsById(anyLong());
+		then(accountRepository).should(times(1)).findWithAccountUserByAccountNumber(anyString());
 		then(transactionRepository).should(times(1)).save(any(Transaction.class));
 	}
 
@@ -95,12 +103,28 @@ class TransactionServiceTest {
 		//given
 		long userId = 10L;
 		String accountNumber = "1000000001";
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.empty());
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.empty());
+		given(accountUserRepository.existsById(anyLong())).willReturn(false);
 
 		//expect
 		assertThatThrownBy(() -> transactionService.useBalance(userId, accountNumber, 100L))
 			.isInstanceOf(UserNotFoundException.class);
-		then(accountUserRepository).should(times(1)).findById(anyLong());
+		then(accountUserRepository).should(times(1)).existsById(anyLong());
+	}
+
+	@Test
+	@DisplayName("계좌 소유주가 아닌 사용자가 존재하지 않으면 UserNotFoundException 이 던져 되어야한다.")
+	void useBalance_userNotFound_accountExists() {
+		//given
+		String accountNumber = "1000000001";
+		Account account = createAccount(createAccountUser(11L, "user"), accountNumber, 1000L, AccountStatus.IN_USE);
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		given(accountUserRepository.existsById(anyLong())).willReturn(false);
+
+		//expect
+		assertThatThrownBy(() -> transactionService.useBalance(10L, accountNumber, 100L))
+			.isInstanceOf(UserNotFoundException.class);
+		then(accountUserRepository).should(times(1)).existsById(anyLong());
 	}
 
 	@Test
@@ -108,37 +132,55 @@ class TransactionServiceTest {
 	void useBalance_accountNotFound() {
 		//given
 		String accountNumber = "1000000001";
-		AccountUser user = createAccountUser(1L, "kim");
 
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.empty());
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.empty());
+		given(accountUserRepository.existsById(anyLong())).willReturn(true);
 
 		//expect
 		assertThatThrownBy(() -> transactionService.useBalance(1L, accountNumber, 100L))
 			.isInstanceOf(AccountNotFoundException.class);
-		then(accountUserRepository).should(times(1)).findById(anyLong());
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
+		then(accountUserRepository).should(times(1)).existsById(anyLong());
+		then(accountRepository).should(times(1)).findWithAccountUserByAccountNumber(anyString());
+
+	}
+
+	@Test
+	@DisplayName("검증에 실패하면 검증 타이머에 예외 타입이 결과로 기록되어야한다.")
+	void useBalance_validationMetric() {
+		//given
+		String accountNumber = "1000000001";
+		Account account = createAccount(createAccountUser(11L, "user"), accountNumber, 1000L, AccountStatus.IN_USE);
+
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		given(accountUserRepository.existsById(anyLong())).willReturn(true);
 
+		//when
+		assertThatThrownBy(() -> transactionService.useBalance(1L, accountNumber, 100L))
+			.isInstanceOf(UserAccountUnMatchException.class);
+
+		//then
+		assertThat(meterRegistry.get(RequestMetrics.VALIDATION)
+			.tag("outcome", "UserAccountUnMatchException")
+			.timer()
+			.count()).isEqualTo(1L);
 	}
 
 	@Test
 	@DisplayName("사용자와 계좌 소유주가 다르면 UserAccountUnMatchException 이 던져저야한다.")
 	void useBalance_userAccountUnMatch() {
 		//given
-		long userId = 10L;
 		String accountNumber = "1000000001";
-		AccountUser user = createAccountUser(userId, "kim");
 		Account account = createAccount(createAccountUser(11L, "user"), accountNumber, 1000L, AccountStatus.IN_USE);
 
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		given(accountUserRepository.existsById(anyLong())).willReturn(true);
 
 		//expect
 		assertThatThrownBy(() -> transactionService.useBalance(1L, accountNumber, 100L))
 			.isInstanceOf(UserAccountUnMatchException.class);
 
-		then(accountUserRepository).should(times(1)).findById(anyLong());
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
+		then(accountUserRepository).should(times(1)).existsById(anyLong());
+		then(accountRepository).should(times(1)).findWithAccountUserByAccountNumber(anyString());
 
 	}
 
@@ -151,15 +193,13 @@ class TransactionServiceTest {
 		AccountUser user = createAccountUser(userId, "kim");
 		Account account = createAccount(user, accountNumber, 1000L, AccountStatus.UNREGISTERED);
 
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.of(account));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.useBalance(userId, accountNumber, 999L))
 			.isInstanceOf(AccountAlreadyUnregisteredException.class);
 
-		then(accountUserRepository).should(times(1)).findById(anyLong());
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
+		then(accountRepository).should(times(1)).findWithAccountUserByAccountNumber(anyString());
 	}
 
 	@Test
@@ -171,15 +211,13 @@ class TransactionServiceTest {
 		AccountUser user = createAccountUser(userId, "kim");
 		Account account = createAccount(user, accountNumber, 1500L, AccountStatus.IN_USE);
 
-		given(accountUserRepository.findById(anyLong())).willReturn(Optional.of(user));
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		given(accountRepository.findWithAccountUserByAccountNumber(accountNumber)).willReturn(Optional.of(account));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.useBalance(userId, accountNumber, 1501L))
 			.isInstanceOf(AccountExceedBalanceException.class);
 
-		then(accountUserRepository).should(times(1)).findById(anyLong());
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
+		then(accountRepository).should(times(1)).findWithAccountUserByAccountNumber(anyString());
 	}
 
 	@Test
@@ -195,8 +233,8 @@ class TransactionServiceTest {
 		Transaction successTransaction = Transaction.createSuccessTransaction(account, amount, USE);
 		Transaction cancelTransaction = Transaction.createSuccessTransaction(account, amount, CANCEL);
 
-		given(accountRepository.findByAccountNumber(anyString())).willReturn(Optional.of(account));
-		given(transactionRepository.findByTransactionId(anyString())).willReturn(Optional.of(successTransaction));
+		given(transactionRepository.findWithAccountByTransactionId(anyString()))
+			.willReturn(Optional.of(successTransaction));
 		given(transactionRepository.save(any(Transaction.class))).willReturn(cancelTransaction);
 
 		//when
@@ -210,8 +248,8 @@ class TransactionServiceTest {
 		assertThat(actual.getAmount()).isEqualTo(amount);
 		assertThat(account.getBalance()).isEqualTo(balance + amount);
 
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
-		then(transactionRepository).should(times(1)).save(any(Transaction.class));
+		then(accountRepository).should(times(0)).findByAccountNumber(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 		then(transactionRepository).should(times(1)).save(any(Transaction.class));
 	}
 
@@ -220,6 +258,7 @@ class TransactionServiceTest {
 	void cancelTransaction_accountNotFound() {
 		//given
 		String accountNumber = "1000000001";
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.empty());
 		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.empty());
 
 		//expect
@@ -236,15 +275,15 @@ class TransactionServiceTest {
 		String accountNumber = "1112111111";
 		AccountUser user = createAccountUser(1L, "kim");
 		Account account = createAccount(user, accountNumber, 1000L, AccountStatus.IN_USE);
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.empty());
 		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
-		given(transactionRepository.findByTransactionId(anyString())).willReturn(Optional.empty());
 
 		//expect
 		assertThatThrownBy(() -> transactionService.cancelBalance("transactionId", accountNumber, 100L))
 			.isInstanceOf(TransactionNotFoundException.class);
 
 		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
-		then(transactionRepository).should(times(1)).findByTransactionId(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 	}
 
 	@Test
@@ -253,12 +292,13 @@ class TransactionServiceTest {
 		String accountNumber = "1112111111";
 		AccountUser user = createAccountUser(1L, "kim");
 		Account account = createAccount(user, accountNumber, 1000L, AccountStatus.UNREGISTERED);
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
+		Transaction transaction = Transaction.createSuccessTransaction(account, 100L, USE);
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.of(transaction));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.cancelBalance("transactionId", accountNumber, 100L))
 			.isInstanceOf(AccountAlreadyUnregisteredException.class);
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 
 	}
 
@@ -269,15 +309,13 @@ class TransactionServiceTest {
 		AccountUser user = createAccountUser(1L, "kim");
 		Account account = createAccount(user, accountNumber, 1000L, AccountStatus.IN_USE);
 		Transaction transaction = Transaction.createSuccessTransaction(account, 100L, CANCEL);
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
-		given(transactionRepository.findByTransactionId(anyString())).willReturn(Optional.of(transaction));
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.of(transaction));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.cancelBalance("transactionId", accountNumber, 100L))
 			.isInstanceOf(TransactionAlreadyCancelException.class);
 
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
-		then(transactionRepository).should(times(1)).findByTransactionId(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 	}
 
 	@Test
@@ -292,15 +330,15 @@ class TransactionServiceTest {
 
 		Transaction transaction = Transaction.createSuccessTransaction(account2, 100L, USE);
 
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.of(transaction));
 		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account1));
-		given(transactionRepository.findByTransactionId(anyString())).willReturn(Optional.of(transaction));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.cancelBalance("transactionId", accountNumber, 100L))
 			.isInstanceOf(AccountTransactionUnMatchException.class);
 
 		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
-		then(transactionRepository).should(times(1)).findByTransactionId(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 
 	}
 
@@ -315,15 +353,13 @@ class TransactionServiceTest {
 
 		Transaction transaction = Transaction.createFailTransaction(account, 100L, USE);
 
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
-		given(transactionRepository.findByTransactionId(anyString())).willReturn(Optional.of(transaction));
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.of(transaction));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.cancelBalance("transactionId", accountNumber, 100L))
 			.isInstanceOf(TransactionResultFailedException.class);
 
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
-		then(transactionRepository).should(times(1)).findByTransactionId(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 	}
 
 	@Test
@@ -341,15 +377,13 @@ class TransactionServiceTest {
 		Transaction transaction = new Transaction(
 			15L, USE, SUCCESS, account, 1500L, 99999L, "transactionId", localDateTime);
 
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
-		given(transactionRepository.findByTransactionId(anyString())).willReturn(Optional.of(transaction));
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.of(transaction));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.cancelBalance("transactionId", accountNumber, 100L))
 			.isInstanceOf(TooOldOrderToCancelException.class);
 
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
-		then(transactionRepository).should(times(1)).findByTransactionId(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 	}
 
 	@Test
@@ -362,15 +396,13 @@ class TransactionServiceTest {
 		Account account = new Account(1L, user, accountNumber, AccountStatus.IN_USE, 1000L, now, now);
 		Transaction transaction = Transaction.createSuccessTransaction(account, 100L, USE);
 
-		given(accountRepository.findByAccountNumber(accountNumber)).willReturn(Optional.of(account));
-		given(transactionRepository.findByTransactionId(anyString())).willReturn(Optional.of(transaction));
+		given(transactionRepository.findWithAccountByTransactionId(anyString())).willReturn(Optional.of(transaction));
 
 		//expect
 		assertThatThrownBy(() -> transactionService.cancelBalance("transactionId", accountNumber, 101L))
 			.isInstanceOf(CancelMustFullyException.class);
 
-		then(accountRepository).should(times(1)).findByAccountNumber(anyString());
-		then(transactionRepository).should(times(1)).findByTransactionId(anyString());
+		then(transactionRepository).should(times(1)).findWithAccountByTransactionId(anyString());
 
 	}
 
@@ -436,8 +468,71 @@ class TransactionServiceTest {
 
 	}
 
+	@Test
+	@DisplayName("시점 잔액 조회 시 해당 시점 이전의 가장 최근 성공 거래의 잔액이 반환되어야한다.")
+	void findBalanceAt() {
+		//given
+		LocalDateTime at = LocalDateTime.now().minusDays(1);
+		Account account = new Account(1L, createAccountUser(1L, "kim"), "1000000001", AccountStatus.IN_USE, 1000L,
+			at.minusDays(30), null);
+		given(accountRepository.findByAccountNumber("1000000001")).willReturn(Optional.of(account));
+		given(transactionRepository
+			.findFirstByAccountAndTransactionResultAndTransactedAtLessThanEqualOrderByTransactedAtDescIdDesc(account,
+				SUCCESS, at))
+			.willReturn(Optional.of(Transaction.createSuccessTransaction(account, 300L, USE, 700L)));
+
+		//when
+		AccountBalanceResponse actual = transactionService.findBalanceAt("1000000001", at);
+
+		//then
+		assertThat(actual.getAccountNumber()).isEqualTo("1000000001");
+		assertThat(actual.getBalance()).isEqualTo(700L);
+		assertThat(actual.getAt()).isEqualTo(at);
+		then(transactionRepository).should(never())
+			.findFirstByAccountAndTransactionResultAndTransactedAtAfterOrderByTransactedAtAscIdAsc(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("시점 이전의 거래가 없으면 이후 첫 거래의 거래 전 잔액이 반환되어야한다.")
+	void findBalanceAt_beforeFirstTransaction() {
+		//given
+		LocalDateTime at = LocalDateTime.now().minusDays(1);
+		Account account = new Account(1L, createAccountUser(1L, "kim"), "1000000001", AccountStatus.IN_USE, 1000L,
+			at.minusDays(30), null);
+		given(accountRepository.findByAccountNumber("1000000001")).willReturn(Optional.of(account));
+		given(transactionRepository
+			.findFirstByAccountAndTransactionResultAndTransactedAtLessThanEqualOrderByTransactedAtDescIdDesc(account,
+				SUCCESS, at))
+			.willReturn(Optional.empty());
+		given(transactionRepository
+			.findFirstByAccountAndTransactionResultAndTransactedAtAfterOrderByTransactedAtAscIdAsc(account, SUCCESS,
+				at))
+			.willReturn(Optional.of(Transaction.createSuccessTransaction(account, 300L, CANCEL, 1000L)));
+
+		//when
+		AccountBalanceResponse actual = transactionService.findBalanceAt("1000000001", at);
+
+		//then
+		assertThat(actual.getBalance()).isEqualTo(700L);
+	}
+
+	@Test
+	@DisplayName("계좌 개설 이전 시점의 잔액을 조회하면 BalanceNotRecordedException 을 던져야한다.")
+	void findBalanceAt_beforeRegistered() {
+		//given
+		LocalDateTime at = LocalDateTime.now().minusDays(1);
+		Account account = new Account(1L, createAccountUser(1L, "kim"), "1000000001", AccountStatus.IN_USE, 1000L,
+			at.plusHours(1), null);
+		given(accountRepository.findByAccountNumber("1000000001")).willReturn(Optional.of(account));
+
+		//expect
+		assertThatThrownBy(() -> transactionService.findBalanceAt("1000000001", at))
+			.isInstanceOf(BalanceNotRecordedException.class)
+			.hasMessage("해당 시점에 개설되지 않은 계좌입니다.");
+	}
+
 	private AccountUser createAccountUser(long userId, String name) {
-		return new AccountUser(userId, name);
+		return new AccountUser(userId, name, 0);
 	}
 
 	private Account createAccount(
@@ -0,0 +1,45 @@
+package core.accountserver.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShardMapTest {
+
+	@Test
+	@DisplayName("생성된 계좌번호는 사용자의 버킷과 같은 버킷에 속해야한다.")
+	void generator_colocatesWithUser() {
+		//given
+		ShardMap shardMap = new ShardMap(4, 64);
+		Random random = new Random(3L);
+		ShardAwareAccountNumberGenerator generator = new ShardAwareAccountNumberGenerator(
+			userId -> String.format("%010d", random.nextInt(1_000_000_000)), shardMap);
+
+		for (long userId = 1; userId <= 100; userId++) {
+			//when
+			String accountNumber = generator.generator(userId);
+
+			//then
+			assertThat(shardMap.bucketOf(accountNumber)).isEqualTo(shardMap.bucketOfUser(userId));
+		}
+	}
+
+	@Test
+	@DisplayName("버킷은 모든 샤드에 고르게 배정되어야한다.")
+	void assignments() {
+		//given
+		ShardMap shardMap = new ShardMap(3, 12);
+
+		//when
+		Map<Integer, List<Integer>> assignments = shardMap.assignments();
+
+		//then
+		assertThat(assignments).hasSize(3);
+		assertThat(assignments.values()).allSatisfy(buckets -> assertThat(buckets).hasSize(4));
+	}
+}
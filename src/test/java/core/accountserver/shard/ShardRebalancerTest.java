@@ -0,0 +1,288 @@
+package core.accountserver.shard;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import core.accountserver.exception.shard.ShardFencedException;
+
+class ShardRebalancerTest {
+
+	private static final int USERS = 20;
+	private static final long LEASE = 30_000L;
+
+	ShardMap shardMap;
+	List<JdbcTemplate> shards;
+	List<DataSource> dataSources;
+	ShardRebalancer shardRebalancer;
+
+	@BeforeEach
+	void setUp() {
+		shardMap = new ShardMap(2, 16);
+		shards = List.of(database("shard0"), database("shard1"));
+		dataSources = List.of(shards.get(0).getDataSource(), shards.get(1).getDataSource());
+		shardRebalancer = new ShardRebalancer(shardMap, dataSources, LEASE);
+
+		Random random = new Random(7L);
+		ShardAwareAccountNumberGenerator generator = new ShardAwareAccountNumberGenerator(
+			userId -> String.format("%010d", random.nextInt(1_000_000_000)), shardMap);
+		JdbcTemplate origin = shards.get(0);
+		for (long userId = 1; userId <= USERS; userId++) {
+			String accountNumber = generator.generator(userId);
+			origin.update("insert into account_user(id, name) values (?, ?)", userId, "user" + userId);
+			origin.update("insert into account(id, account_user_id, account_number) values (?, ?, ?)",
+				100 + userId, userId, accountNumber);
+			origin.update("insert into transaction(id, account_id, amount) values (?, ?, ?)",
+				1000 + userId, 100 + userId, userId * 10);
+			origin.update("insert into balance_hold(id, account_id, amount) values (?, ?, ?)",
+				2000 + userId, 100 + userId, userId);
+			origin.update("insert into outbox_event(id, account_number) values (?, ?)",
+				3000 + userId, accountNumber);
+		}
+	}
+
+	@Test
+	@DisplayName("초기화하면 기본 샤드에 적재된 사용자, 계좌, 거래가 버킷을 소유한 샤드로 이동해야한다.")
+	void initialize() {
+		//when
+		shardRebalancer.initialize(false);
+
+		//then
+		for (int shard = 0; shard < shards.size(); shard++) {
+			for (Long userId : shards.get(shard).queryForList("select id from account_user", Long.class)) {
+				assertThat(shardMap.ownerOf(shardMap.bucketOfUser(userId))).isEqualTo(shard);
+			}
+			for (String accountNumber : shards.get(shard).queryForList("select account_number from account",
+				String.class)) {
+				assertThat(shardMap.shardOf(accountNumber)).isEqualTo(shard);
+			}
+		}
+		assertThat(count("account_user")).isEqualTo(USERS);
+		assertThat(count("account")).isEqualTo(USERS);
+		assertThat(count("transaction")).isEqualTo(USERS);
+		assertThat(count("balance_hold")).isEqualTo(USERS);
+		assertThat(count("outbox_event")).isEqualTo(USERS);
+	}
+
+	@Test
+	@DisplayName("재시작하면 이미 자리잡은 버킷은 다시 옮기지 않고 저장된 샤드맵을 복원해야한다.")
+	void initialize_restart() {
+		//given
+		shardRebalancer.initialize(false);
+		int bucket = shardMap.bucketOfUser(1L);
+		int target = 1 - shardMap.ownerOf(bucket);
+		shardRebalancer.moveBucket(bucket, target);
+		expireOwnership();
+		ShardMap restored = new ShardMap(2, 16);
+
+		//when
+		new ShardRebalancer(restored, dataSources, LEASE).initialize(false);
+
+		//then
+		assertThat(restored.ownerOf(bucket)).isEqualTo(target);
+		assertThat(count("account_user")).isEqualTo(USERS);
+		assertThat(exists(target, "select count(*) from account_user where id = 1")).isTrue();
+	}
+
+	@Test
+	@DisplayName("이동 중 원본 삭제 전에 중단됐다면 재시작시 원본 샤드의 남은 데이터만 삭제해야한다.")
+	void initialize_cleanUpLeftovers() {
+		//given
+		shardRebalancer.initialize(false);
+		int bucket = shardMap.bucketOfUser(1L);
+		int source = shardMap.ownerOf(bucket);
+		int target = 1 - source;
+		shardRebalancer.moveBucket(bucket, target);
+		shards.get(target).update("update account set balance = 500 where id = 101");
+		shards.get(source).update("insert into account_user(id, name) values (1, 'user1')");
+		String accountNumber = shards.get(target).queryForObject("select account_number from account where id = 101",
+			String.class);
+		shards.get(source).update("insert into account(id, account_user_id, account_number, balance) "
+			+ "values (101, 1, ?, 0)", accountNumber);
+		shards.get(0).update("update shard_bucket set cleanup = ? where bucket = ?", source, bucket);
+		expireOwnership();
+
+		//when
+		new ShardRebalancer(new ShardMap(2, 16), dataSources, LEASE).initialize(false);
+
+		//then
+		assertThat(exists(source, "select count(*) from account_user where id = 1")).isFalse();
+		assertThat(shards.get(target).queryForObject("select balance from account where id = 101", Long.class))
+			.isEqualTo(500L);
+		assertThat(shards.get(0).queryForObject("select cleanup from shard_bucket where bucket = ?", Integer.class,
+			bucket)).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("리더가 있어도 다른 노드는 기동되어 같은 샤드 맵을 적재하고 버킷 이동은 거부해야한다.")
+	void initialize_follower() {
+		//given
+		shardRebalancer.initialize(false);
+		ShardMap followerMap = new ShardMap(2, 16);
+		ShardRebalancer follower = new ShardRebalancer(followerMap, dataSources, LEASE);
+
+		//when
+		follower.initialize(false);
+
+		//then
+		assertThat(follower.isLeader()).isFalse();
+		assertThat(followerMap.isFenced()).isFalse();
+		assertThat(followerMap.assignments()).isEqualTo(shardMap.assignments());
+		assertThatThrownBy(() -> follower.moveBucket(0, 1 - followerMap.ownerOf(0)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("샤드 재배치 리더가 아니어서 버킷을 이동할 수 없습니다.");
+	}
+
+	@Test
+	@DisplayName("리더가 버킷을 이동하면 다른 노드는 하트비트에서 갱신된 샤드 맵을 적재해야한다.")
+	void heartbeat_follower() throws InterruptedException {
+		//given
+		shardRebalancer.initialize(false);
+		ShardMap followerMap = new ShardMap(2, 16);
+		ShardRebalancer follower = new ShardRebalancer(followerMap, dataSources, LEASE);
+		follower.initialize(false);
+		int bucket = shardMap.bucketOfUser(1L);
+		int target = 1 - shardMap.ownerOf(bucket);
+		Thread heartbeat = new Thread(() -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				follower.heartbeat();
+			}
+		});
+		heartbeat.start();
+
+		//when
+		shardRebalancer.moveBucket(bucket, target);
+		heartbeat.interrupt();
+		heartbeat.join();
+		follower.heartbeat();
+
+		//then
+		assertThat(followerMap.ownerOf(bucket)).isEqualTo(target);
+		assertThat(followerMap.isFrozen(bucket)).isFalse();
+	}
+
+	@Test
+	@DisplayName("리더 자격을 잃어도 버킷 요청은 계속 처리되고 버킷 이동만 거부되어야한다.")
+	void heartbeat_lostOwnership() {
+		//given
+		shardRebalancer.initialize(false);
+		shards.get(0).update("update shard_owner set node_id = 'other'");
+		ShardTemplate shardTemplate = new ShardTemplate(shardMap, new ShardContext(),
+			mock(PlatformTransactionManager.class));
+
+		//when
+		shardRebalancer.heartbeat();
+
+		//then
+		assertThat(shardRebalancer.isLeader()).isFalse();
+		assertThat(shardMap.isFenced()).isFalse();
+		assertThatThrownBy(() -> shardRebalancer.moveBucket(0, 1 - shardMap.ownerOf(0)))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(shardTemplate.inBucket(0, true, () -> 1)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("샤드 맵 임대가 만료되면 버킷 요청이 거부되어야한다.")
+	void initialize_leaseExpired() throws InterruptedException {
+		//given
+		ShardRebalancer expiring = new ShardRebalancer(shardMap, dataSources, 1L);
+		expiring.initialize(false);
+		ShardTemplate shardTemplate = new ShardTemplate(shardMap, new ShardContext(),
+			mock(PlatformTransactionManager.class));
+
+		//when
+		Thread.sleep(5L);
+
+		//then
+		assertThat(shardMap.isFenced()).isTrue();
+		assertThatThrownBy(() -> shardTemplate.inBucket(0, true, () -> 1))
+			.isInstanceOf(ShardFencedException.class);
+	}
+
+	@Test
+	@DisplayName("버킷을 이동하면 해당 버킷의 데이터가 대상 샤드로 옮겨지고 샤드맵이 저장되어야한다.")
+	void moveBucket() {
+		//given
+		shardRebalancer.initialize(false);
+		int bucket = shardMap.bucketOfUser(1L);
+		int source = shardMap.ownerOf(bucket);
+		int target = 1 - source;
+
+		//when
+		shardRebalancer.moveBucket(bucket, target);
+
+		//then
+		assertThat(shardMap.ownerOf(bucket)).isEqualTo(target);
+		assertThat(exists(target, "select count(*) from account_user where id = 1")).isTrue();
+		assertThat(exists(target, "select count(*) from account where account_user_id = 1")).isTrue();
+		assertThat(exists(target, "select count(*) from transaction where account_id = 101")).isTrue();
+		assertThat(exists(target, "select count(*) from balance_hold where account_id = 101")).isTrue();
+		assertThat(exists(target, "select count(*) from outbox_event where id = 3001")).isTrue();
+		assertThat(exists(source, "select count(*) from account_user where id = 1")).isFalse();
+		assertThat(exists(source, "select count(*) from outbox_event where id = 3001")).isFalse();
+		assertThat(shards.get(0).queryForObject("select shard from shard_bucket where bucket = ?", Integer.class,
+			bucket)).isEqualTo(target);
+		assertThat(count("transaction")).isEqualTo(USERS);
+	}
+
+	@Test
+	@DisplayName("소유권을 잃은 뒤에는 버킷을 이동할 수 없어야한다.")
+	void moveBucket_lostOwnership() {
+		//given
+		shardRebalancer.initialize(false);
+		shards.get(0).update("update shard_owner set node_id = 'other'");
+		int bucket = shardMap.bucketOfUser(1L);
+		int source = shardMap.ownerOf(bucket);
+
+		//expect
+		assertThatThrownBy(() -> shardRebalancer.moveBucket(bucket, 1 - source))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("샤드 재배치 리더가 아니어서 버킷을 이동할 수 없습니다.");
+		assertThat(shardMap.ownerOf(bucket)).isEqualTo(source);
+		assertThat(shardMap.isFenced()).isFalse();
+	}
+
+	private void expireOwnership() {
+		shards.get(0).update("update shard_owner set expires_at = ?", Timestamp.valueOf("2000-01-01 00:00:00"));
+	}
+
+	private boolean exists(int shard, String sql) {
+		return shards.get(shard).queryForObject(sql, Integer.class) > 0;
+	}
+
+	private int count(String table) {
+		int count = 0;
+		for (JdbcTemplate shard : shards) {
+			count += shard.queryForObject("select count(*) from " + table, Integer.class);
+		}
+		return count;
+	}
+
+	private static JdbcTemplate database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:rebalance-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("drop all objects");
+		jdbcTemplate.execute("create table account_user(id bigint primary key, name varchar(32))");
+		jdbcTemplate.execute("create table account(id bigint primary key, "
+			+ "account_user_id bigint references account_user(id), account_number varchar(10), balance bigint)");
+		jdbcTemplate.execute("create table transaction(id bigint primary key, "
+			+ "account_id bigint references account(id), amount bigint)");
+		jdbcTemplate.execute("create table balance_hold(id bigint primary key, "
+			+ "account_id bigint references account(id), amount bigint)");
+		jdbcTemplate.execute("create table outbox_event(id bigint primary key, account_number varchar(10))");
+		return jdbcTemplate;
+	}
+}
@@ -0,0 +1,78 @@
+package core.accountserver.stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import core.accountserver.exception.stream.StreamConnectionLimitException;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceStreamHubTest {
+
+	@Mock
+	ExecutorService sender;
+
+	@Test
+	@DisplayName("최대 연결 수를 넘어서 연결하면 StreamConnectionLimitException 이 발생해야한다.")
+	void connect_limit() {
+		//given
+		BalanceStreamHub hub = new BalanceStreamHub(1, 4, 1000L, 1000L, sender);
+		hub.connect(1L);
+
+		//expect
+		assertThatThrownBy(() -> hub.connect(2L))
+			.isInstanceOf(StreamConnectionLimitException.class);
+		assertThat(hub.connections()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("전송 대기열이 가득 찬 연결은 끊어지고 다른 사용자의 연결에는 영향이 없어야한다.")
+	void dispatch_lagging() {
+		//given
+		BalanceStreamHub hub = new BalanceStreamHub(10, 1, 1000L, 1000L, sender);
+		hub.connect(1L);
+		hub.connect(2L);
+
+		//when
+		hub.dispatch(event(1L, "t1"));
+		hub.dispatch(event(1L, "t2"));
+
+		//then
+		assertThat(hub.connections()).isEqualTo(1);
+		then(sender).should(times(1)).execute(any(Runnable.class));
+		hub.dispatch(event(2L, "t3"));
+		then(sender).should(times(2)).execute(any(Runnable.class));
+	}
+
+	@Test
+	@DisplayName("하트비트는 요청 스레드가 아닌 전송 스레드에서 보내져야한다.")
+	void heartbeat() {
+		//given
+		BalanceStreamHub hub = new BalanceStreamHub(10, 4, 1000L, 1000L, sender);
+		hub.connect(1L);
+
+		//when
+		hub.heartbeat();
+
+		//then
+		assertThat(hub.connections()).isEqualTo(1);
+		then(sender).should(times(1)).execute(any(Runnable.class));
+	}
+
+	private static BalanceChangeEvent event(Long userId, String transactionId) {
+		return BalanceChangeEvent.builder()
+			.userId(userId)
+			.accountNumber("1000000001")
+			.transactionId(transactionId)
+			.amount(100L)
+			.balance(900L)
+			.build();
+	}
+}
@@ -0,0 +1,59 @@
+package core.accountserver.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseConnectionTest {
+
+	private final ExecutorService sender = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		sender.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("전송이 쓰기 제한 시간을 넘겨 멈춘 연결을 닫으면 전송 스레드가 풀려나야한다.")
+	void close_stuckSend() throws Exception {
+		//given
+		CountDownLatch sending = new CountDownLatch(1);
+		SseEmitter emitter = new SseEmitter(1000L) {
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				sending.countDown();
+				try {
+					Thread.sleep(60_000L);
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+			}
+		};
+		SseConnection connection = new SseConnection(1L, emitter, 4, sender);
+		connection.heartbeat();
+		assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(20L);
+
+		//when
+		boolean stuck = connection.isStuck(TimeUnit.MILLISECONDS.toNanos(10L));
+		connection.close();
+
+		//then
+		assertThat(stuck).isTrue();
+		Future<?> next = sender.submit(() -> {
+		});
+		next.get(1, TimeUnit.SECONDS);
+		assertThat(connection.isStuck(0L)).isFalse();
+		assertThat(connection.isClosed()).isTrue();
+	}
+}
@@ -0,0 +1,50 @@
+package core.accountserver.trace;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlowRequestRecorderTest {
+
+	@Test
+	@DisplayName("가장 느린 요청 N 개만 느린 순서대로 보관해야한다.")
+	void slowest() {
+		//given
+		SlowRequestRecorder recorder = new SlowRequestRecorder(2);
+
+		//when
+		for (long totalMillis : new long[] {30, 10, 50, 20, 40}) {
+			RequestTrace trace = RequestTrace.begin();
+			trace.end();
+			recorder.offer("POST", "/transaction/use", 200, totalMillis * 1_000_000, trace);
+		}
+
+		//then
+		assertThat(recorder.slowest())
+			.extracting(SlowRequest::getTotalMicros)
+			.containsExactly(50_000L, 40_000L);
+	}
+
+	@Test
+	@DisplayName("요청 중에 기록된 구간이 느린 요청의 구간 목록에 포함되어야한다.")
+	void spans() {
+		//given
+		SlowRequestRecorder recorder = new SlowRequestRecorder(1);
+		RequestTrace trace = RequestTrace.begin();
+
+		//when
+		RequestTrace.span("account.lock.acquire", 2_000_000);
+		RequestTrace.span("account.repository", "findWithAccountUserByAccountNumber", 1_000_000);
+		recorder.offer("POST", "/transaction/use", 200, trace.end(), trace);
+		RequestTrace.span("account.commit", 1_000_000);
+
+		//then
+		assertThat(recorder.slowest()).singleElement().satisfies(request -> {
+			assertThat(request.getSpans()).extracting(TraceSpan::getName)
+				.containsExactly("account.lock.acquire", "account.repository");
+			assertThat(request.getSpans().get(1).getDetail()).isEqualTo("findWithAccountUserByAccountNumber");
+			assertThat(request.getSpans().get(0).getDurationMicros()).isEqualTo(2_000L);
+		});
+	}
+}